@@ -0,0 +1,115 @@
+package prac.lease.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import prac.lease.dto.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Lets clients send Accept: application/cbor or application/x-jackson-smile to
+ * get the usual ApiResponse envelope in a binary encoding. Both converters are
+ * built from Boot's Jackson2ObjectMapperBuilder, so dates, modules and
+ * inclusion rules match the JSON output field for field; only the wire format
+ * differs. JSON stays the default when no Accept header is sent.
+ * <p>
+ * Because one URL now has three encodings, every ApiResponse endpoint answers
+ * with Vary: Accept, and conditional GETs tag each encoding separately (see
+ * {@link #negotiatedFormat}) so a cache never serves CBOR to a JSON client.
+ */
+@Configuration
+public class BinaryContentNegotiationConfig implements WebMvcConfigurer {
+
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(cborMapper(builder));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper(builder));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                // Set before the handler runs, so 304s carry it too
+                if (handler instanceof HandlerMethod method && isNegotiated(method)) {
+                    response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+                }
+                return true;
+            }
+        });
+    }
+
+    /**
+     * The encoding an Accept header selects among the ApiResponse converters:
+     * "cbor", "smile", or null for JSON, which also wins wildcards and anything
+     * unparseable. Used to keep the ETags of the three encodings apart.
+     */
+    public static String negotiatedFormat(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> accepted;
+        try {
+            accepted = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        MimeTypeUtils.sortBySpecificity(accepted);
+        for (MediaType mediaType : accepted) {
+            if (mediaType.isWildcardType() || mediaType.isWildcardSubtype()
+                    || mediaType.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (mediaType.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return "cbor";
+            }
+            if (mediaType.isCompatibleWith(SMILE)) {
+                return "smile";
+            }
+        }
+        return null;
+    }
+
+    // Only ApiResponse bodies go through the negotiated converters; files and streams have one encoding
+    static boolean isNegotiated(HandlerMethod method) {
+        ResolvableType returnType = ResolvableType.forMethodReturnType(method.getMethod());
+        if (ResponseEntity.class.equals(returnType.resolve())) {
+            returnType = returnType.getGeneric(0);
+        }
+        return ApiResponse.class.equals(returnType.resolve());
+    }
+
+    static ObjectMapper cborMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new CBORFactory()).build();
+    }
+
+    static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        return builder.factory(new SmileFactory()).build();
+    }
+}
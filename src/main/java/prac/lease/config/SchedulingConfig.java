@@ -0,0 +1,13 @@
+package prac.lease.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled jobs such as the nightly auto-renewal run and the
+ * lease counter reconciliation.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,96 @@
+package prac.lease.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.service.DocumentLayoutMigrationService;
+import prac.lease.service.DocumentReclamationService;
+import prac.lease.service.LeaseExpirySweepService;
+import prac.lease.service.LeaseRenewalBatchService;
+
+import java.util.List;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/api/batch-jobs")
+public class BatchJobController {
+
+    private final LeaseRenewalBatchService leaseRenewalBatchService;
+    private final LeaseExpirySweepService leaseExpirySweepService;
+    private final DocumentLayoutMigrationService documentLayoutMigrationService;
+    private final DocumentReclamationService documentReclamationService;
+
+    public BatchJobController(LeaseRenewalBatchService leaseRenewalBatchService,
+                              LeaseExpirySweepService leaseExpirySweepService,
+                              DocumentLayoutMigrationService documentLayoutMigrationService,
+                              DocumentReclamationService documentReclamationService) {
+        this.leaseRenewalBatchService = leaseRenewalBatchService;
+        this.leaseExpirySweepService = leaseExpirySweepService;
+        this.documentLayoutMigrationService = documentLayoutMigrationService;
+        this.documentReclamationService = documentReclamationService;
+    }
+
+    // ========== AUTO RENEWAL ==========
+
+    @PostMapping("/auto-renewal/run")
+    public ResponseEntity<ApiResponse<BatchJobRunResponseDto>> runAutoRenewals() {
+        ApiResponse<BatchJobRunResponseDto> apiResponse = leaseRenewalBatchService.runAutoRenewals();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.CONFLICT);
+    }
+
+    @GetMapping("/auto-renewal/runs")
+    public ResponseEntity<ApiResponse<List<BatchJobRunResponseDto>>> getAutoRenewalRuns() {
+        ApiResponse<List<BatchJobRunResponseDto>> apiResponse = leaseRenewalBatchService.getRecentRuns();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    // ========== EXPIRY SWEEP ==========
+
+    @PostMapping("/expiry-sweep/run")
+    public ResponseEntity<ApiResponse<BatchJobRunResponseDto>> runExpirySweep() {
+        ApiResponse<BatchJobRunResponseDto> apiResponse = leaseExpirySweepService.runSweep();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.CONFLICT);
+    }
+
+    @GetMapping("/expiry-sweep/last")
+    public ResponseEntity<ApiResponse<BatchJobRunResponseDto>> getLastExpirySweep() {
+        ApiResponse<BatchJobRunResponseDto> apiResponse = leaseExpirySweepService.getLastRun();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @GetMapping("/expiry-sweep/runs")
+    public ResponseEntity<ApiResponse<List<BatchJobRunResponseDto>>> getExpirySweepRuns() {
+        ApiResponse<List<BatchJobRunResponseDto>> apiResponse = leaseExpirySweepService.getRecentRuns();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    // ========== DOCUMENT LAYOUT MIGRATION ==========
+
+    @PostMapping("/document-layout/run")
+    public ResponseEntity<ApiResponse<BatchJobRunResponseDto>> runDocumentLayoutMigration() {
+        ApiResponse<BatchJobRunResponseDto> apiResponse = documentLayoutMigrationService.runMigration();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.CONFLICT);
+    }
+
+    @GetMapping("/document-layout/runs")
+    public ResponseEntity<ApiResponse<List<BatchJobRunResponseDto>>> getDocumentLayoutMigrationRuns() {
+        ApiResponse<List<BatchJobRunResponseDto>> apiResponse = documentLayoutMigrationService.getRecentRuns();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    // ========== DOCUMENT ORPHAN COLLECTION ==========
+
+    @PostMapping("/document-orphans/run")
+    public ResponseEntity<ApiResponse<BatchJobRunResponseDto>> runDocumentOrphanCollection() {
+        ApiResponse<BatchJobRunResponseDto> apiResponse = documentReclamationService.collectOrphans();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.CONFLICT);
+    }
+
+    @GetMapping("/document-orphans/runs")
+    public ResponseEntity<ApiResponse<List<BatchJobRunResponseDto>>> getDocumentOrphanCollectionRuns() {
+        ApiResponse<List<BatchJobRunResponseDto>> apiResponse = documentReclamationService.getRecentOrphanRuns();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+}
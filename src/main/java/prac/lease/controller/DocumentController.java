@@ -1,6 +1,13 @@
 package prac.lease.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileItemInput;
+import org.apache.commons.fileupload2.core.FileItemInputIterator;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
 import org.springframework.core.io.ByteArrayResource;
 import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
@@ -8,14 +15,20 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prac.lease.config.BinaryContentNegotiationConfig;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.DocumentRequestDto;
 import prac.lease.dto.DocumentResponseDto;
+import prac.lease.dto.ResourceVersion;
 import prac.lease.exception.ResourceNotFoundException;
 import prac.lease.service.DocumentService;
+import prac.lease.service.ResourceVersionService;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -24,10 +37,22 @@ import java.util.Map;
 @RequestMapping("/api/documents")
 public class DocumentController {
 
+    // Request attributes understood by Tomcat's NIO connector for zero-copy file transfer
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // One 10MB document plus its form fields
+    private static final long MAX_STREAMED_UPLOAD_SIZE = 10 * 1024 * 1024 + 64 * 1024;
+    private static final long MAX_STREAMED_UPLOAD_PARTS = 16;
+
     private final DocumentService documentService;
+    private final ResourceVersionService resourceVersionService;
 
-    public DocumentController(DocumentService documentService) {
+    public DocumentController(DocumentService documentService, ResourceVersionService resourceVersionService) {
         this.documentService = documentService;
+        this.resourceVersionService = resourceVersionService;
     }
 
     // ========== BASIC CRUD OPERATIONS ==========
@@ -40,18 +65,68 @@ public class DocumentController {
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
     }
 
+    // Reads the multipart body as it arrives rather than letting the resolver spool it to disk first.
+    // Form fields must come before the "file" part, which is validated, hashed and stored in a single pass
+    @PostMapping(value = "/upload/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ApiResponse<DocumentResponseDto>> uploadDocumentStream(HttpServletRequest request) {
+        JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory> upload = new JakartaServletFileUpload<>();
+        upload.setSizeMax(MAX_STREAMED_UPLOAD_SIZE);
+        upload.setFileCountMax(MAX_STREAMED_UPLOAD_PARTS);
+        DocumentRequestDto documentRequestDto = new DocumentRequestDto();
+        try {
+            FileItemInputIterator parts = upload.getItemIterator(request);
+            while (parts.hasNext()) {
+                FileItemInput part = parts.next();
+                if (part.isFormField()) {
+                    bindUploadField(documentRequestDto, part.getFieldName(), new String(part.getInputStream().readAllBytes(), StandardCharsets.UTF_8));
+                } else if ("file".equals(part.getFieldName())) {
+                    // Not closed here: closing would drain the rest of a rejected body instead of abandoning it
+                    ApiResponse<DocumentResponseDto> apiResponse =
+                            documentService.uploadDocument(part.getName(), part.getInputStream(), documentRequestDto);
+                    return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
+                }
+            }
+            return new ResponseEntity<>(new ApiResponse<>(false, "No file part in upload.", null), HttpStatus.BAD_REQUEST);
+        } catch (FileUploadSizeException e) {
+            return new ResponseEntity<>(new ApiResponse<>(false, "File size must be less than 10MB.", null), HttpStatus.PAYLOAD_TOO_LARGE);
+        } catch (IOException | IllegalArgumentException e) {
+            return new ResponseEntity<>(new ApiResponse<>(false, "Malformed upload.", null), HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    // The "already uploaded" path: 404 when no stored file has the hash, so the client falls back to /upload
+    @PostMapping("/upload/by-hash")
+    public ResponseEntity<ApiResponse<DocumentResponseDto>> attachStoredDocument(
+            @RequestBody DocumentRequestDto documentRequestDto) {
+        ApiResponse<DocumentResponseDto> apiResponse = documentService.attachStoredDocument(documentRequestDto);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.CREATED : HttpStatus.NOT_FOUND);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<DocumentResponseDto>> getDocumentById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<DocumentResponseDto>> getDocumentById(@PathVariable Long id, WebRequest request) {
+        if (notModified(request, resourceVersionService.getDocumentVersion(id))) {
+            return null;
+        }
         ApiResponse<DocumentResponseDto> apiResponse = documentService.getDocumentById(id);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getAllDocuments() {
+    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getAllDocuments(WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<DocumentResponseDto>> apiResponse = documentService.getAllDocuments();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllDocuments() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(documentService.streamAllDocuments());
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<DocumentResponseDto>> updateDocument(
             @PathVariable Long id,
@@ -69,7 +144,10 @@ public class DocumentController {
     // ========== FILTERING OPERATIONS ==========
 
     @GetMapping("/lease/{leaseId}")
-    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getDocumentsByLeaseId(@PathVariable Long leaseId) {
+    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getDocumentsByLeaseId(@PathVariable Long leaseId, WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<DocumentResponseDto>> apiResponse = documentService.getDocumentsByLeaseId(leaseId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
@@ -87,13 +165,19 @@ public class DocumentController {
     }
 
     @GetMapping("/landlord/{landlordId}")
-    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getDocumentsByLandlordId(@PathVariable Long landlordId) {
+    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getDocumentsByLandlordId(@PathVariable Long landlordId, WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<DocumentResponseDto>> apiResponse = documentService.getDocumentsByLandlordId(landlordId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
     @GetMapping("/site/{siteId}")
-    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getDocumentsBySiteId(@PathVariable Long siteId) {
+    public ResponseEntity<ApiResponse<List<DocumentResponseDto>>> getDocumentsBySiteId(@PathVariable Long siteId, WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<DocumentResponseDto>> apiResponse = documentService.getDocumentsBySiteId(siteId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
@@ -130,17 +214,33 @@ public class DocumentController {
 
     // ========== FILE OPERATIONS ==========
 
+    // GET without a Range header is handed to the connector's sendfile when it offers it; everything else,
+    // including Range / 206 partial content for in-browser PDF viewers, is streamed from disk by the Resource converters
     @GetMapping("/{id}/file")
-    public ResponseEntity<byte[]> getDocumentFileById(@PathVariable Long id) {
+    public ResponseEntity<Resource> getDocumentFileById(@PathVariable Long id, HttpServletRequest request,
+                                                        WebRequest webRequest) {
         try {
-            byte[] fileData = documentService.getFileById(id);
+            Resource file = documentService.getFileById(id);
+            // Answered before any sendfile attribute is set, so a 304 never has the file streamed after it
+            if (webRequest.checkNotModified(file.lastModified())) {
+                return null;
+            }
 
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_PDF);
-            headers.setContentLength(fileData.length);
             headers.setContentDispositionFormData("attachment", "document-" + id + ".pdf");
-
-            return new ResponseEntity<>(fileData, headers, HttpStatus.OK);
+            headers.setLastModified(file.lastModified());
+
+            if (canSendFile(request)) {
+                long length = file.contentLength();
+                request.setAttribute(SENDFILE_FILENAME, file.getFile().getAbsolutePath());
+                request.setAttribute(SENDFILE_START, 0L);
+                request.setAttribute(SENDFILE_END, length);
+                headers.setContentLength(length);
+                headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+                return new ResponseEntity<>(headers, HttpStatus.OK);
+            }
+            return new ResponseEntity<>(file, headers, HttpStatus.OK);
         } catch (ResourceNotFoundException e) {
             return new ResponseEntity<>(HttpStatus.NOT_FOUND);
         } catch (IOException e) {
@@ -154,6 +254,32 @@ public class DocumentController {
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
+    // One archive per scope, written entry by entry from disk while the response is sent
+    @GetMapping(value = "/export.zip", params = "leaseId")
+    public ResponseEntity<StreamingResponseBody> exportLeaseDocuments(@RequestParam Long leaseId) {
+        return zipResponse(documentService.exportLeaseDocuments(leaseId), "lease-" + leaseId + "-documents.zip");
+    }
+
+    @GetMapping(value = "/export.zip", params = "landlordId")
+    public ResponseEntity<StreamingResponseBody> exportLandlordDocuments(@RequestParam Long landlordId) {
+        return zipResponse(documentService.exportLandlordDocuments(landlordId), "landlord-" + landlordId + "-documents.zip");
+    }
+
+    @GetMapping(value = "/export.zip", params = "siteId")
+    public ResponseEntity<StreamingResponseBody> exportSiteDocuments(@RequestParam Long siteId) {
+        return zipResponse(documentService.exportSiteDocuments(siteId), "site-" + siteId + "-documents.zip");
+    }
+
+    private static ResponseEntity<StreamingResponseBody> zipResponse(ApiResponse<StreamingResponseBody> apiResponse, String fileName) {
+        if (!apiResponse.success()) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        }
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/zip"));
+        headers.setContentDispositionFormData("attachment", fileName);
+        return new ResponseEntity<>(apiResponse.body(), headers, HttpStatus.OK);
+    }
+
     // ========== VALIDATION OPERATIONS ==========
 
     @GetMapping("/validate-upload/{leaseId}")
@@ -165,7 +291,10 @@ public class DocumentController {
     // ========== STATISTICS OPERATIONS ==========
 
     @GetMapping("/statistics")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getDocumentStatistics() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getDocumentStatistics(WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<Map<String, Object>> apiResponse = documentService.getDocumentStatistics();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -177,7 +306,10 @@ public class DocumentController {
     }
 
     @GetMapping("/count/lease/{leaseId}")
-    public ResponseEntity<ApiResponse<Long>> getDocumentCountByLeaseId(@PathVariable Long leaseId) {
+    public ResponseEntity<ApiResponse<Long>> getDocumentCountByLeaseId(@PathVariable Long leaseId, WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<Long> apiResponse = documentService.getDocumentCountByLeaseId(leaseId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
@@ -223,4 +355,40 @@ public class DocumentController {
         ApiResponse<List<String>> apiResponse = documentService.getAllCategories();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
-}
\ No newline at end of file
+
+    // ========== CONDITIONAL GET ==========
+
+    // Sets ETag/Last-Modified for the negotiated encoding and answers 304 before the main query runs when the client's copy is current
+    private boolean notModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+            return false;
+        }
+        ResourceVersion representation = version.representedAs(
+                BinaryContentNegotiationConfig.negotiatedFormat(request.getHeader(HttpHeaders.ACCEPT)));
+        return request.checkNotModified(representation.eTag(), representation.lastModified());
+    }
+
+    // Sendfile only covers unconditional whole-file GETs; ranged, conditional and HEAD requests go through the
+    // Resource converters, which can still turn them into a 206, 304 or 412 without a body
+    private boolean canSendFile(HttpServletRequest request) {
+        return Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))
+                && "GET".equals(request.getMethod())
+                && request.getHeader(HttpHeaders.RANGE) == null
+                && request.getHeader(HttpHeaders.IF_MODIFIED_SINCE) == null
+                && request.getHeader(HttpHeaders.IF_NONE_MATCH) == null
+                && request.getHeader(HttpHeaders.IF_UNMODIFIED_SINCE) == null
+                && request.getHeader(HttpHeaders.IF_MATCH) == null;
+    }
+
+    private static void bindUploadField(DocumentRequestDto documentRequestDto, String name, String value) {
+        switch (name) {
+            case "documentType" -> documentRequestDto.setDocumentType(value);
+            case "category" -> documentRequestDto.setCategory(value);
+            case "description" -> documentRequestDto.setDescription(value);
+            case "leaseId" -> documentRequestDto.setLeaseId(Long.valueOf(value.trim()));
+            case "landlordId" -> documentRequestDto.setLandlordId(Long.valueOf(value.trim()));
+            default -> {
+            }
+        }
+    }
+}
@@ -9,14 +9,28 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prac.lease.config.BinaryContentNegotiationConfig;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.DocumentRequestDto;
+import prac.lease.dto.LeaseImportResultDto;
 import prac.lease.dto.LeaseRequestDto;
 import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.LeaseStatisticsDto;
+import prac.lease.dto.LeaseTransitionOutcome;
+import prac.lease.dto.LeaseTransitionRequest;
+import prac.lease.dto.PageResponse;
+import prac.lease.dto.RentalAggregateDto;
+import prac.lease.dto.ResourceVersion;
+import prac.lease.dto.SliceResponse;
+import prac.lease.service.LeaseImportService;
 import prac.lease.service.LeaseService;
+import prac.lease.service.ResourceVersionService;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -27,9 +41,14 @@ import java.util.Map;
 public class LeaseController {
 
     private final LeaseService leaseService;
+    private final ResourceVersionService resourceVersionService;
+    private final LeaseImportService leaseImportService;
 
-    public LeaseController(LeaseService leaseService) {
+    public LeaseController(LeaseService leaseService, ResourceVersionService resourceVersionService,
+                           LeaseImportService leaseImportService) {
         this.leaseService = leaseService;
+        this.resourceVersionService = resourceVersionService;
+        this.leaseImportService = leaseImportService;
     }
 
     // ========== BASIC CRUD OPERATIONS ==========
@@ -41,17 +60,41 @@ public class LeaseController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<ApiResponse<LeaseResponseDto>> getLeaseById(@PathVariable Long id) {
+    public ResponseEntity<ApiResponse<LeaseResponseDto>> getLeaseById(@PathVariable Long id, WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getLeaseVersion(id))) {
+            return null;
+        }
         ApiResponse<LeaseResponseDto> apiResponse = leaseService.getLeaseById(id);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
     @GetMapping
-    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getAllLeases() {
+    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getAllLeases(WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.getAllLeases();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamLeases(@RequestParam(required = false) String status) {
+        ApiResponse<StreamingResponseBody> apiResponse = leaseService.streamLeases(status);
+        return ResponseEntity.status(apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST)
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(apiResponse.body());
+    }
+
+    @GetMapping("/slice")
+    public ResponseEntity<ApiResponse<SliceResponse<LeaseResponseDto>>> getLeaseSlice(
+            @RequestParam(required = false) String status,
+            @RequestParam(defaultValue = "id") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
+        ApiResponse<SliceResponse<LeaseResponseDto>> apiResponse = leaseService.getLeaseSlice(status, sort, cursor, size);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<LeaseResponseDto>> updateLease(@PathVariable Long id, @RequestBody LeaseRequestDto updateRequest) {
         ApiResponse<LeaseResponseDto> apiResponse = leaseService.updateLease(id, updateRequest);
@@ -78,6 +121,18 @@ public class LeaseController {
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
 
+    @PostMapping("/approve")
+    public ResponseEntity<ApiResponse<List<LeaseTransitionOutcome>>> approveLeases(@RequestBody LeaseTransitionRequest request) {
+        ApiResponse<List<LeaseTransitionOutcome>> apiResponse = leaseService.approveLeases(request.ids());
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
+    @PostMapping("/reject")
+    public ResponseEntity<ApiResponse<List<LeaseTransitionOutcome>>> rejectLeases(@RequestBody LeaseTransitionRequest request) {
+        ApiResponse<List<LeaseTransitionOutcome>> apiResponse = leaseService.rejectLeases(request.ids(), request.reason());
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
     @GetMapping("/pending-approval")
     public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getPendingApprovalLeases() {
         ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.getPendingApprovalLeases();
@@ -99,13 +154,19 @@ public class LeaseController {
     }
 
     @GetMapping("/landlord/{landlordId}")
-    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesByLandlordId(@PathVariable Long landlordId) {
+    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesByLandlordId(@PathVariable Long landlordId, WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.getLeasesByLandlordId(landlordId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
     @GetMapping("/site/{siteId}")
-    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesBySiteId(@PathVariable Long siteId) {
+    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesBySiteId(@PathVariable Long siteId, WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.getLeasesBySiteId(siteId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
@@ -140,7 +201,10 @@ public class LeaseController {
     // ========== STATUS FILTERING ==========
 
     @GetMapping("/status/{status}")
-    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesByStatus(@PathVariable String status) {
+    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesByStatus(@PathVariable String status, WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.getLeasesByStatus(status);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
@@ -184,7 +248,10 @@ public class LeaseController {
     // ========== STATISTICS AND REPORTING ==========
 
     @GetMapping("/statistics")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getLeaseStatistics() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLeaseStatistics(WebRequest request) {
+        if (notModifiedToday(request)) {
+            return null;
+        }
         ApiResponse<Map<String, Object>> apiResponse = leaseService.getLeaseStatistics();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
@@ -196,27 +263,82 @@ public class LeaseController {
     }
 
     @GetMapping("/statistics/expiry")
-    public ResponseEntity<ApiResponse<Map<String, Object>>> getExpiryStatistics() {
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getExpiryStatistics(WebRequest request) {
+        if (notModifiedToday(request)) {
+            return null;
+        }
         ApiResponse<Map<String, Object>> apiResponse = leaseService.getExpiryStatistics();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    @GetMapping("/rental/range")
+    public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getLeasesByMonthlyRentalRange(
+            @RequestParam BigDecimal min,
+            @RequestParam BigDecimal max,
+            @RequestParam(required = false) String currency) {
+        ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.getLeasesByMonthlyRentalRange(min, max, currency);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
+    @GetMapping("/rental/aggregates")
+    public ResponseEntity<ApiResponse<List<RentalAggregateDto>>> getRentalAggregates(
+            @RequestParam(required = false) String status) {
+        ApiResponse<List<RentalAggregateDto>> apiResponse = leaseService.getRentalAggregates(status);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
+    @GetMapping("/statistics/summary")
+    public ResponseEntity<ApiResponse<LeaseStatisticsDto>> getStatisticsSummary(WebRequest request) {
+        if (notModifiedToday(request)) {
+            return null;
+        }
+        ApiResponse<LeaseStatisticsDto> apiResponse = leaseService.getStatisticsSummary();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @GetMapping("/statistics/summary/landlord/{landlordId}")
+    public ResponseEntity<ApiResponse<LeaseStatisticsDto>> getLandlordStatisticsSummary(@PathVariable Long landlordId) {
+        ApiResponse<LeaseStatisticsDto> apiResponse = leaseService.getLandlordStatisticsSummary(landlordId);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
+    }
+
+    @GetMapping("/statistics/summary/site/{siteId}")
+    public ResponseEntity<ApiResponse<LeaseStatisticsDto>> getSiteStatisticsSummary(@PathVariable Long siteId) {
+        ApiResponse<LeaseStatisticsDto> apiResponse = leaseService.getSiteStatisticsSummary(siteId);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
+    }
+
+    @GetMapping("/statistics/summary/category/{category}")
+    public ResponseEntity<ApiResponse<LeaseStatisticsDto>> getCategoryStatisticsSummary(@PathVariable String category) {
+        ApiResponse<LeaseStatisticsDto> apiResponse = leaseService.getCategoryStatisticsSummary(category);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
     // ========== COUNT OPERATIONS ==========
 
     @GetMapping("/count/total")
-    public ResponseEntity<ApiResponse<Long>> getTotalLeaseCount() {
+    public ResponseEntity<ApiResponse<Long>> getTotalLeaseCount(WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<Long> apiResponse = leaseService.getTotalLeaseCount();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
     @GetMapping("/count/status/{status}")
-    public ResponseEntity<ApiResponse<Long>> getLeaseCountByStatus(@PathVariable String status) {
+    public ResponseEntity<ApiResponse<Long>> getLeaseCountByStatus(@PathVariable String status, WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<Long> apiResponse = leaseService.getLeaseCountByStatus(status);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
 
     @GetMapping("/count/operational-status/{operationalStatus}")
-    public ResponseEntity<ApiResponse<Long>> getLeaseCountByOperationalStatus(@PathVariable String operationalStatus) {
+    public ResponseEntity<ApiResponse<Long>> getLeaseCountByOperationalStatus(@PathVariable String operationalStatus, WebRequest request) {
+        if (notModified(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
         ApiResponse<Long> apiResponse = leaseService.getLeaseCountByOperationalStatus(operationalStatus);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
@@ -229,15 +351,100 @@ public class LeaseController {
             @RequestParam(required = false) String status,
             @RequestParam(required = false) String operationalStatus,
             @RequestParam(required = false) Long landlordId,
-            @RequestParam(required = false) Long siteId) {
+            @RequestParam(required = false) Long siteId,
+            WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
 
         ApiResponse<List<LeaseResponseDto>> apiResponse = leaseService.searchLeases(
                 agreementNumber, status, operationalStatus, landlordId, siteId);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
 
+    @GetMapping("/search/page")
+    public ResponseEntity<ApiResponse<PageResponse<LeaseResponseDto>>> searchLeasePage(
+            @RequestParam(required = false) String agreementNumber,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String operationalStatus,
+            @RequestParam(required = false) Long landlordId,
+            @RequestParam(required = false) Long siteId,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sort,
+            WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getRegisterWatermark())) {
+            return null;
+        }
+
+        ApiResponse<PageResponse<LeaseResponseDto>> apiResponse = leaseService.searchLeasePage(
+                agreementNumber, status, operationalStatus, landlordId, siteId, page, size, sort);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
+    // ========== SPARSE FIELDSETS ==========
+    // Same paths as above when a fields= parameter is present, e.g. ?fields=id,agreementNumber,status,expiryDate
+
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> getLeaseFieldsById(@PathVariable Long id, @RequestParam String fields, WebRequest request) {
+        if (notModifiedToday(request, resourceVersionService.getLeaseVersion(id))) {
+            return null;
+        }
+        ApiResponse<Map<String, Object>> apiResponse = leaseService.getLeaseFieldsById(id, fields);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK
+                : apiResponse.message().startsWith("Lease not found") ? HttpStatus.NOT_FOUND : HttpStatus.BAD_REQUEST);
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getAllLeaseFields(@RequestParam String fields) {
+        return leaseFields(null, null, null, null, null, fields);
+    }
+
+    @GetMapping(value = "/status/{status}", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getLeaseFieldsByStatus(
+            @PathVariable String status, @RequestParam String fields) {
+        return leaseFields(null, status, null, null, null, fields);
+    }
+
+    @GetMapping(value = "/landlord/{landlordId}", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getLeaseFieldsByLandlordId(
+            @PathVariable Long landlordId, @RequestParam String fields) {
+        return leaseFields(null, null, null, landlordId, null, fields);
+    }
+
+    @GetMapping(value = "/site/{siteId}", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> getLeaseFieldsBySiteId(
+            @PathVariable Long siteId, @RequestParam String fields) {
+        return leaseFields(null, null, null, null, siteId, fields);
+    }
+
+    @GetMapping(value = "/search", params = "fields")
+    public ResponseEntity<ApiResponse<List<Map<String, Object>>>> searchLeaseFields(
+            @RequestParam(required = false) String agreementNumber,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String operationalStatus,
+            @RequestParam(required = false) Long landlordId,
+            @RequestParam(required = false) Long siteId,
+            @RequestParam String fields) {
+        return leaseFields(agreementNumber, status, operationalStatus, landlordId, siteId, fields);
+    }
+
+    private ResponseEntity<ApiResponse<List<Map<String, Object>>>> leaseFields(String agreementNumber, String status, String operationalStatus,
+                                                                               Long landlordId, Long siteId, String fields) {
+        ApiResponse<List<Map<String, Object>>> apiResponse = leaseService.searchLeaseFields(
+                agreementNumber, status, operationalStatus, landlordId, siteId, fields);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
     // ========== FILE OPERATIONS ==========
 
+    // CSV with a header row or NDJSON; landlords and sites are matched by landlordName and siteName
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<LeaseImportResultDto>> importLeases(@RequestParam("file") MultipartFile file) {
+        ApiResponse<LeaseImportResultDto> apiResponse = leaseImportService.importLeases(file);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
     @PostMapping("/upload-with-file")
     public ResponseEntity<ApiResponse<LeaseResponseDto>> uploadLeaseWithFile(
             @RequestParam("file") MultipartFile file,
@@ -287,4 +494,25 @@ public class LeaseController {
         ApiResponse<LeaseResponseDto> apiResponse = leaseService.addDocumentsToLease(id, files, documentRequests);
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    // ========== CONDITIONAL GET ==========
+    // Sets ETag/Last-Modified for the negotiated encoding and answers 304 before the main query runs when the client's copy is current
+
+    private boolean notModified(WebRequest request, ResourceVersion version) {
+        if (version == null) {
+            return false;
+        }
+        ResourceVersion representation = version.representedAs(
+                BinaryContentNegotiationConfig.negotiatedFormat(request.getHeader(HttpHeaders.ACCEPT)));
+        return request.checkNotModified(representation.eTag(), representation.lastModified());
+    }
+
+    // Statistics and LeaseResponseDto.isExpiringSoon also depend on today's date, so their validators are scoped to it
+    private boolean notModifiedToday(WebRequest request) {
+        return notModifiedToday(request, resourceVersionService.getRegisterWatermark());
+    }
+
+    private boolean notModifiedToday(WebRequest request, ResourceVersion version) {
+        return version != null && notModified(request, version.salted(LocalDate.now().toString()));
+    }
+}
@@ -1,17 +1,29 @@
 package prac.lease.controller;
 
 
+import org.springframework.core.io.Resource;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.ReportArtifact;
+import prac.lease.dto.ReportCacheStatsDto;
 import prac.lease.dto.ReportRequest;
 import prac.lease.dto.ReportResponseDto;
+import prac.lease.exception.ReportQueueFullException;
+import prac.lease.exception.ResourceNotFoundException;
 import prac.lease.model.LeaseStatus;
 import prac.lease.model.RentalType;
 import prac.lease.model.LeaseType;
+import prac.lease.model.ReportJobStatus;
+import prac.lease.service.ReportCacheService;
 import prac.lease.service.ReportService;
 
 import java.time.LocalDate;
@@ -24,16 +36,30 @@ import java.util.Map;
 public class ReportController {
 
     private final ReportService reportService;
+    private final ReportCacheService reportCacheService;
 
-    public ReportController(ReportService reportService) {
+    public ReportController(ReportService reportService, ReportCacheService reportCacheService) {
         this.reportService = reportService;
+        this.reportCacheService = reportCacheService;
     }
 
     // Existing endpoints...
+    // Queues the report; poll /{id} for progress and fetch /{id}/result once it completes
     @PostMapping("/generate")
     public ResponseEntity<ApiResponse<ReportResponseDto>> generateReport(@RequestBody ReportRequest reportRequest) {
-        ApiResponse<ReportResponseDto> apiResponse = reportService.generateReport(reportRequest);
-        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST);
+        try {
+            ApiResponse<ReportResponseDto> apiResponse = reportService.generateReport(reportRequest);
+            if (!apiResponse.success()) {
+                return new ResponseEntity<>(apiResponse, HttpStatus.BAD_REQUEST);
+            }
+            // A reused report that has already completed needs no polling
+            boolean completed = apiResponse.body().getJobStatus() == ReportJobStatus.COMPLETED;
+            return new ResponseEntity<>(apiResponse, completed ? HttpStatus.OK : HttpStatus.ACCEPTED);
+        } catch (ReportQueueFullException e) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.set(HttpHeaders.RETRY_AFTER, "30");
+            return new ResponseEntity<>(new ApiResponse<>(false, e.getMessage(), null), headers, HttpStatus.TOO_MANY_REQUESTS);
+        }
     }
 
     @GetMapping("/{id}")
@@ -42,6 +68,17 @@ public class ReportController {
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
+    @GetMapping("/{id}/result")
+    public ResponseEntity<Resource> getReportResult(@PathVariable Long id, WebRequest request) {
+        return reportArtifact(id, request, false);
+    }
+
+    // Serves the stored artifact as an attachment; the report is never regenerated
+    @GetMapping("/{id}/download")
+    public ResponseEntity<Resource> downloadReport(@PathVariable Long id, WebRequest request) {
+        return reportArtifact(id, request, true);
+    }
+
     @GetMapping
     public ResponseEntity<ApiResponse<List<ReportResponseDto>>> getAllReports() {
         ApiResponse<List<ReportResponseDto>> apiResponse = reportService.getAllReports();
@@ -54,6 +91,20 @@ public class ReportController {
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.NOT_FOUND);
     }
 
+    // ========== REPORT CACHE ==========
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<ApiResponse<ReportCacheStatsDto>> getReportCacheStats() {
+        ApiResponse<ReportCacheStatsDto> apiResponse = reportCacheService.getStats();
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @DeleteMapping("/cache")
+    public ResponseEntity<ApiResponse<String>> clearReportCache() {
+        reportCacheService.invalidateAll();
+        return new ResponseEntity<>(new ApiResponse<>(true, "Report cache cleared", null), HttpStatus.OK);
+    }
+
     // 5.4.1. Consolidated lease registers by category
     @GetMapping("/consolidated-leases")
     public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getConsolidatedLeaseRegister(
@@ -63,6 +114,15 @@ public class ReportController {
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
 
+    // Streaming variant of the consolidated register for full-register exports
+    @GetMapping(value = "/consolidated-leases/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamConsolidatedLeaseRegister(
+            @RequestParam(required = false) String category) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(reportService.streamConsolidatedLeaseRegister(category));
+    }
+
     // 5.4.2. Expired Lease Report
     @GetMapping("/expired-leases")
     public ResponseEntity<ApiResponse<List<LeaseResponseDto>>> getExpiredLeasesReport() {
@@ -125,4 +185,30 @@ public class ReportController {
         ApiResponse<Map<LeaseType, List<LeaseResponseDto>>> apiResponse = reportService.getLeasesByLeaseTypeReport();
         return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
     }
-}
\ No newline at end of file
+
+    private ResponseEntity<Resource> reportArtifact(Long id, WebRequest request, boolean attachment) {
+        try {
+            ReportArtifact artifact = reportService.getReportArtifact(id);
+            // The checksum identifies the content, so it doubles as a strong ETag
+            String eTag = artifact.sha256() != null ? "\"" + artifact.sha256() + "\"" : null;
+            if (eTag != null && request.checkNotModified(eTag)) {
+                return null;
+            }
+            ContentDisposition disposition = (attachment ? ContentDisposition.attachment() : ContentDisposition.inline())
+                    .filename(artifact.fileName())
+                    .build();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(artifact.format().getContentType()))
+                    .contentLength(artifact.size())
+                    .header(HttpHeaders.CONTENT_DISPOSITION, disposition.toString());
+            if (eTag != null) {
+                response.eTag(eTag);
+            }
+            return response.body(artifact.resource());
+        } catch (ResourceNotFoundException e) {
+            return new ResponseEntity<>(HttpStatus.NOT_FOUND);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(HttpStatus.CONFLICT);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package prac.lease.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.QuickSearchHit;
+import prac.lease.service.QuickSearchService;
+
+import java.util.List;
+
+@RestController
+@CrossOrigin
+@RequestMapping("/api/search")
+public class SearchController {
+
+    private final QuickSearchService quickSearchService;
+
+    public SearchController(QuickSearchService quickSearchService) {
+        this.quickSearchService = quickSearchService;
+    }
+
+    @GetMapping("/quick")
+    public ResponseEntity<ApiResponse<List<QuickSearchHit>>> quickSearch(@RequestParam("q") String query,
+                                                                         @RequestParam(defaultValue = "10") int limit) {
+        ApiResponse<List<QuickSearchHit>> apiResponse = quickSearchService.search(query, limit);
+        return new ResponseEntity<>(apiResponse, apiResponse.success() ? HttpStatus.OK : HttpStatus.BAD_REQUEST);
+    }
+
+    @PostMapping("/quick/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildQuickSearchIndex() {
+        int indexed = quickSearchService.rebuild();
+        return new ResponseEntity<>(new ApiResponse<>(true, "Quick-search index rebuilt.", indexed), HttpStatus.OK);
+    }
+}
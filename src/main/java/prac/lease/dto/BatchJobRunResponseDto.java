@@ -0,0 +1,22 @@
+package prac.lease.dto;
+
+import prac.lease.model.BatchJobRun;
+import prac.lease.model.BatchJobStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Generic record describing one batch job run and its metrics.
+ */
+public record BatchJobRunResponseDto(Long id, String jobName, BatchJobStatus status, LocalDate watermark,
+                                     LocalDateTime startedAt, LocalDateTime finishedAt, long durationMillis,
+                                     long rowsRead, long rowsUpdated, long failures, int chunks,
+                                     String errorMessage) {
+
+    public BatchJobRunResponseDto(BatchJobRun run) {
+        this(run.getId(), run.getJobName(), run.getStatus(), run.getWatermark(), run.getStartedAt(),
+                run.getFinishedAt(), run.getDurationMillis(), run.getRowsRead(), run.getRowsUpdated(),
+                run.getFailures(), run.getChunks(), run.getErrorMessage());
+    }
+}
@@ -16,6 +16,10 @@ public class DocumentRequestDto {
 
     private Long landlordId; // Optional: for landlord-specific documents
 
+    private String contentHash; // Optional: SHA-256 of a file already in the store, to attach it without re-uploading
+
+    private String fileName; // Optional: display name when attaching by content hash
+
     // Getters and Setters
     public String getDocumentType() {
         return documentType;
@@ -56,4 +60,20 @@ public class DocumentRequestDto {
     public void setLandlordId(Long landlordId) {
         this.landlordId = landlordId;
     }
+
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
 }
\ No newline at end of file
@@ -10,6 +10,7 @@ public class DocumentResponseDto {
     private String documentType;
     private String fileName;
     private String fileUrl;
+    private String contentHash;
     private LocalDateTime uploadTime;
     private String category;
     private String description;
@@ -28,6 +29,7 @@ public class DocumentResponseDto {
         this.documentType = document.getDocumentType();
         this.fileName = document.getFileName();
         this.fileUrl = document.getFileUrl();
+        this.contentHash = document.getContentHash();
         this.uploadTime = document.getUploadTime();
         this.category = document.getCategory();
         this.description = document.getDescription();
@@ -81,6 +83,14 @@ public class DocumentResponseDto {
         this.fileUrl = fileUrl;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public LocalDateTime getUploadTime() {
         return uploadTime;
     }
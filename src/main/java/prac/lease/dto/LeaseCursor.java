@@ -0,0 +1,44 @@
+package prac.lease.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+/**
+ * Keyset position of the last lease returned in a slice.
+ * The cursor is handed to clients as an opaque, URL-safe token and decoded
+ * back into the sort key values the next slice has to seek past.
+ */
+public record LeaseCursor(String sort, LocalDate expiryDate, Long id) {
+
+    public static final String SORT_ID = "id";
+    public static final String SORT_EXPIRY_DATE = "expiryDate";
+
+    public String encode() {
+        String raw = SORT_EXPIRY_DATE.equals(sort)
+                ? sort + "|" + expiryDate + "|" + id
+                : sort + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * @throws IllegalArgumentException if the token is malformed or was issued for another sort order.
+     */
+    public static LeaseCursor decode(String token, String expectedSort) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts[0].equals(expectedSort)) {
+                if (SORT_EXPIRY_DATE.equals(expectedSort) && parts.length == 3) {
+                    return new LeaseCursor(expectedSort, LocalDate.parse(parts[1]), Long.parseLong(parts[2]));
+                }
+                if (SORT_ID.equals(expectedSort) && parts.length == 2) {
+                    return new LeaseCursor(expectedSort, null, Long.parseLong(parts[1]));
+                }
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor.", e);
+        }
+        throw new IllegalArgumentException("Cursor does not match sort order: " + expectedSort);
+    }
+}
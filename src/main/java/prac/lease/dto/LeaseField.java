@@ -0,0 +1,114 @@
+package prac.lease.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields a client may request through the {@code fields=} parameter on lease
+ * endpoints. Each constant maps a name from the {@link LeaseResponseDto} shape to
+ * the entity attribute it is read from, so a sparse request selects only those
+ * columns and joins landlord or site only when one of their fields is asked for.
+ * Derived values (documentCount, isExpiringSoon, canAttachDocuments) are not
+ * selectable because they cannot be read from a single column.
+ */
+public enum LeaseField {
+
+    ID("id", null, "id"),
+    AGREEMENT_NUMBER("agreementNumber", null, "agreementNumber"),
+    COMMENCEMENT_DATE("commencementDate", null, "commencementDate"),
+    EXPIRY_DATE("expiryDate", null, "expiryDate"),
+    STATUS("status", null, "status"),
+    RENTAL_TYPE("rentalType", null, "rentalType"),
+    RENTAL_VALUE("rentalValue", null, "rentalValue"),
+    COMMENCEMENT_AMOUNT("commencementAmount", null, "commencementAmount"),
+    RENTAL_AMOUNT("rentalAmount", null, "rentalAmount"),
+    COMMENCEMENT_AMOUNT_VALUE("commencementAmountValue", null, "commencementAmountValue"),
+    CURRENCY("currency", null, "currency"),
+    MONTHLY_RENTAL_AMOUNT("monthlyRentalAmount", null, "monthlyRentalAmount"),
+    LEASE_TYPE("leaseType", null, "leaseType"),
+    OPERATIONAL_STATUS("operationalStatus", null, "operationalStatus"),
+    AUTO_RENEWAL_OPTION("autoRenewalOption", null, "autoRenewalOption"),
+    TERMINATION_CLAUSE_DETAILS("terminationClauseDetails", null, "terminationClauseDetails"),
+    LEASE_CATEGORY("leaseCategory", null, "leaseCategory"),
+    RENEWAL_PERIOD_MONTHS("renewalPeriodMonths", null, "renewalPeriodMonths"),
+    CREATION_TIME("creationTime", null, "creationTime"),
+    MODIFICATION_TIME("modificationTime", null, "modificationTime"),
+
+    // landlord.id and site.id are read from the foreign key and need no join
+    LANDLORD_ID("landlord.id", "landlord", "id"),
+    LANDLORD_FULL_NAME("landlord.fullName", "landlord", "fullName"),
+    LANDLORD_CONTACT_PERSON("landlord.contactPerson", "landlord", "contactPerson"),
+    LANDLORD_CONTACT_NUMBER("landlord.contactNumber", "landlord", "contactNumber"),
+    LANDLORD_EMAIL("landlord.email", "landlord", "email"),
+    SITE_ID("site.id", "site", "id"),
+    SITE_NAME("site.siteName", "site", "siteName"),
+    SITE_PROVINCE("site.province", "site", "province"),
+    SITE_DISTRICT("site.district", "site", "district"),
+    SITE_ZONE("site.zone", "site", "zone");
+
+    private final String fieldName;
+    private final String association;
+    private final String attribute;
+
+    LeaseField(String fieldName, String association, String attribute) {
+        this.fieldName = fieldName;
+        this.association = association;
+        this.attribute = attribute;
+    }
+
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    // Lease association the attribute lives on, or null for a lease column
+    public String getAssociation() {
+        return association;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public boolean needsJoin() {
+        return association != null && !"id".equals(attribute);
+    }
+
+    public static LeaseField fromFieldName(String fieldName) {
+        for (LeaseField field : values()) {
+            if (field.fieldName.equals(fieldName)) {
+                return field;
+            }
+        }
+        return null;
+    }
+
+    // Parse a comma-separated list such as "id,agreementNumber,landlord.fullName", keeping request order
+    public static List<LeaseField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            throw new IllegalArgumentException("At least one field must be requested.");
+        }
+        Set<LeaseField> parsed = new LinkedHashSet<>();
+        List<String> unknown = new ArrayList<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            LeaseField field = fromFieldName(trimmed);
+            if (field == null) {
+                unknown.add(trimmed);
+            } else {
+                parsed.add(field);
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown field(s): " + String.join(", ", unknown));
+        }
+        if (parsed.isEmpty()) {
+            throw new IllegalArgumentException("At least one field must be requested.");
+        }
+        return new ArrayList<>(parsed);
+    }
+}
@@ -0,0 +1,15 @@
+package prac.lease.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of one bulk lease import: row totals, throughput and the rows that
+ * were rejected with the reason for each.
+ */
+public record LeaseImportResultDto(long rowsRead, long imported, long rejected, long durationMillis,
+                                   double rowsPerSecond, List<RowError> errors, boolean errorsTruncated) {
+
+    // Row is the 1-based data row number, not counting the CSV header
+    public record RowError(long row, String agreementNumber, String message) {
+    }
+}
@@ -32,6 +32,8 @@ public class LeaseRequestDto {
 
     private String commencementAmount;
 
+    private String currency;
+
     @NotNull(message = "Lease type is required")
     private LeaseType leaseType;
 
@@ -113,6 +115,14 @@ public class LeaseRequestDto {
         this.commencementAmount = commencementAmount;
     }
 
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
     public LeaseType getLeaseType() {
         return leaseType;
     }
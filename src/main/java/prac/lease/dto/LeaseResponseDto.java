@@ -2,12 +2,15 @@ package prac.lease.dto;
 
 import lombok.Getter;
 import lombok.Setter;
+import prac.lease.model.Landlord;
 import prac.lease.model.Lease;
 import prac.lease.model.LeaseStatus;
 import prac.lease.model.LeaseType;
 import prac.lease.model.OperationalStatus;
 import prac.lease.model.RentalType;
+import prac.lease.model.Site;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -23,6 +26,10 @@ public class LeaseResponseDto {
     private RentalType rentalType;
     private String rentalValue;
     private String commencementAmount;
+    private BigDecimal rentalAmount;
+    private BigDecimal commencementAmountValue;
+    private String currency;
+    private BigDecimal monthlyRentalAmount;
     private LeaseType leaseType;
     private OperationalStatus operationalStatus;
     private boolean autoRenewalOption;
@@ -39,17 +46,27 @@ public class LeaseResponseDto {
     }
 
     public LeaseResponseDto(Lease lease) {
+        this(lease, lease.getLandlord(), lease.getSite(),
+                lease.getDocuments() != null ? (long) lease.getDocuments().size() : 0L);
+    }
+
+    /**
+     * Projection constructor used by the LeaseRepository DTO queries, which select the lease,
+     * its landlord, its site and the document count in a single statement so that none of
+     * the lazy associations on the lease are touched.
+     */
+    public LeaseResponseDto(Lease lease, Landlord landlord, Site site, Long documentCount) {
         this.id = lease.getId();
         this.agreementNumber = lease.getAgreementNumber();
 
         // Landlord information as object
-        if (lease.getLandlord() != null) {
-            this.landlord = new LandlordInfo(lease.getLandlord());
+        if (landlord != null) {
+            this.landlord = new LandlordInfo(landlord);
         }
 
         // Site information as object
-        if (lease.getSite() != null) {
-            this.site = new SiteInfo(lease.getSite());
+        if (site != null) {
+            this.site = new SiteInfo(site);
         }
 
         this.commencementDate = lease.getCommencementDate();
@@ -58,6 +75,10 @@ public class LeaseResponseDto {
         this.rentalType = lease.getRentalType();
         this.rentalValue = lease.getRentalValue();
         this.commencementAmount = lease.getCommencementAmount();
+        this.rentalAmount = lease.getRentalAmount();
+        this.commencementAmountValue = lease.getCommencementAmountValue();
+        this.currency = lease.getCurrency();
+        this.monthlyRentalAmount = lease.getMonthlyRentalAmount();
         this.leaseType = lease.getLeaseType();
         this.operationalStatus = lease.getOperationalStatus();
         this.autoRenewalOption = lease.isAutoRenewalOption();
@@ -68,7 +89,7 @@ public class LeaseResponseDto {
         this.modificationTime = lease.getModificationTime();
         this.canAttachDocuments = lease.canAttachDocuments();
         this.isExpiringSoon = lease.isExpiringSoon();
-        this.documentCount = lease.getDocuments() != null ? lease.getDocuments().size() : 0;
+        this.documentCount = documentCount != null ? documentCount.intValue() : 0;
     }
 
     // Getters and Setters for main class
@@ -152,6 +173,38 @@ public class LeaseResponseDto {
         this.commencementAmount = commencementAmount;
     }
 
+    public BigDecimal getRentalAmount() {
+        return rentalAmount;
+    }
+
+    public void setRentalAmount(BigDecimal rentalAmount) {
+        this.rentalAmount = rentalAmount;
+    }
+
+    public BigDecimal getCommencementAmountValue() {
+        return commencementAmountValue;
+    }
+
+    public void setCommencementAmountValue(BigDecimal commencementAmountValue) {
+        this.commencementAmountValue = commencementAmountValue;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency;
+    }
+
+    public BigDecimal getMonthlyRentalAmount() {
+        return monthlyRentalAmount;
+    }
+
+    public void setMonthlyRentalAmount(BigDecimal monthlyRentalAmount) {
+        this.monthlyRentalAmount = monthlyRentalAmount;
+    }
+
     public LeaseType getLeaseType() {
         return leaseType;
     }
@@ -0,0 +1,59 @@
+package prac.lease.dto;
+
+import prac.lease.model.LeaseStatus;
+
+/**
+ * Lease statistics computed in a single aggregate pass over the lease table.
+ * Bucket sums are null when the scope matches no rows, so they are normalized to zero.
+ */
+public record LeaseStatisticsDto(
+        Long totalLeases,
+        Long pendingApprovalLeases,
+        Long approvedLeases,
+        Long rejectedLeases,
+        Long activeLeases,
+        Long expiredStatusLeases,
+        Long autoRenewedLeases,
+        Long expiredLeases,          // Expiry date before today, whatever the status
+        Long expiringThisWeek,
+        Long expiringThisMonth,
+        Long expiringNext3Months,
+        Long autoRenewalLeases,
+        Long activeAutoRenewalLeases,  // Auto-renewing and ACTIVE, the figure the landlord statistics report
+        Long operationalLeases,
+        Long underDevelopmentLeases
+) {
+
+    public LeaseStatisticsDto {
+        totalLeases = zeroIfNull(totalLeases);
+        pendingApprovalLeases = zeroIfNull(pendingApprovalLeases);
+        approvedLeases = zeroIfNull(approvedLeases);
+        rejectedLeases = zeroIfNull(rejectedLeases);
+        activeLeases = zeroIfNull(activeLeases);
+        expiredStatusLeases = zeroIfNull(expiredStatusLeases);
+        autoRenewedLeases = zeroIfNull(autoRenewedLeases);
+        expiredLeases = zeroIfNull(expiredLeases);
+        expiringThisWeek = zeroIfNull(expiringThisWeek);
+        expiringThisMonth = zeroIfNull(expiringThisMonth);
+        expiringNext3Months = zeroIfNull(expiringNext3Months);
+        autoRenewalLeases = zeroIfNull(autoRenewalLeases);
+        activeAutoRenewalLeases = zeroIfNull(activeAutoRenewalLeases);
+        operationalLeases = zeroIfNull(operationalLeases);
+        underDevelopmentLeases = zeroIfNull(underDevelopmentLeases);
+    }
+
+    public long countByStatus(LeaseStatus status) {
+        return switch (status) {
+            case PENDING_APPROVAL -> pendingApprovalLeases;
+            case APPROVED -> approvedLeases;
+            case REJECTED -> rejectedLeases;
+            case ACTIVE -> activeLeases;
+            case EXPIRED -> expiredStatusLeases;
+            case AUTO_RENEWED -> autoRenewedLeases;
+        };
+    }
+
+    private static Long zeroIfNull(Long value) {
+        return value != null ? value : 0L;
+    }
+}
@@ -0,0 +1,10 @@
+package prac.lease.dto;
+
+import prac.lease.model.LeaseStatus;
+
+/**
+ * Result of a batch approve or reject for one lease: whether it moved, why not if it
+ * did not, and the status and version the lease ended up with.
+ */
+public record LeaseTransitionOutcome(Long id, boolean success, String message, LeaseStatus status, Long version) {
+}
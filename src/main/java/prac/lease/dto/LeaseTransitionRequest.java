@@ -0,0 +1,9 @@
+package prac.lease.dto;
+
+import java.util.List;
+
+/**
+ * Body of the batch approve and reject endpoints. The reason is only used when rejecting.
+ */
+public record LeaseTransitionRequest(List<Long> ids, String reason) {
+}
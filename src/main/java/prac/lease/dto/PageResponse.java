@@ -0,0 +1,23 @@
+package prac.lease.dto;
+
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+
+/**
+ * Generic record for an offset-paginated page of results.
+ * @param content       The rows of this page.
+ * @param page          The zero-based page number.
+ * @param size          The requested page size.
+ * @param totalElements The total number of matching rows.
+ * @param totalPages    The total number of pages.
+ * @param hasNext       Whether another page follows this one.
+ * @param <T> The type of the rows.
+ */
+public record PageResponse<T>(List<T> content, int page, int size, long totalElements, int totalPages, boolean hasNext) {
+
+    public static <T> PageResponse<T> of(Page<?> page, List<T> content) {
+        return new PageResponse<>(content, page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages(), page.hasNext());
+    }
+}
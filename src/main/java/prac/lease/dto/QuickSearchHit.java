@@ -0,0 +1,12 @@
+package prac.lease.dto;
+
+/**
+ * Generic record for a single quick-search result.
+ * @param type         The kind of record matched: LEASE, LANDLORD or SITE.
+ * @param id           The ID of the matched record.
+ * @param label        The display value (agreement number, landlord name or site name).
+ * @param matchedField The field the query matched.
+ * @param score        Ranking score; higher is better.
+ */
+public record QuickSearchHit(String type, Long id, String label, String matchedField, int score) {
+}
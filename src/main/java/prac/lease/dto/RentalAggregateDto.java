@@ -0,0 +1,29 @@
+package prac.lease.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Monthly-equivalent rental aggregates for one currency.
+ * @param currency             ISO currency code, or null for amounts without one.
+ * @param leaseCount           Number of leases with a monthly rental amount.
+ * @param totalMonthlyRental   SUM of the monthly rental amounts.
+ * @param averageMonthlyRental AVG of the monthly rental amounts.
+ * @param minMonthlyRental     Smallest monthly rental amount.
+ * @param maxMonthlyRental     Largest monthly rental amount.
+ */
+public record RentalAggregateDto(String currency, Long leaseCount, BigDecimal totalMonthlyRental,
+                                 BigDecimal averageMonthlyRental, BigDecimal minMonthlyRental,
+                                 BigDecimal maxMonthlyRental) {
+
+    // JPQL AVG always yields a Double, so the projection goes through this constructor
+    public RentalAggregateDto(String currency, Long leaseCount, BigDecimal totalMonthlyRental,
+                              Double averageMonthlyRental, BigDecimal minMonthlyRental,
+                              BigDecimal maxMonthlyRental) {
+        this(currency, leaseCount, totalMonthlyRental,
+                averageMonthlyRental != null
+                        ? BigDecimal.valueOf(averageMonthlyRental).setScale(2, RoundingMode.HALF_UP)
+                        : null,
+                minMonthlyRental, maxMonthlyRental);
+    }
+}
@@ -0,0 +1,15 @@
+package prac.lease.dto;
+
+import org.springframework.core.io.Resource;
+import prac.lease.model.ReportFormat;
+
+/**
+ * A completed report's file, with the size and SHA-256 recorded when it was written.
+ */
+public record ReportArtifact(
+        Resource resource,
+        String fileName,
+        ReportFormat format,
+        long size,
+        String sha256
+) {}
@@ -0,0 +1,15 @@
+package prac.lease.dto;
+
+/**
+ * Size and hit/miss counters of the report cache since startup. Artifact lookups
+ * count the report jobs answered with an earlier job's file.
+ */
+public record ReportCacheStatsDto(int entries, long weight, int maxEntries, long maxWeight,
+                                  long hits, long misses, long evictions, long invalidations,
+                                  long artifactHits, long artifactMisses, String watermark) {
+
+    public double hitRatio() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+}
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.NotNull;
 import prac.lease.model.LeaseStatus;
 import prac.lease.model.LeaseType;
 import prac.lease.model.RentalType;
+import prac.lease.model.ReportFormat;
 
 import java.time.LocalDate;
 
@@ -17,5 +18,6 @@ public record ReportRequest(
         String leaseCategory, // Specific for lease category reports
         LeaseStatus status,   // For status-based reports
         RentalType rentalType, // For rental type reports
-        LeaseType leaseType   // For lease type reports
+        LeaseType leaseType,  // For lease type reports
+        ReportFormat format   // Artifact format, JSON when omitted
 ) {}
\ No newline at end of file
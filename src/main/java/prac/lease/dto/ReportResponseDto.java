@@ -1,6 +1,8 @@
 package prac.lease.dto;
 
 import prac.lease.model.Report;
+import prac.lease.model.ReportFormat;
+import prac.lease.model.ReportJobStatus;
 
 import java.time.LocalDateTime;
 
@@ -9,6 +11,17 @@ public class ReportResponseDto {
     private String reportName;
     private String reportType;
     private LocalDateTime generationDate;
+    private ReportJobStatus jobStatus;
+    private int progress;
+    private long rowsProcessed;
+    private Long rowsTotal;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String errorMessage;
+    private boolean resultAvailable;
+    private ReportFormat format;
+    private Long artifactSize;
+    private String artifactSha256;
 
     // No-args constructor
     public ReportResponseDto() {
@@ -20,6 +33,17 @@ public class ReportResponseDto {
         this.reportName = report.getReportName();
         this.reportType = report.getReportType();
         this.generationDate = report.getGenerationDate();
+        this.jobStatus = report.getJobStatus();
+        this.progress = report.getProgress();
+        this.rowsProcessed = report.getRowsProcessed();
+        this.rowsTotal = report.getRowsTotal();
+        this.startedAt = report.getStartedAt();
+        this.finishedAt = report.getFinishedAt();
+        this.errorMessage = report.getErrorMessage();
+        this.resultAvailable = report.getJobStatus() == ReportJobStatus.COMPLETED && report.getArtifactPath() != null;
+        this.format = report.getFormat();
+        this.artifactSize = report.getArtifactSize();
+        this.artifactSha256 = report.getArtifactSha256();
     }
 
     // Getters and Setters
@@ -54,4 +78,92 @@ public class ReportResponseDto {
     public void setGenerationDate(LocalDateTime generationDate) {
         this.generationDate = generationDate;
     }
+
+    public ReportJobStatus getJobStatus() {
+        return jobStatus;
+    }
+
+    public void setJobStatus(ReportJobStatus jobStatus) {
+        this.jobStatus = jobStatus;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public void setRowsProcessed(long rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    public Long getRowsTotal() {
+        return rowsTotal;
+    }
+
+    public void setRowsTotal(Long rowsTotal) {
+        this.rowsTotal = rowsTotal;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage;
+    }
+
+    public boolean isResultAvailable() {
+        return resultAvailable;
+    }
+
+    public void setResultAvailable(boolean resultAvailable) {
+        this.resultAvailable = resultAvailable;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ReportFormat format) {
+        this.format = format;
+    }
+
+    public Long getArtifactSize() {
+        return artifactSize;
+    }
+
+    public void setArtifactSize(Long artifactSize) {
+        this.artifactSize = artifactSize;
+    }
+
+    public String getArtifactSha256() {
+        return artifactSha256;
+    }
+
+    public void setArtifactSha256(String artifactSha256) {
+        this.artifactSha256 = artifactSha256;
+    }
 }
\ No newline at end of file
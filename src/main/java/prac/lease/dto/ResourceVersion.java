@@ -0,0 +1,66 @@
+package prac.lease.dto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Objects;
+
+/**
+ * Validator pair for conditional GETs: an ETag plus the Last-Modified instant in
+ * epoch millis, or -1 when unknown so only the ETag is compared.
+ */
+public record ResourceVersion(String eTag, long lastModified) {
+
+    // Strong ETag for a single row, from its id and the versions of everything its DTO embeds
+    public static ResourceVersion strong(LocalDateTime lastModified, Object... parts) {
+        return new ResourceVersion("\"" + join(parts) + "\"", toEpochMillis(lastModified));
+    }
+
+    // Weak ETag for a collection, from the register version counter bumped by every committed write
+    public static ResourceVersion weak(LocalDateTime lastModified, Object... parts) {
+        return new ResourceVersion("W/\"" + join(parts) + "\"", toEpochMillis(lastModified));
+    }
+
+    // Same validator scoped to a key such as today's date; Last-Modified is dropped since the key can change without a write
+    public ResourceVersion salted(String salt) {
+        return new ResourceVersion(eTag.substring(0, eTag.length() - 1) + "-" + salt + "\"", -1);
+    }
+
+    // Same validator for one encoding of the resource; JSON keeps the plain tag, so JSON, CBOR and Smile never share one
+    public ResourceVersion representedAs(String format) {
+        if (format == null) {
+            return this;
+        }
+        return new ResourceVersion(eTag.substring(0, eTag.length() - 1) + "-" + format + "\"", lastModified);
+    }
+
+    public static LocalDateTime latest(LocalDateTime... times) {
+        LocalDateTime latest = null;
+        for (LocalDateTime time : times) {
+            if (time != null && (latest == null || time.isAfter(latest))) {
+                latest = time;
+            }
+        }
+        return latest;
+    }
+
+    private static String join(Object... parts) {
+        StringBuilder builder = new StringBuilder();
+        for (Object part : parts) {
+            if (!builder.isEmpty()) {
+                builder.append('-');
+            }
+            if (part instanceof LocalDateTime time) {
+                builder.append(Long.toString(toEpochMillis(time), 36));
+            } else if (part instanceof Number number) {
+                builder.append(Long.toString(number.longValue(), 36));
+            } else {
+                builder.append(Objects.toString(part, "0"));
+            }
+        }
+        return builder.toString();
+    }
+
+    private static long toEpochMillis(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
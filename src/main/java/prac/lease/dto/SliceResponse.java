@@ -0,0 +1,14 @@
+package prac.lease.dto;
+
+import java.util.List;
+
+/**
+ * Generic record for a keyset-paginated slice of results.
+ * @param content    The rows of this slice.
+ * @param size       The requested slice size.
+ * @param hasNext    Whether another slice follows this one.
+ * @param nextCursor Opaque continuation token for the next slice, or null on the last slice.
+ * @param <T> The type of the rows.
+ */
+public record SliceResponse<T>(List<T> content, int size, boolean hasNext, String nextCursor) {
+}
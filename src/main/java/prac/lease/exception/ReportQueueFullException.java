@@ -0,0 +1,11 @@
+package prac.lease.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class ReportQueueFullException extends RuntimeException {
+    public ReportQueueFullException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,153 @@
+package prac.lease.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+/**
+ * One execution of a lease batch job, with its watermark and run metrics.
+ * Not a BaseEntity: runs are written by the scheduler, so there is no user to
+ * audit, and the row is only ever updated by the run that created it.
+ */
+@Entity
+@Table(name = "batch_job_runs", indexes = @Index(name = "idx_batch_job_run_name_id", columnList = "jobName, id"))
+public class BatchJobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String jobName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private BatchJobStatus status;
+
+    // The date up to which this run brought the job current; only trusted on SUCCEEDED runs
+    private LocalDate watermark;
+
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long durationMillis;
+    private long rowsRead;
+    private long rowsUpdated;
+    private long failures;
+    private int chunks;
+
+    @Column(length = 1000)
+    private String errorMessage;
+
+    // No-args constructor
+    public BatchJobRun() {
+    }
+
+    public BatchJobRun(String jobName) {
+        this.jobName = jobName;
+        this.status = BatchJobStatus.RUNNING;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getJobName() {
+        return jobName;
+    }
+
+    public BatchJobStatus getStatus() {
+        return status;
+    }
+
+    public LocalDate getWatermark() {
+        return watermark;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    public long getRowsRead() {
+        return rowsRead;
+    }
+
+    public long getRowsUpdated() {
+        return rowsUpdated;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    // Setters
+    public void setStatus(BatchJobStatus status) {
+        this.status = status;
+    }
+
+    public void setWatermark(LocalDate watermark) {
+        this.watermark = watermark;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public void setDurationMillis(long durationMillis) {
+        this.durationMillis = durationMillis;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000) : errorMessage;
+    }
+
+    // Metric accumulators
+    public void addRowsRead(long rows) {
+        this.rowsRead += rows;
+    }
+
+    public void addRowsUpdated(long rows) {
+        this.rowsUpdated += rows;
+    }
+
+    public void addFailures(long rows) {
+        this.failures += rows;
+    }
+
+    public void incrementChunks() {
+        this.chunks++;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BatchJobRun that = (BatchJobRun) o;
+        return Objects.equals(this.id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+}
@@ -0,0 +1,8 @@
+package prac.lease.model;
+
+public enum BatchJobStatus {
+    RUNNING,
+    SUCCEEDED,
+    COMPLETED_WITH_FAILURES,
+    FAILED
+}
@@ -9,6 +9,8 @@ import java.time.LocalDateTime;
 import static org.hibernate.envers.RelationTargetAuditMode.NOT_AUDITED;
 
 @Entity
+@Table(indexes = {@Index(name = "idx_document_modification_time", columnList = "modification_time"),
+        @Index(name = "idx_document_content_hash", columnList = "contentHash")})
 @Audited(targetAuditMode = NOT_AUDITED, withModifiedFlag = true)
 public class Document extends BaseEntity {
 
@@ -24,6 +26,10 @@ public class Document extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime uploadTime;
 
+    // SHA-256 of the file in the document store; null for files stored before deduplication
+    @Column(length = 64)
+    private String contentHash;
+
     private String category;
 
     private String description;
@@ -74,6 +80,14 @@ public class Document extends BaseEntity {
         this.uploadTime = uploadTime;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public String getCategory() {
         return category;
     }
@@ -0,0 +1,95 @@
+package prac.lease.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * One stored file in the content-addressed document store, keyed by the
+ * SHA-256 of its bytes. Every Document whose contentHash matches holds a
+ * reference; the file is reclaimed when the last reference is released.
+ * Deliberately not a BaseEntity: the reference count is adjusted with atomic
+ * statements, so it carries neither a version nor an audit history.
+ */
+@Entity
+@Table(name = "document_blobs",
+        uniqueConstraints = @UniqueConstraint(name = "uk_document_blob_sha256", columnNames = "sha256"))
+public class DocumentBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    @Column(name = "size_bytes", nullable = false)
+    private long size;
+
+    @Column(name = "storage_path", nullable = false, length = 500)
+    private String storagePath;
+
+    @Column(name = "ref_count", nullable = false)
+    private long refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // No-args constructor
+    public DocumentBlob() {
+    }
+
+    public DocumentBlob(String sha256, long size, String storagePath, long refCount, LocalDateTime createdAt) {
+        this.sha256 = sha256;
+        this.size = size;
+        this.storagePath = storagePath;
+        this.refCount = refCount;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public String getStoragePath() {
+        return storagePath;
+    }
+
+    public long getRefCount() {
+        return refCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    // Setters
+    public void setSha256(String sha256) {
+        this.sha256 = sha256;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    public void setStoragePath(String storagePath) {
+        this.storagePath = storagePath;
+    }
+
+    public void setRefCount(long refCount) {
+        this.refCount = refCount;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,77 @@
+package prac.lease.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A stored file waiting to be deleted. Tombstones are written in the same
+ * transaction as the rows that stop referring to the file, so a rollback keeps
+ * the file, and a background reclaimer deletes the file only after commit.
+ * Deliberately not a BaseEntity: tombstones are queue entries, not records
+ * anyone edits or audits.
+ */
+@Entity
+@Table(name = "file_tombstones", indexes = @Index(name = "idx_file_tombstone_sha256", columnList = "sha256"))
+public class FileTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 500)
+    private String path;
+
+    // Set for document store blobs, so storing the same bytes again can cancel the deletion
+    @Column(length = 64)
+    private String sha256;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    private int attempts;
+
+    @Column(length = 500)
+    private String lastError;
+
+    // No-args constructor
+    public FileTombstone() {
+    }
+
+    public FileTombstone(String path, String sha256) {
+        this.path = path;
+        this.sha256 = sha256;
+        this.createdAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getSha256() {
+        return sha256;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    // Records a failed deletion so the tombstone is retried a bounded number of times
+    public void recordFailure(String error) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 500 ? error.substring(0, 500) : error;
+    }
+}
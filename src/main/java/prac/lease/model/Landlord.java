@@ -10,6 +10,7 @@ import java.util.List;
 import static org.hibernate.envers.RelationTargetAuditMode.NOT_AUDITED;
 
 @Entity
+@Table(indexes = @Index(name = "idx_landlord_modification_time", columnList = "modification_time"))
 @Audited(targetAuditMode = NOT_AUDITED, withModifiedFlag = true)
 public class Landlord extends BaseEntity {
 
@@ -5,14 +5,28 @@ import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
 import org.hibernate.envers.Audited;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.hibernate.envers.RelationTargetAuditMode.NOT_AUDITED;
 
 @Entity
 @Audited(targetAuditMode = NOT_AUDITED, withModifiedFlag = true)
+@Table(indexes = {
+        @Index(name = "idx_lease_expiry_id", columnList = "expiryDate, id"),
+        @Index(name = "idx_lease_status_id", columnList = "status, id"),
+        @Index(name = "idx_lease_status_expiry_id", columnList = "status, expiryDate, id"),
+        @Index(name = "idx_lease_landlord_status", columnList = "landlord_id, status"),
+        @Index(name = "idx_lease_site_status", columnList = "site_id, status"),
+        @Index(name = "idx_lease_monthly_rental_id", columnList = "monthlyRentalAmount, id"),
+        @Index(name = "idx_lease_currency_monthly_rental", columnList = "currency, monthlyRentalAmount"),
+        @Index(name = "idx_lease_modification_time", columnList = "modification_time")
+})
 public class Lease extends BaseEntity {
 
     @Column(nullable = false, unique = true)
@@ -46,6 +60,20 @@ public class Lease extends BaseEntity {
 
     private String commencementAmount;
 
+    // Numeric forms of rentalValue/commencementAmount, derived on every write
+    @Column(precision = 19, scale = 2)
+    private BigDecimal rentalAmount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal commencementAmountValue;
+
+    @Column(length = 3)
+    private String currency;
+
+    // Rental normalized to one month so MONTHLY and ANNUALY leases can be compared and summed
+    @Column(precision = 19, scale = 2)
+    private BigDecimal monthlyRentalAmount;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private LeaseType leaseType;
@@ -66,6 +94,13 @@ public class Lease extends BaseEntity {
     @JsonManagedReference("lease-documents")
     private List<Document> documents = new ArrayList<>();
 
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+    private static final Pattern CURRENCY_CODE =
+            Pattern.compile("^([A-Za-z]{3})(?=[\\s0-9$])|(?<=[\\s0-9])([A-Za-z]{3})$");
+    // One number: plain digits, or digits grouped by thousands commas, with optional decimals
+    private static final Pattern AMOUNT_TOKEN =
+            Pattern.compile("(?<![0-9.,])-?(?:[0-9]{1,3}(?:,[0-9]{3})+|[0-9]+)(?:\\.[0-9]+)?(?![0-9])|[0-9]");
+
     public Lease() {
     }
 
@@ -85,6 +120,71 @@ public class Lease extends BaseEntity {
         }
     }
 
+    /**
+     * Derives the numeric amount columns from the free-text rental and commencement values.
+     * "NONE"/"SWAP" sentinels and unparseable text leave the amounts null. The currency is
+     * only taken from the text when none has been set.
+     */
+    @PrePersist
+    @PreUpdate
+    public void deriveAmounts() {
+        this.rentalAmount = parseAmount(this.rentalValue);
+        this.commencementAmountValue = parseAmount(this.commencementAmount);
+        if (this.currency == null) {
+            this.currency = statedCurrency();
+        }
+
+        if (this.rentalAmount == null || this.rentalType == null) {
+            this.monthlyRentalAmount = null;
+        } else if (this.rentalType == RentalType.ANNUALY) {
+            this.monthlyRentalAmount = this.rentalAmount.divide(MONTHS_PER_YEAR, 2, RoundingMode.HALF_UP);
+        } else if (this.rentalType == RentalType.MONTHLY) {
+            this.monthlyRentalAmount = this.rentalAmount.setScale(2, RoundingMode.HALF_UP);
+        } else {
+            this.monthlyRentalAmount = null;
+        }
+    }
+
+    // Currency code named in the rental value, else in the commencement amount, or null
+    public String statedCurrency() {
+        String stated = parseCurrency(this.rentalValue);
+        return stated != null ? stated : parseCurrency(this.commencementAmount);
+    }
+
+    // True when an explicit currency disagrees with a code named in the amount text
+    public boolean conflictsWithStatedCurrency(String explicitCurrency) {
+        String stated = statedCurrency();
+        return explicitCurrency != null && stated != null && !stated.equalsIgnoreCase(explicitCurrency.trim());
+    }
+
+    // Accepts values such as "1200", "1,200.50", "USD 1200" or "$1200"; text holding more than one number is ambiguous
+    static BigDecimal parseAmount(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = AMOUNT_TOKEN.matcher(value);
+        if (!matcher.find()) {
+            return null;
+        }
+        String token = matcher.group();
+        if (matcher.find()) {
+            return null;
+        }
+        return new BigDecimal(token.replace(",", "")).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Picks up a leading or trailing ISO code ("USD 1200", "1200 ZWG") or a "$" prefix
+    static String parseCurrency(String value) {
+        if (value == null) {
+            return null;
+        }
+        Matcher matcher = CURRENCY_CODE.matcher(value.trim());
+        if (matcher.find()) {
+            return (matcher.group(1) != null ? matcher.group(1) : matcher.group(2)).toUpperCase();
+        }
+        return value.trim().startsWith("$") ? "USD" : null;
+    }
+
     public boolean isExpiringSoon() {
         return LocalDate.now().plusDays(30).isAfter(this.expiryDate) &&
                 LocalDate.now().isBefore(this.expiryDate);
@@ -163,6 +263,26 @@ public class Lease extends BaseEntity {
         this.commencementAmount = commencementAmount;
     }
 
+    public BigDecimal getRentalAmount() {
+        return rentalAmount;
+    }
+
+    public BigDecimal getCommencementAmountValue() {
+        return commencementAmountValue;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+
+    public void setCurrency(String currency) {
+        this.currency = currency != null && !currency.isBlank() ? currency.trim().toUpperCase() : null;
+    }
+
+    public BigDecimal getMonthlyRentalAmount() {
+        return monthlyRentalAmount;
+    }
+
     public LeaseType getLeaseType() {
         return leaseType;
     }
@@ -0,0 +1,85 @@
+package prac.lease.model;
+
+import jakarta.persistence.*;
+
+import java.util.Objects;
+
+/**
+ * A materialized count of leases for one bucket of one dimension, e.g.
+ * (STATUS, APPROVED). Rows are adjusted in the same transaction as the lease
+ * write that changes them and periodically reconciled against the lease table.
+ * Deliberately not a BaseEntity: counters are updated with an atomic upsert,
+ * so they carry neither a version nor an audit history.
+ */
+@Entity
+@Table(name = "lease_counters",
+        uniqueConstraints = @UniqueConstraint(name = "uk_lease_counter_dimension_bucket", columnNames = {"dimension", "bucket"}))
+public class LeaseCounter {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private LeaseCounterDimension dimension;
+
+    @Column(nullable = false)
+    private String bucket;
+
+    @Column(name = "counter_value", nullable = false)
+    private long value;
+
+    // No-args constructor
+    public LeaseCounter() {
+    }
+
+    public LeaseCounter(LeaseCounterDimension dimension, String bucket, long value) {
+        this.dimension = dimension;
+        this.bucket = bucket;
+        this.value = value;
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public LeaseCounterDimension getDimension() {
+        return dimension;
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public long getValue() {
+        return value;
+    }
+
+    // Setters
+    public void setDimension(LeaseCounterDimension dimension) {
+        this.dimension = dimension;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public void setValue(long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        LeaseCounter that = (LeaseCounter) o;
+        return Objects.equals(this.id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.id);
+    }
+}
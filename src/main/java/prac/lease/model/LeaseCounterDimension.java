@@ -0,0 +1,73 @@
+package prac.lease.model;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * The dimensions maintained in the lease_counters table. Each dimension maps a
+ * lease onto exactly one bucket, and names the Lease attribute used to rebuild
+ * its counts during reconciliation.
+ */
+public enum LeaseCounterDimension {
+
+    TOTAL(null, lease -> LeaseCounterDimension.ALL, LeaseCounterDimension::bucketOf),
+    STATUS("status", Lease::getStatus, LeaseCounterDimension::bucketOf),
+    OPERATIONAL_STATUS("operationalStatus", Lease::getOperationalStatus, LeaseCounterDimension::bucketOf),
+    RENTAL_TYPE("rentalType", Lease::getRentalType, LeaseCounterDimension::bucketOf),
+    LEASE_TYPE("leaseType", Lease::getLeaseType, LeaseCounterDimension::bucketOf),
+    CATEGORY("leaseCategory", Lease::getLeaseCategory, LeaseCounterDimension::textBucketOf),
+    AUTO_RENEWAL("autoRenewalOption", Lease::isAutoRenewalOption, LeaseCounterDimension::bucketOf);
+
+    public static final String ALL = "ALL";
+    public static final String NONE = "NONE";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final String attribute;
+    private final Function<Lease, Object> valueFunction;
+    private final Function<Object, String> bucketFunction;
+
+    LeaseCounterDimension(String attribute, Function<Lease, Object> valueFunction, Function<Object, String> bucketFunction) {
+        this.attribute = attribute;
+        this.valueFunction = valueFunction;
+        this.bucketFunction = bucketFunction;
+    }
+
+    public String getAttribute() {
+        return attribute;
+    }
+
+    public String bucketOf(Lease lease) {
+        return bucketFunction.apply(valueFunction.apply(lease));
+    }
+
+    // The bucket of a raw attribute value, as read back from the lease table or a stored counter
+    public String bucketOfValue(Object value) {
+        return bucketFunction.apply(value);
+    }
+
+    // Buckets are stored as strings so enum, boolean and free-text dimensions share one table
+    public static String bucketOf(Object value) {
+        if (value == null) {
+            return NONE;
+        }
+        if (value instanceof Enum<?> e) {
+            return e.name();
+        }
+        return value.toString();
+    }
+
+    // The bucket column compares case- and accent-insensitively and ignores trailing spaces,
+    // so free text is folded the same way here; otherwise two spellings of one category
+    // would be distinct buckets in memory but collide on the unique key
+    static String textBucketOf(Object value) {
+        String text = bucketOf(value);
+        if (value == null || text.trim().equalsIgnoreCase(NONE)) {
+            return NONE;
+        }
+        String folded = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(folded).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,64 @@
+package prac.lease.model;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single-row counter that every transaction writing a lease, document,
+ * landlord or site increments as its last statement before commit. The row
+ * lock orders those commits, so the counter moves with every committed write,
+ * in commit order, and a validator built from it cannot miss a write that
+ * commits after one stamped later. Deliberately not a BaseEntity: the row is
+ * only ever changed by an in-place increment.
+ */
+@Entity
+@Table(name = "register_version")
+public class RegisterVersion {
+
+    public static final long ROW_ID = 1L;
+
+    @Id
+    private Long id;
+
+    @Column(name = "version_number", nullable = false)
+    private long versionNumber;
+
+    @Column(name = "modified_at")
+    private LocalDateTime modifiedAt;
+
+    // No-args constructor
+    public RegisterVersion() {
+    }
+
+    public RegisterVersion(Long id) {
+        this.id = id;
+        this.modifiedAt = LocalDateTime.now();
+    }
+
+    // Getters
+    public Long getId() {
+        return id;
+    }
+
+    public long getVersionNumber() {
+        return versionNumber;
+    }
+
+    public LocalDateTime getModifiedAt() {
+        return modifiedAt;
+    }
+
+    // Setters
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public void setVersionNumber(long versionNumber) {
+        this.versionNumber = versionNumber;
+    }
+
+    public void setModifiedAt(LocalDateTime modifiedAt) {
+        this.modifiedAt = modifiedAt;
+    }
+}
@@ -1,13 +1,26 @@
 package prac.lease.model;
 
-import jakarta.persistence.Column;
-import jakarta.persistence.Entity;
+import jakarta.persistence.*;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
 import java.time.LocalDateTime;
 
+/**
+ * A generated report and the job that produces it.
+ * <p>
+ * Reports are generated by a background worker. The row is created QUEUED on the
+ * request thread and the worker moves it through RUNNING to COMPLETED or FAILED,
+ * leaving a file artifact in the requested format.
+ * The worker writes the job fields with bulk updates, which create no revisions,
+ * so those fields are left out of the audit history.
+ */
 @Entity
 @Audited(withModifiedFlag = true)
+@Table(indexes = {
+        @Index(name = "idx_report_job_status", columnList = "jobStatus"),
+        @Index(name = "idx_report_cache_key", columnList = "cacheKey")
+})
 public class Report extends BaseEntity {
 
     @Column(nullable = false)
@@ -19,6 +32,62 @@ public class Report extends BaseEntity {
     @Column(nullable = false)
     private LocalDateTime generationDate;
 
+    @NotAudited
+    @Enumerated(EnumType.STRING)
+    @Column(length = 16)
+    private ReportJobStatus jobStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(length = 8)
+    private ReportFormat format;
+
+    // Normalized filters, format and register watermark; equal keys produce identical artifacts
+    @NotAudited
+    @Column(length = 400)
+    private String cacheKey;
+
+    // The original ReportRequest as JSON, so the worker can rebuild it
+    @Column(length = 2000)
+    private String parameters;
+
+    @NotAudited
+    private int progress;
+
+    @NotAudited
+    private long rowsProcessed;
+
+    @NotAudited
+    private Long rowsTotal;
+
+    @NotAudited
+    private LocalDateTime startedAt;
+
+    @NotAudited
+    private LocalDateTime finishedAt;
+
+    @NotAudited
+    @Column(length = 1000)
+    private String errorMessage;
+
+    @NotAudited
+    @Column(length = 500)
+    private String artifactPath;
+
+    @NotAudited
+    private Long artifactSize;
+
+    @NotAudited
+    @Column(length = 64)
+    private String artifactSha256;
+
+    // The instance whose worker pool holds the job, and when it last vouched for it
+    @NotAudited
+    @Column(length = 128)
+    private String ownerInstance;
+
+    @NotAudited
+    private LocalDateTime heartbeatAt;
+
     // No-args constructor for JPA
     public Report() {
     }
@@ -47,4 +116,125 @@ public class Report extends BaseEntity {
     public void setGenerationDate(LocalDateTime generationDate) {
         this.generationDate = generationDate;
     }
-}
\ No newline at end of file
+
+    public ReportJobStatus getJobStatus() {
+        return jobStatus;
+    }
+
+    public void setJobStatus(ReportJobStatus jobStatus) {
+        this.jobStatus = jobStatus;
+    }
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public void setCacheKey(String cacheKey) {
+        this.cacheKey = cacheKey;
+    }
+
+    public String getParameters() {
+        return parameters;
+    }
+
+    public void setParameters(String parameters) {
+        this.parameters = parameters;
+    }
+
+    public int getProgress() {
+        return progress;
+    }
+
+    public void setProgress(int progress) {
+        this.progress = progress;
+    }
+
+    public long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public void setRowsProcessed(long rowsProcessed) {
+        this.rowsProcessed = rowsProcessed;
+    }
+
+    public Long getRowsTotal() {
+        return rowsTotal;
+    }
+
+    public void setRowsTotal(Long rowsTotal) {
+        this.rowsTotal = rowsTotal;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getErrorMessage() {
+        return errorMessage;
+    }
+
+    public void setErrorMessage(String errorMessage) {
+        this.errorMessage = errorMessage != null && errorMessage.length() > 1000
+                ? errorMessage.substring(0, 1000) : errorMessage;
+    }
+
+    public ReportFormat getFormat() {
+        return format;
+    }
+
+    public void setFormat(ReportFormat format) {
+        this.format = format;
+    }
+
+    public String getArtifactPath() {
+        return artifactPath;
+    }
+
+    public void setArtifactPath(String artifactPath) {
+        this.artifactPath = artifactPath;
+    }
+
+    public Long getArtifactSize() {
+        return artifactSize;
+    }
+
+    public void setArtifactSize(Long artifactSize) {
+        this.artifactSize = artifactSize;
+    }
+
+    public String getArtifactSha256() {
+        return artifactSha256;
+    }
+
+    public void setArtifactSha256(String artifactSha256) {
+        this.artifactSha256 = artifactSha256;
+    }
+
+    public String getOwnerInstance() {
+        return ownerInstance;
+    }
+
+    public void setOwnerInstance(String ownerInstance) {
+        this.ownerInstance = ownerInstance;
+    }
+
+    public LocalDateTime getHeartbeatAt() {
+        return heartbeatAt;
+    }
+
+    public void setHeartbeatAt(LocalDateTime heartbeatAt) {
+        this.heartbeatAt = heartbeatAt;
+    }
+}
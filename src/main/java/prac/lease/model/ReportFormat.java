@@ -0,0 +1,28 @@
+package prac.lease.model;
+
+/**
+ * The file format a report job writes. JSON keeps the ApiResponse envelope used
+ * by the list endpoints; CSV and XLSX are flat tables for spreadsheet users.
+ */
+public enum ReportFormat {
+
+    JSON("json", "application/json"),
+    CSV("csv", "text/csv"),
+    XLSX("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet");
+
+    private final String extension;
+    private final String contentType;
+
+    ReportFormat(String extension, String contentType) {
+        this.extension = extension;
+        this.contentType = contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+}
@@ -0,0 +1,8 @@
+package prac.lease.model;
+
+public enum ReportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
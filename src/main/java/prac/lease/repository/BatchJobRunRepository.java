@@ -0,0 +1,19 @@
+package prac.lease.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import prac.lease.model.BatchJobRun;
+import prac.lease.model.BatchJobStatus;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BatchJobRunRepository extends JpaRepository<BatchJobRun, Long> {
+
+    // Find the most recent run of a job with the given status
+    Optional<BatchJobRun> findTopByJobNameAndStatusOrderByIdDesc(String jobName, BatchJobStatus status);
+
+    // Find the latest runs of a job, newest first
+    List<BatchJobRun> findTop20ByJobNameOrderByIdDesc(String jobName);
+}
@@ -0,0 +1,67 @@
+package prac.lease.repository;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import prac.lease.model.DocumentBlob;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DocumentBlobRepository extends JpaRepository<DocumentBlob, Long> {
+
+    // Find the blob stored for a content hash
+    Optional<DocumentBlob> findBySha256(String sha256);
+
+    // Lock the blob row for a content hash; when there is none, the gap lock holds off a concurrent insert of that hash
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM DocumentBlob b WHERE b.sha256 = :sha256")
+    Optional<DocumentBlob> findBySha256ForUpdate(@Param("sha256") String sha256);
+
+    // Check whether a content hash is still stored
+    boolean existsBySha256(String sha256);
+
+    // Check whether any blob is stored at a path
+    boolean existsByStoragePath(String storagePath);
+
+    // Find which of the given paths hold a stored blob
+    @Query("SELECT b.storagePath FROM DocumentBlob b WHERE b.storagePath IN :paths")
+    List<String> findStoragePathsIn(@Param("paths") Collection<String> paths);
+
+    // Take a reference on an already stored blob; returns 0 when the hash is unknown
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = b.refCount + 1 WHERE b.sha256 = :sha256")
+    int retain(@Param("sha256") String sha256);
+
+    // Atomically record a newly stored blob with one reference, or take a reference if a concurrent upload got there first;
+    // returns 1 when this call inserted the row and 2 when it took a reference on an existing one
+    @Modifying
+    @Query(value = "INSERT INTO document_blobs (sha256, size_bytes, storage_path, ref_count, created_at) " +
+            "VALUES (:sha256, :size, :storagePath, 1, :createdAt) " +
+            "ON DUPLICATE KEY UPDATE ref_count = ref_count + 1", nativeQuery = true)
+    int insertOrRetain(@Param("sha256") String sha256, @Param("size") long size,
+                        @Param("storagePath") String storagePath, @Param("createdAt") LocalDateTime createdAt);
+
+    // Point a blob at its new location after a layout migration
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.storagePath = :storagePath WHERE b.sha256 = :sha256")
+    int updateStoragePath(@Param("sha256") String sha256, @Param("storagePath") String storagePath);
+
+    // Drop references, never going below zero
+    @Modifying
+    @Query("UPDATE DocumentBlob b SET b.refCount = CASE WHEN b.refCount > :references THEN b.refCount - :references ELSE 0 END " +
+            "WHERE b.sha256 = :sha256")
+    int release(@Param("sha256") String sha256, @Param("references") long references);
+
+    // Remove the blob row once nothing refers to it; returns 1 when this call removed it
+    @Modifying
+    @Query("DELETE FROM DocumentBlob b WHERE b.sha256 = :sha256 AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("sha256") String sha256);
+}
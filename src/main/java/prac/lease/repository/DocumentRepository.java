@@ -1,14 +1,23 @@
 package prac.lease.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import prac.lease.model.Document;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
@@ -86,6 +95,18 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     // Check if document exists by filename
     boolean existsByFileName(String fileName);
 
+    // Check whether any document still points at a stored file
+    boolean existsByFileUrl(String fileUrl);
+
+    // Find which of the given paths documents point at
+    @Query("SELECT d.fileUrl FROM Document d WHERE d.fileUrl IN :paths")
+    List<String> findFileUrlsIn(@Param("paths") Collection<String> paths);
+
+    // The given documents, locked in ID order so overlapping deletes release each file once
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Document d WHERE d.id IN :ids ORDER BY d.id")
+    List<Document> findLockedByIdIn(@Param("ids") Collection<Long> ids);
+
     // Find documents by description containing text
     List<Document> findByDescriptionContainingIgnoreCase(String description);
 
@@ -96,4 +117,18 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
     // Find duplicate documents (same filename and lease)
     @Query("SELECT d FROM Document d WHERE d.fileName = :fileName AND d.lease.id = :leaseId")
     List<Document> findDuplicateDocuments(@Param("fileName") String fileName, @Param("leaseId") Long leaseId);
-}
\ No newline at end of file
+
+    // Find the next chunk of documents after an id, in id order, with nothing fetched but the document
+    List<Document> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // Versions of a document and of the lease and landlord its DTO names, with their modification times
+    @Query("SELECT d.id, d.version, l.version, o.version, d.modificationTime, l.modificationTime, o.modificationTime " +
+            "FROM Document d LEFT JOIN d.lease l LEFT JOIN d.landlord o WHERE d.id = :id")
+    List<Object[]> findDocumentVersionById(@Param("id") Long id);
+
+    // Stream every document with its lease and landlord, in id order
+    @Query("SELECT d FROM Document d LEFT JOIN FETCH d.lease LEFT JOIN FETCH d.landlord ORDER BY d.id ASC")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = LeaseRepository.STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<Document> streamAllWithAssociations();
+}
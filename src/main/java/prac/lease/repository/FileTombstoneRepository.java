@@ -0,0 +1,36 @@
+package prac.lease.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import prac.lease.model.FileTombstone;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface FileTombstoneRepository extends JpaRepository<FileTombstone, Long> {
+
+    // Lock the oldest tombstones still worth retrying, skipping rows another reclaimer or an upload holds
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "-2"))
+    @Query("SELECT t FROM FileTombstone t WHERE t.attempts < :maxAttempts ORDER BY t.id")
+    List<FileTombstone> findReclaimBatch(@Param("maxAttempts") int maxAttempts, Pageable pageable);
+
+    // Cancel pending deletion of a blob that is being stored again; blocks while a reclaimer holds the row
+    @Modifying
+    @Query("DELETE FROM FileTombstone t WHERE t.sha256 = :sha256")
+    int deleteBySha256(@Param("sha256") String sha256);
+
+    // Find which of the given paths are already queued
+    @Query("SELECT t.path FROM FileTombstone t WHERE t.path IN :paths")
+    List<String> findPathsIn(@Param("paths") Collection<String> paths);
+}
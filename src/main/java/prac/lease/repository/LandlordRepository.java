@@ -1,6 +1,7 @@
 package prac.lease.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import prac.lease.model.Landlord;
 import java.util.List;
@@ -12,6 +13,10 @@ public interface LandlordRepository extends JpaRepository<Landlord, Long> {
     // Find a landlord by their full name
     Optional<Landlord> findByFullName(String fullName);
 
+    // Find the searchable columns of every landlord for the quick-search index
+    @Query("SELECT la.id, la.fullName FROM Landlord la")
+    List<Object[]> findQuickSearchEntries();
+
     // Find all landlords in a specific region and district
 //    List<Landlord> findByRegionAndDistrict(String region, String district);
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package prac.lease.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import prac.lease.model.LeaseCounter;
+import prac.lease.model.LeaseCounterDimension;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface LeaseCounterRepository extends JpaRepository<LeaseCounter, Long> {
+
+    // Find the counter for a single bucket
+    Optional<LeaseCounter> findByDimensionAndBucket(LeaseCounterDimension dimension, String bucket);
+
+    // Find all counters of a dimension
+    List<LeaseCounter> findByDimension(LeaseCounterDimension dimension);
+
+    // Atomically add delta to a bucket, creating the row on first use
+    @Modifying
+    @Query(value = "INSERT INTO lease_counters (dimension, bucket, counter_value) VALUES (:dimension, :bucket, :delta) " +
+            "ON DUPLICATE KEY UPDATE counter_value = counter_value + VALUES(counter_value)", nativeQuery = true)
+    void increment(@Param("dimension") String dimension, @Param("bucket") String bucket, @Param("delta") long delta);
+}
@@ -0,0 +1,20 @@
+package prac.lease.repository;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import prac.lease.dto.LeaseField;
+import prac.lease.model.Lease;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Column-pruned lease reads for sparse fieldset requests. Only the requested
+ * columns are selected and each row comes back keyed by field name, with
+ * landlord and site fields nested the way {@link prac.lease.dto.LeaseResponseDto} nests them.
+ */
+public interface LeaseFieldQueryRepository {
+
+    // Find the requested fields of every lease matching the specification
+    List<Map<String, Object>> findLeaseFields(List<LeaseField> fields, Specification<Lease> specification, Sort sort);
+}
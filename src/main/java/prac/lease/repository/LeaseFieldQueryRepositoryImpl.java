@@ -0,0 +1,91 @@
+package prac.lease.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import prac.lease.dto.LeaseField;
+import prac.lease.model.Lease;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class LeaseFieldQueryRepositoryImpl implements LeaseFieldQueryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<Map<String, Object>> findLeaseFields(List<LeaseField> fields, Specification<Lease> specification, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Lease> root = query.from(Lease.class);
+
+        // Join an association once, and only when a non-key column of it is selected
+        Map<String, From<?, ?>> joins = new HashMap<>();
+        List<Selection<?>> selections = new ArrayList<>(fields.size());
+        for (LeaseField field : fields) {
+            Path<?> path;
+            if (field.getAssociation() == null) {
+                path = root.get(field.getAttribute());
+            } else if (field.needsJoin()) {
+                path = joins.computeIfAbsent(field.getAssociation(), name -> root.join(name, JoinType.INNER))
+                        .get(field.getAttribute());
+            } else {
+                path = root.get(field.getAssociation()).get(field.getAttribute());
+            }
+            selections.add(path.alias(field.getFieldName()));
+        }
+        query.multiselect(selections);
+
+        if (specification != null) {
+            Predicate predicate = specification.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            Path<?> path = root.get(order.getProperty());
+            orders.add(order.isAscending() ? cb.asc(path) : cb.desc(path));
+        }
+        query.orderBy(orders);
+
+        List<Tuple> tuples = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultList();
+
+        List<Map<String, Object>> rows = new ArrayList<>(tuples.size());
+        for (Tuple tuple : tuples) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                LeaseField field = fields.get(i);
+                Object value = tuple.get(i);
+                if (field.getAssociation() == null) {
+                    row.put(field.getFieldName(), value);
+                } else {
+                    ((Map<String, Object>) row.computeIfAbsent(field.getAssociation(), name -> new LinkedHashMap<>()))
+                            .put(field.getAttribute(), value);
+                }
+            }
+            rows.add(row);
+        }
+        return rows;
+    }
+}
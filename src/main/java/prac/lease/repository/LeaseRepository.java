@@ -1,25 +1,48 @@
 package prac.lease.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.LeaseStatisticsDto;
+import prac.lease.dto.RentalAggregateDto;
 import prac.lease.model.Lease;
 import prac.lease.model.LeaseStatus;
 import prac.lease.model.OperationalStatus;
 import prac.lease.model.RentalType;
 import prac.lease.model.LeaseType;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface LeaseRepository extends JpaRepository<Lease, Long> {
+public interface LeaseRepository extends JpaRepository<Lease, Long>, JpaSpecificationExecutor<Lease>, LeaseFieldQueryRepository {
 
     // Check if agreement number already exists
     boolean existsByAgreementNumber(String agreementNumber);
 
+    // Lock the given leases in id order so concurrent batch transitions queue rather than interleave
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT l FROM Lease l WHERE l.id IN :ids ORDER BY l.id")
+    List<Lease> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    // Find every agreement number, for duplicate checks during bulk import
+    @Query("SELECT l.agreementNumber FROM Lease l")
+    List<String> findAllAgreementNumbers();
+
     // Find leases by status
     List<Lease> findByStatus(LeaseStatus status);
 
@@ -88,19 +111,6 @@ public interface LeaseRepository extends JpaRepository<Lease, Long> {
     @Query("SELECT l FROM Lease l WHERE l.expiryDate < :currentDate AND l.status NOT IN (prac.lease.model.LeaseStatus.EXPIRED, prac.lease.model.LeaseStatus.REJECTED)")
     List<Lease> findExpiredLeasesNotProcessed(@Param("currentDate") LocalDate currentDate);
 
-    // Find leases by multiple criteria
-    @Query("SELECT l FROM Lease l WHERE " +
-            "(:agreementNumber IS NULL OR l.agreementNumber LIKE %:agreementNumber%) AND " +
-            "(:status IS NULL OR l.status = :status) AND " +
-            "(:operationalStatus IS NULL OR l.operationalStatus = :operationalStatus) AND " +
-            "(:landlordId IS NULL OR l.landlord.id = :landlordId) AND " +
-            "(:siteId IS NULL OR l.site.id = :siteId)")
-    List<Lease> findByMultipleCriteria(@Param("agreementNumber") String agreementNumber,
-                                       @Param("status") LeaseStatus status,
-                                       @Param("operationalStatus") OperationalStatus operationalStatus,
-                                       @Param("landlordId") Long landlordId,
-                                       @Param("siteId") Long siteId);
-
     // NEW: Find leases by lease category containing (case insensitive)
     List<Lease> findByLeaseCategoryContainingIgnoreCase(String leaseCategory);
 
@@ -134,9 +144,11 @@ public interface LeaseRepository extends JpaRepository<Lease, Long> {
     // NEW: Count leases by lease category
     long countByLeaseCategory(String leaseCategory);
 
-    // NEW: Find leases by rental value range (if rental value is numeric)
-    @Query("SELECT l FROM Lease l WHERE l.rentalValue IS NOT NULL AND CAST(l.rentalValue AS double) BETWEEN :minValue AND :maxValue")
-    List<Lease> findByRentalValueBetween(@Param("minValue") Double minValue, @Param("maxValue") Double maxValue);
+    // Count leases whose category contains the given text, ignoring case
+    long countByLeaseCategoryContainingIgnoreCase(String category);
+
+    // Find leases by monthly-equivalent rental range (index range scan on monthlyRentalAmount)
+    List<Lease> findByMonthlyRentalAmountBetween(BigDecimal minAmount, BigDecimal maxAmount);
 
     // NEW: Find leases with documents count greater than
     @Query("SELECT l FROM Lease l WHERE SIZE(l.documents) > :minDocumentCount")
@@ -219,6 +231,11 @@ public interface LeaseRepository extends JpaRepository<Lease, Long> {
     @Query("SELECT l.leaseCategory, COUNT(l) FROM Lease l WHERE l.leaseCategory IS NOT NULL GROUP BY l.leaseCategory")
     List<Object[]> countLeasesGroupedByLeaseCategory();
 
+    // Get lease count grouped by lease category, with missing and blank categories counted as 'Uncategorized'
+    @Query("SELECT COALESCE(NULLIF(l.leaseCategory, ''), 'Uncategorized'), COUNT(l) FROM Lease l " +
+            "GROUP BY COALESCE(NULLIF(l.leaseCategory, ''), 'Uncategorized')")
+    List<Object[]> countLeasesGroupedByCategoryOrUncategorized();
+
     // Get average renewal period for auto-renewal leases
     @Query("SELECT AVG(l.renewalPeriodMonths) FROM Lease l WHERE l.autoRenewalOption = true AND l.renewalPeriodMonths IS NOT NULL")
     Double findAverageRenewalPeriod();
@@ -226,4 +243,253 @@ public interface LeaseRepository extends JpaRepository<Lease, Long> {
     // Get leases that will expire in the next X days
     @Query("SELECT COUNT(l) FROM Lease l WHERE l.expiryDate BETWEEN :startDate AND :endDate AND l.status NOT IN (prac.lease.model.LeaseStatus.EXPIRED, prac.lease.model.LeaseStatus.REJECTED)")
     long countLeasesExpiringBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+    // ========== SINGLE-PASS STATISTICS ==========
+    // All status, expiry, auto-renewal and operational buckets are summed in one scan of the
+    // (optionally scoped) lease rows instead of one COUNT round trip per bucket.
+
+    String LEASE_STATISTICS_SELECT = "SELECT new prac.lease.dto.LeaseStatisticsDto(COUNT(l), " +
+            "SUM(CASE WHEN l.status = prac.lease.model.LeaseStatus.PENDING_APPROVAL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = prac.lease.model.LeaseStatus.APPROVED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = prac.lease.model.LeaseStatus.REJECTED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = prac.lease.model.LeaseStatus.ACTIVE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = prac.lease.model.LeaseStatus.EXPIRED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.status = prac.lease.model.LeaseStatus.AUTO_RENEWED THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.expiryDate < :today THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.expiryDate BETWEEN :today AND :weekEnd THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.expiryDate BETWEEN :today AND :monthEnd THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.expiryDate BETWEEN :today AND :quarterEnd THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.autoRenewalOption = true THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.autoRenewalOption = true AND l.status = prac.lease.model.LeaseStatus.ACTIVE THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.operationalStatus = prac.lease.model.OperationalStatus.OPERATIONAL THEN 1 ELSE 0 END), " +
+            "SUM(CASE WHEN l.operationalStatus = prac.lease.model.OperationalStatus.UNDER_DEVELOPMENT THEN 1 ELSE 0 END)) " +
+            "FROM Lease l ";
+
+    @Query(LEASE_STATISTICS_SELECT)
+    LeaseStatisticsDto computeStatistics(@Param("today") LocalDate today,
+                                         @Param("weekEnd") LocalDate weekEnd,
+                                         @Param("monthEnd") LocalDate monthEnd,
+                                         @Param("quarterEnd") LocalDate quarterEnd);
+
+    @Query(LEASE_STATISTICS_SELECT + "WHERE l.landlord.id = :landlordId")
+    LeaseStatisticsDto computeStatisticsByLandlord(@Param("landlordId") Long landlordId,
+                                                   @Param("today") LocalDate today,
+                                                   @Param("weekEnd") LocalDate weekEnd,
+                                                   @Param("monthEnd") LocalDate monthEnd,
+                                                   @Param("quarterEnd") LocalDate quarterEnd);
+
+    @Query(LEASE_STATISTICS_SELECT + "WHERE l.site.id = :siteId")
+    LeaseStatisticsDto computeStatisticsBySite(@Param("siteId") Long siteId,
+                                               @Param("today") LocalDate today,
+                                               @Param("weekEnd") LocalDate weekEnd,
+                                               @Param("monthEnd") LocalDate monthEnd,
+                                               @Param("quarterEnd") LocalDate quarterEnd);
+
+    // Category scope matches like the other category endpoints: containing, ignoring case
+    @Query(LEASE_STATISTICS_SELECT + "WHERE LOWER(l.leaseCategory) LIKE LOWER(CONCAT('%', :category, '%'))")
+    LeaseStatisticsDto computeStatisticsByCategory(@Param("category") String category,
+                                                   @Param("today") LocalDate today,
+                                                   @Param("weekEnd") LocalDate weekEnd,
+                                                   @Param("monthEnd") LocalDate monthEnd,
+                                                   @Param("quarterEnd") LocalDate quarterEnd);
+
+    // ========== DTO PROJECTIONS ==========
+    // Each query selects the lease, its landlord, its site and its document count in one
+    // statement, so building LeaseResponseDto never initializes a lazy association.
+
+    String LEASE_DTO_SELECT = "SELECT new prac.lease.dto.LeaseResponseDto(l, la, s, " +
+            "(SELECT COUNT(d) FROM Document d WHERE d.lease = l)) " +
+            "FROM Lease l JOIN l.landlord la JOIN l.site s ";
+
+    @Query(LEASE_DTO_SELECT)
+    List<LeaseResponseDto> findLeaseDtos();
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.id = :id")
+    Optional<LeaseResponseDto> findLeaseDtoById(@Param("id") Long id);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.status = :status")
+    List<LeaseResponseDto> findLeaseDtosByStatus(@Param("status") LeaseStatus status);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.operationalStatus = :operationalStatus")
+    List<LeaseResponseDto> findLeaseDtosByOperationalStatus(@Param("operationalStatus") OperationalStatus operationalStatus);
+
+    @Query(LEASE_DTO_SELECT + "WHERE la.id = :landlordId")
+    List<LeaseResponseDto> findLeaseDtosByLandlordId(@Param("landlordId") Long landlordId);
+
+    @Query(LEASE_DTO_SELECT + "WHERE s.id = :siteId")
+    List<LeaseResponseDto> findLeaseDtosBySiteId(@Param("siteId") Long siteId);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.expiryDate BETWEEN :startDate AND :endDate")
+    List<LeaseResponseDto> findLeaseDtosByExpiryDateBetween(@Param("startDate") LocalDate startDate,
+                                                            @Param("endDate") LocalDate endDate);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.expiryDate < :date")
+    List<LeaseResponseDto> findLeaseDtosByExpiryDateBefore(@Param("date") LocalDate date);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.rentalType = :rentalType")
+    List<LeaseResponseDto> findLeaseDtosByRentalType(@Param("rentalType") RentalType rentalType);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.leaseType = :leaseType")
+    List<LeaseResponseDto> findLeaseDtosByLeaseType(@Param("leaseType") LeaseType leaseType);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.autoRenewalOption = :autoRenewalOption")
+    List<LeaseResponseDto> findLeaseDtosByAutoRenewalOption(@Param("autoRenewalOption") boolean autoRenewalOption);
+
+    // Positive IN list so the status index is usable; relies on the expiry sweeper keeping statuses current
+    @Query(LEASE_DTO_SELECT + "WHERE l.status IN (prac.lease.model.LeaseStatus.PENDING_APPROVAL, " +
+            "prac.lease.model.LeaseStatus.APPROVED, prac.lease.model.LeaseStatus.ACTIVE, prac.lease.model.LeaseStatus.AUTO_RENEWED)")
+    List<LeaseResponseDto> findActiveLeaseDtos();
+
+    @Query(LEASE_DTO_SELECT + "WHERE EXISTS (SELECT 1 FROM Document d WHERE d.lease = l)")
+    List<LeaseResponseDto> findLeaseDtosWithDocuments();
+
+    @Query(LEASE_DTO_SELECT + "WHERE NOT EXISTS (SELECT 1 FROM Document d WHERE d.lease = l)")
+    List<LeaseResponseDto> findLeaseDtosWithoutDocuments();
+
+    @Query(LEASE_DTO_SELECT + "WHERE LOWER(l.leaseCategory) LIKE LOWER(CONCAT('%', :category, '%'))")
+    List<LeaseResponseDto> findLeaseDtosByCategoryContaining(@Param("category") String category);
+
+    @Query(LEASE_DTO_SELECT + "WHERE LOWER(l.leaseCategory) LIKE LOWER(CONCAT('%', :category, '%')) AND l.status = :status")
+    List<LeaseResponseDto> findLeaseDtosByCategoryContainingAndStatus(@Param("category") String category,
+                                                                      @Param("status") LeaseStatus status);
+
+    // Find the searchable columns of every lease for the quick-search index
+    @Query("SELECT l.id, l.agreementNumber FROM Lease l")
+    List<Object[]> findQuickSearchEntries();
+
+    // Document counts for a page of leases, keyed by lease id
+    @Query("SELECT d.lease.id, COUNT(d) FROM Document d WHERE d.lease.id IN :leaseIds GROUP BY d.lease.id")
+    List<Object[]> countDocumentsByLeaseIds(@Param("leaseIds") List<Long> leaseIds);
+
+    // ========== RENTAL AMOUNTS ==========
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.monthlyRentalAmount BETWEEN :minAmount AND :maxAmount " +
+            "ORDER BY l.monthlyRentalAmount ASC, l.id ASC")
+    List<LeaseResponseDto> findLeaseDtosByMonthlyRentalBetween(@Param("minAmount") BigDecimal minAmount,
+                                                               @Param("maxAmount") BigDecimal maxAmount);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.currency = :currency AND l.monthlyRentalAmount BETWEEN :minAmount AND :maxAmount " +
+            "ORDER BY l.monthlyRentalAmount ASC, l.id ASC")
+    List<LeaseResponseDto> findLeaseDtosByCurrencyAndMonthlyRentalBetween(@Param("currency") String currency,
+                                                                          @Param("minAmount") BigDecimal minAmount,
+                                                                          @Param("maxAmount") BigDecimal maxAmount);
+
+    String RENTAL_AGGREGATE_SELECT = "SELECT new prac.lease.dto.RentalAggregateDto(l.currency, COUNT(l), " +
+            "SUM(l.monthlyRentalAmount), AVG(l.monthlyRentalAmount), MIN(l.monthlyRentalAmount), MAX(l.monthlyRentalAmount)) " +
+            "FROM Lease l WHERE l.monthlyRentalAmount IS NOT NULL ";
+
+    // Monthly rental SUM/AVG/MIN/MAX per currency
+    @Query(RENTAL_AGGREGATE_SELECT + "GROUP BY l.currency ORDER BY l.currency")
+    List<RentalAggregateDto> aggregateMonthlyRental();
+
+    @Query(RENTAL_AGGREGATE_SELECT + "AND l.status = :status GROUP BY l.currency ORDER BY l.currency")
+    List<RentalAggregateDto> aggregateMonthlyRentalByStatus(@Param("status") LeaseStatus status);
+
+    // Amount source columns of leases whose numeric amounts have not been derived yet, in id order for chunked backfill
+    @Query("SELECT l.id, l.rentalType, l.rentalValue, l.commencementAmount, l.currency FROM Lease l WHERE l.id > :afterId AND " +
+            "((l.rentalValue IS NOT NULL AND l.rentalAmount IS NULL) OR " +
+            "(l.commencementAmount IS NOT NULL AND l.commencementAmountValue IS NULL)) ORDER BY l.id ASC")
+    List<Object[]> findUnderivedAmountSources(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ========== BATCH JOBS ==========
+
+    // Ids of every overdue auto-renewing lease, however long ago it expired, in id order for chunked renewal
+    @Query("SELECT l.id FROM Lease l WHERE l.autoRenewalOption = true AND l.renewalPeriodMonths > 0 " +
+            "AND l.status IN :statuses AND l.expiryDate <= :today AND l.id > :afterId " +
+            "ORDER BY l.id ASC")
+    List<Long> findRenewalCandidateIds(@Param("today") LocalDate today,
+                                       @Param("statuses") List<LeaseStatus> statuses,
+                                       @Param("afterId") Long afterId,
+                                       Pageable pageable);
+
+    String EXPIRY_SWEEP_WHERE = "WHERE l.status IN :statuses AND l.expiryDate < :today " +
+            "AND (l.autoRenewalOption = false OR l.renewalPeriodMonths IS NULL OR l.renewalPeriodMonths <= 0) ";
+
+    // Ids of the leases the expiry sweeper has to move to EXPIRED, after a keyset position in id order
+    @Query("SELECT l.id FROM Lease l " + EXPIRY_SWEEP_WHERE + "AND l.id > :afterId ORDER BY l.id ASC")
+    List<Long> findExpirySweepIds(@Param("statuses") List<LeaseStatus> statuses,
+                                  @Param("today") LocalDate today,
+                                  @Param("afterId") Long afterId,
+                                  Pageable pageable);
+
+    // The given leases that are still overdue and non-renewing, for one sweep chunk
+    @Query("SELECT l FROM Lease l " + EXPIRY_SWEEP_WHERE + "AND l.id IN :ids")
+    List<Lease> findExpirySweepChunk(@Param("statuses") List<LeaseStatus> statuses,
+                                     @Param("today") LocalDate today,
+                                     @Param("ids") Collection<Long> ids);
+
+    // ========== CONDITIONAL GET VALIDATORS ==========
+
+    // Versions of a lease and of everything its DTO embeds: id, version, landlord and site versions, document count, modification times
+    @Query("SELECT l.id, l.version, o.version, s.version, SIZE(l.documents), " +
+            "l.modificationTime, o.modificationTime, s.modificationTime " +
+            "FROM Lease l JOIN l.landlord o JOIN l.site s WHERE l.id = :id")
+    List<Object[]> findLeaseVersionById(@Param("id") Long id);
+
+    // ========== STREAMING ==========
+
+    // Integer.MIN_VALUE makes MySQL Connector/J stream rows one at a time instead of buffering the result set
+    String STREAM_FETCH_SIZE = "" + Integer.MIN_VALUE;
+
+    @Query(LEASE_DTO_SELECT + "ORDER BY l.id ASC")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<LeaseResponseDto> streamLeaseDtos();
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.status = :status ORDER BY l.id ASC")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<LeaseResponseDto> streamLeaseDtosByStatus(@Param("status") LeaseStatus status);
+
+    @Query(LEASE_DTO_SELECT + "WHERE LOWER(l.leaseCategory) LIKE LOWER(CONCAT('%', :category, '%')) ORDER BY l.id ASC")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<LeaseResponseDto> streamLeaseDtosByCategoryContaining(@Param("category") String category);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.expiryDate < :date ORDER BY l.id ASC")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<LeaseResponseDto> streamLeaseDtosByExpiryDateBefore(@Param("date") LocalDate date);
+
+    @Query(LEASE_DTO_SELECT + "WHERE l.expiryDate BETWEEN :startDate AND :endDate ORDER BY l.id ASC")
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    Stream<LeaseResponseDto> streamLeaseDtosByExpiryDateBetween(@Param("startDate") LocalDate startDate,
+                                                                @Param("endDate") LocalDate endDate);
+
+    // ========== KEYSET PAGINATION ==========
+
+    // Next slice ordered by id, starting after the given id
+    @Query(LEASE_DTO_SELECT + "WHERE l.id > :afterId ORDER BY l.id ASC")
+    Slice<LeaseResponseDto> findSliceAfterId(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Next slice of a status ordered by id, starting after the given id
+    @Query(LEASE_DTO_SELECT + "WHERE l.status = :status AND l.id > :afterId ORDER BY l.id ASC")
+    Slice<LeaseResponseDto> findSliceByStatusAfterId(@Param("status") LeaseStatus status,
+                                                     @Param("afterId") Long afterId,
+                                                     Pageable pageable);
+
+    // First slice ordered by expiry date (id breaks ties)
+    @Query(LEASE_DTO_SELECT + "ORDER BY l.expiryDate ASC, l.id ASC")
+    Slice<LeaseResponseDto> findFirstSliceByExpiry(Pageable pageable);
+
+    // First slice of a status ordered by expiry date (id breaks ties)
+    @Query(LEASE_DTO_SELECT + "WHERE l.status = :status ORDER BY l.expiryDate ASC, l.id ASC")
+    Slice<LeaseResponseDto> findFirstSliceByStatusAndExpiry(@Param("status") LeaseStatus status, Pageable pageable);
+
+    // Next slice ordered by expiry date, seeking past the (expiryDate, id) of the previous slice
+    @Query(LEASE_DTO_SELECT + "WHERE l.expiryDate > :afterExpiry OR (l.expiryDate = :afterExpiry AND l.id > :afterId) " +
+            "ORDER BY l.expiryDate ASC, l.id ASC")
+    Slice<LeaseResponseDto> findSliceAfterExpiry(@Param("afterExpiry") LocalDate afterExpiry,
+                                                 @Param("afterId") Long afterId,
+                                                 Pageable pageable);
+
+    // Next slice of a status ordered by expiry date, seeking past the (expiryDate, id) of the previous slice
+    @Query(LEASE_DTO_SELECT + "WHERE l.status = :status AND " +
+            "(l.expiryDate > :afterExpiry OR (l.expiryDate = :afterExpiry AND l.id > :afterId)) " +
+            "ORDER BY l.expiryDate ASC, l.id ASC")
+    Slice<LeaseResponseDto> findSliceByStatusAfterExpiry(@Param("status") LeaseStatus status,
+                                                         @Param("afterExpiry") LocalDate afterExpiry,
+                                                         @Param("afterId") Long afterId,
+                                                         Pageable pageable);
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package prac.lease.repository;
+
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+import prac.lease.model.OperationalStatus;
+
+/**
+ * Composable filters for dynamic lease search. Each factory returns null when
+ * its filter is not supplied, and Specification.where/and skip nulls, so the
+ * generated SQL only carries the predicates the caller asked for and MySQL can
+ * pick a matching index instead of scanning the table.
+ */
+public final class LeaseSpecifications {
+
+    private LeaseSpecifications() {
+    }
+
+    // Build a search from the optional filters; absent filters add no predicate
+    public static Specification<Lease> search(String agreementNumberPrefix, LeaseStatus status,
+                                              OperationalStatus operationalStatus, Long landlordId, Long siteId) {
+        return Specification.where(fetchLandlordAndSite())
+                .and(filter(agreementNumberPrefix, status, operationalStatus, landlordId, siteId));
+    }
+
+    // The search predicates alone, for projections that select columns instead of entities
+    public static Specification<Lease> filter(String agreementNumberPrefix, LeaseStatus status,
+                                              OperationalStatus operationalStatus, Long landlordId, Long siteId) {
+        return Specification.where(agreementNumberStartsWith(agreementNumberPrefix))
+                .and(hasStatus(status))
+                .and(hasOperationalStatus(operationalStatus))
+                .and(hasLandlord(landlordId))
+                .and(hasSite(siteId));
+    }
+
+    // Prefix-anchored match so the unique agreement number index can be range-scanned
+    public static Specification<Lease> agreementNumberStartsWith(String prefix) {
+        if (prefix == null || prefix.isBlank()) {
+            return null;
+        }
+        String pattern = escapeLike(prefix.trim()) + "%";
+        return (root, query, cb) -> cb.like(root.get("agreementNumber"), pattern, '\\');
+    }
+
+    public static Specification<Lease> hasStatus(LeaseStatus status) {
+        return status == null ? null : (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Lease> hasOperationalStatus(OperationalStatus operationalStatus) {
+        return operationalStatus == null ? null
+                : (root, query, cb) -> cb.equal(root.get("operationalStatus"), operationalStatus);
+    }
+
+    public static Specification<Lease> hasLandlord(Long landlordId) {
+        return landlordId == null ? null : (root, query, cb) -> cb.equal(root.get("landlord").get("id"), landlordId);
+    }
+
+    public static Specification<Lease> hasSite(Long siteId) {
+        return siteId == null ? null : (root, query, cb) -> cb.equal(root.get("site").get("id"), siteId);
+    }
+
+    // Fetch landlord and site with the page itself; skipped for the count query
+    public static Specification<Lease> fetchLandlordAndSite() {
+        return (root, query, cb) -> {
+            if (query.getResultType() != Long.class && query.getResultType() != long.class) {
+                root.fetch("landlord", JoinType.INNER);
+                root.fetch("site", JoinType.INNER);
+            }
+            return null;
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,9 @@
+package prac.lease.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+import prac.lease.model.RegisterVersion;
+
+@Repository
+public interface RegisterVersionRepository extends JpaRepository<RegisterVersion, Long> {
+}
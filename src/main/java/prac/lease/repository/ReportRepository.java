@@ -1,9 +1,17 @@
 package prac.lease.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import prac.lease.model.Report;
+import prac.lease.model.ReportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
@@ -13,4 +21,67 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
 
     // Find reports by name
     List<Report> findByReportNameContaining(String reportName);
-}
\ No newline at end of file
+
+    // Find the latest job producing the same output under the same watermark
+    Optional<Report> findFirstByCacheKeyAndJobStatusInOrderByIdDesc(String cacheKey, Collection<ReportJobStatus> statuses);
+
+    // ========== JOB STATE ==========
+    // Bulk updates, so the worker never loads, versions or audits the report it is writing.
+    // Each one is guarded on the current status and returns 0 if the job was deleted or already finished.
+
+    // Claim a queued job for a worker
+    @Modifying
+    @Query("UPDATE Report r SET r.jobStatus = prac.lease.model.ReportJobStatus.RUNNING, r.startedAt = :startedAt " +
+            "WHERE r.id = :id AND r.jobStatus = prac.lease.model.ReportJobStatus.QUEUED")
+    int markRunning(@Param("id") Long id, @Param("startedAt") LocalDateTime startedAt);
+
+    // Checkpoint the row counters of a running job
+    @Modifying
+    @Query("UPDATE Report r SET r.rowsProcessed = :rowsProcessed, r.rowsTotal = :rowsTotal, r.progress = :progress " +
+            "WHERE r.id = :id AND r.jobStatus = prac.lease.model.ReportJobStatus.RUNNING")
+    int updateProgress(@Param("id") Long id, @Param("rowsProcessed") long rowsProcessed,
+                       @Param("rowsTotal") Long rowsTotal, @Param("progress") int progress);
+
+    @Modifying
+    @Query("UPDATE Report r SET r.jobStatus = prac.lease.model.ReportJobStatus.COMPLETED, r.progress = 100, " +
+            "r.rowsProcessed = :rowsProcessed, r.rowsTotal = :rowsProcessed, r.artifactPath = :artifactPath, " +
+            "r.artifactSize = :artifactSize, r.artifactSha256 = :artifactSha256, " +
+            "r.finishedAt = :finishedAt, r.generationDate = :finishedAt " +
+            "WHERE r.id = :id AND r.jobStatus = prac.lease.model.ReportJobStatus.RUNNING")
+    int markCompleted(@Param("id") Long id, @Param("rowsProcessed") long rowsProcessed,
+                      @Param("artifactPath") String artifactPath, @Param("artifactSize") long artifactSize,
+                      @Param("artifactSha256") String artifactSha256, @Param("finishedAt") LocalDateTime finishedAt);
+
+    @Modifying
+    @Query("UPDATE Report r SET r.jobStatus = prac.lease.model.ReportJobStatus.FAILED, r.errorMessage = :errorMessage, " +
+            "r.finishedAt = :finishedAt WHERE r.id = :id AND r.jobStatus IN " +
+            "(prac.lease.model.ReportJobStatus.QUEUED, prac.lease.model.ReportJobStatus.RUNNING)")
+    int markFailed(@Param("id") Long id, @Param("errorMessage") String errorMessage,
+                   @Param("finishedAt") LocalDateTime finishedAt);
+
+    // Refresh the heartbeat of every job an instance still holds
+    @Modifying
+    @Query("UPDATE Report r SET r.heartbeatAt = :heartbeatAt WHERE r.ownerInstance = :ownerInstance AND r.jobStatus IN " +
+            "(prac.lease.model.ReportJobStatus.QUEUED, prac.lease.model.ReportJobStatus.RUNNING)")
+    int touchHeartbeats(@Param("ownerInstance") String ownerInstance, @Param("heartbeatAt") LocalDateTime heartbeatAt);
+
+    // Jobs this instance held before a restart, and jobs whose owner stopped sending heartbeats.
+    // Rows from before ownership was recorded have neither and are treated as abandoned.
+    @Modifying
+    @Query("UPDATE Report r SET r.jobStatus = prac.lease.model.ReportJobStatus.FAILED, r.errorMessage = :errorMessage, " +
+            "r.finishedAt = :finishedAt WHERE r.jobStatus IN " +
+            "(prac.lease.model.ReportJobStatus.QUEUED, prac.lease.model.ReportJobStatus.RUNNING) " +
+            "AND (r.ownerInstance = :ownerInstance OR r.ownerInstance IS NULL " +
+            "OR r.heartbeatAt IS NULL OR r.heartbeatAt < :staleBefore)")
+    int failAbandonedJobs(@Param("ownerInstance") String ownerInstance, @Param("staleBefore") LocalDateTime staleBefore,
+                          @Param("errorMessage") String errorMessage, @Param("finishedAt") LocalDateTime finishedAt);
+
+    // Jobs whose owner stopped sending heartbeats
+    @Modifying
+    @Query("UPDATE Report r SET r.jobStatus = prac.lease.model.ReportJobStatus.FAILED, r.errorMessage = :errorMessage, " +
+            "r.finishedAt = :finishedAt WHERE r.jobStatus IN " +
+            "(prac.lease.model.ReportJobStatus.QUEUED, prac.lease.model.ReportJobStatus.RUNNING) " +
+            "AND r.heartbeatAt < :staleBefore")
+    int failStaleJobs(@Param("staleBefore") LocalDateTime staleBefore,
+                      @Param("errorMessage") String errorMessage, @Param("finishedAt") LocalDateTime finishedAt);
+}
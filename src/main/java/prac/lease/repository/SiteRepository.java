@@ -1,9 +1,16 @@
 package prac.lease.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import prac.lease.model.Site;
 
+import java.util.List;
+
 @Repository
 public interface SiteRepository extends JpaRepository<Site, Long> {
+
+    // Find the searchable columns of every site for the quick-search index
+    @Query("SELECT s.id, s.siteName, s.district, s.zone FROM Site s")
+    List<Object[]> findQuickSearchEntries();
 }
\ No newline at end of file
@@ -0,0 +1,104 @@
+package prac.lease.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import prac.lease.dto.ApiResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes a repository stream straight to the response in the usual ApiResponse
+ * envelope, {"success":true,"message":...,"body":[...]}, without building the list.
+ * <p>
+ * The stream is opened inside a read-only transaction on the response thread.
+ * The persistence context is cleared every {@link #WINDOW_SIZE} rows, so only a
+ * bounded window of rows is ever held in memory.
+ */
+@Component
+public class ApiResponseStreamer {
+
+    public static final int WINDOW_SIZE = 500;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ApiResponseStreamer(ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public <T> StreamingResponseBody stream(String message, Supplier<Stream<T>> source) {
+        return stream(message, source, Function.identity());
+    }
+
+    public <T, R> StreamingResponseBody stream(String message, Supplier<Stream<T>> source, Function<T, R> mapper) {
+        return out -> readOnlyTransaction.executeWithoutResult(status -> write(out, message, source, mapper));
+    }
+
+    // An error envelope in the same shape, for requests rejected before streaming starts
+    public StreamingResponseBody failure(String message) {
+        return out -> {
+            JsonGenerator generator = objectMapper.createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            objectMapper.writeValue(generator, new ApiResponse<>(false, message, null));
+        };
+    }
+
+    private <T, R> void write(OutputStream out, String message, Supplier<Stream<T>> source, Function<T, R> mapper) {
+        try {
+            write(out, message, source.get().map(mapper), rows -> { });
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes an already opened stream in the envelope and closes it. The caller
+     * owns the surrounding transaction. {@code onWindow} receives the running row
+     * count after each window.
+     *
+     * @return the number of rows written.
+     */
+    public <T> long write(OutputStream out, String message, Stream<T> source, LongConsumer onWindow) throws IOException {
+        try (Stream<T> rows = source;
+             JsonGenerator generator = objectMapper.createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeBooleanField("success", true);
+            generator.writeStringField("message", message);
+            generator.writeArrayFieldStart("body");
+
+            Iterator<T> iterator = rows.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (++written % WINDOW_SIZE == 0) {
+                    entityManager.clear();
+                    generator.flush();
+                    onWindow.accept(written);
+                }
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            return written;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package prac.lease.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV in UTF-8 with a byte order mark, which Excel needs to detect the
+ * encoding and the lease importer strips again. Text that a spreadsheet would
+ * evaluate as a formula is written with a leading apostrophe, per OWASP's CSV
+ * injection guidance; numbers are written as they are.
+ */
+class CsvArtifactWriter implements ReportArtifactWriter {
+
+    private final Writer writer;
+
+    CsvArtifactWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        this.writer.write('\uFEFF');
+    }
+
+    @Override
+    public void writeRow(List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            String field = ReportArtifactWriter.text(value);
+            if (!(value instanceof Number) && startsFormula(field)) {
+                field = "'" + field;
+            }
+            writeField(field);
+        }
+        writer.write("\r\n");
+    }
+
+    private static boolean startsFormula(String field) {
+        if (field.isEmpty()) {
+            return false;
+        }
+        char first = field.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+
+    private void writeField(String field) throws IOException {
+        if (field.indexOf(',') < 0 && field.indexOf('"') < 0 && field.indexOf('\n') < 0 && field.indexOf('\r') < 0) {
+            writer.write(field);
+            return;
+        }
+        writer.write('"');
+        writer.write(field.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+}
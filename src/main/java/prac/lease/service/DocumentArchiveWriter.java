@@ -0,0 +1,76 @@
+package prac.lease.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Streams stored document files into a zip archive as STORED entries. PDFs are
+ * already compressed internally, so deflating them again would cost CPU for
+ * almost nothing. A STORED entry carries its size and CRC-32 ahead of the data,
+ * so each file is read twice through one fixed buffer: once for the checksum,
+ * then again to copy it. Memory does not grow with the size of the files.
+ */
+class DocumentArchiveWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern UNSAFE_NAME_CHARACTERS = Pattern.compile("[\\\\/:*?\"<>|\\p{Cntrl}]");
+
+    private final ZipOutputStream zip;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    DocumentArchiveWriter(OutputStream out) {
+        this.zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+        this.zip.setMethod(ZipOutputStream.STORED);
+    }
+
+    void addFile(String name, Path file) throws IOException {
+        long size = Files.size(file);
+        ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(ZipEntry.STORED);
+        entry.setSize(size);
+        entry.setCompressedSize(size);
+        entry.setCrc(crc32(file));
+        entry.setLastModifiedTime(Files.getLastModifiedTime(file));
+
+        zip.putNextEntry(entry);
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                zip.write(buffer, 0, read);
+            }
+        }
+        zip.closeEntry();
+    }
+
+    // Writes the central directory; the caller's stream is left open
+    void finish() throws IOException {
+        zip.finish();
+        zip.flush();
+    }
+
+    // Prefixed with the document ID so two documents with the same file name never collide, and kept to a flat name
+    static String entryName(Long documentId, String fileName) {
+        String name = fileName == null || fileName.isBlank() ? "document.pdf" : fileName.strip();
+        name = UNSAFE_NAME_CHARACTERS.matcher(name).replaceAll("_");
+        return documentId + "-" + name;
+    }
+
+    private long crc32(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+}
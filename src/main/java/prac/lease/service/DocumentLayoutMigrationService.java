@@ -0,0 +1,24 @@
+package prac.lease.service;
+
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the job that moves stored documents into the sharded on-disk layout.
+ */
+public interface DocumentLayoutMigrationService {
+    /**
+     * Moves every document file not yet in the sharded layout and rewrites its fileUrl.
+     * Files stored before deduplication are hashed and taken into the document store on the way.
+     * @return ApiResponse containing the metrics of this run.
+     */
+    ApiResponse<BatchJobRunResponseDto> runMigration();
+
+    /**
+     * Retrieves the most recent migration runs, newest first.
+     * @return ApiResponse containing the run history.
+     */
+    ApiResponse<List<BatchJobRunResponseDto>> getRecentRuns();
+}
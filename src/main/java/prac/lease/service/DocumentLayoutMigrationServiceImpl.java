@@ -0,0 +1,172 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.model.BatchJobRun;
+import prac.lease.model.BatchJobStatus;
+import prac.lease.model.Document;
+import prac.lease.model.DocumentBlob;
+import prac.lease.repository.BatchJobRunRepository;
+import prac.lease.repository.DocumentRepository;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Moves document files from the flat documents directory into the sharded
+ * layout of the document store, in id-ordered chunks.
+ * <p>
+ * Each chunk commits on its own, so the fileUrl rewrites go out as one JDBC
+ * batch with one Envers revision. A file is moved before its row is rewritten
+ * and is moved back if the chunk rolls back. A row that is already in place
+ * is skipped, so the job can be re-run after an interruption.
+ */
+@Service
+@Slf4j
+public class DocumentLayoutMigrationServiceImpl implements DocumentLayoutMigrationService {
+
+    public static final String JOB_NAME = "document-layout-migration";
+
+    private final DocumentRepository documentRepository;
+    private final DocumentStoreService documentStoreService;
+    private final BatchJobRunRepository batchJobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${lease.document_layout.chunk_size:200}")
+    private int chunkSize;
+
+    public DocumentLayoutMigrationServiceImpl(DocumentRepository documentRepository,
+                                              DocumentStoreService documentStoreService,
+                                              BatchJobRunRepository batchJobRunRepository,
+                                              PlatformTransactionManager transactionManager) {
+        this.documentRepository = documentRepository;
+        this.documentStoreService = documentStoreService;
+        this.batchJobRunRepository = batchJobRunRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public ApiResponse<BatchJobRunResponseDto> runMigration() {
+        if (!running.compareAndSet(false, true)) {
+            return new ApiResponse<>(false, "A document layout migration is already in progress.", null);
+        }
+        try {
+            BatchJobRun run = execute();
+            return new ApiResponse<>(run.getStatus() != BatchJobStatus.FAILED,
+                    "Document layout migration finished with status " + run.getStatus() + ".", new BatchJobRunResponseDto(run));
+        } catch (Exception e) {
+            log.error("Document layout migration could not be started", e);
+            return new ApiResponse<>(false, "Error running document layout migration.", null);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public ApiResponse<List<BatchJobRunResponseDto>> getRecentRuns() {
+        try {
+            List<BatchJobRunResponseDto> runs = batchJobRunRepository.findTop20ByJobNameOrderByIdDesc(JOB_NAME).stream()
+                    .map(BatchJobRunResponseDto::new)
+                    .collect(Collectors.toList());
+            return new ApiResponse<>(true, "Document layout migration runs retrieved successfully.", runs);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching document layout migration runs.", null);
+        }
+    }
+
+    private BatchJobRun execute() {
+        BatchJobRun run = batchJobRunRepository.save(new BatchJobRun(JOB_NAME));
+        long start = System.currentTimeMillis();
+
+        try {
+            long afterId = 0;
+            while (true) {
+                long from = afterId;
+                ChunkResult result = transactionTemplate.execute(status -> migrateChunk(from));
+                if (result == null || result.read() == 0) {
+                    break;
+                }
+                run.incrementChunks();
+                run.addRowsRead(result.read());
+                run.addRowsUpdated(result.updated());
+                run.addFailures(result.failed());
+                afterId = result.lastId();
+            }
+
+            run.setStatus(run.getFailures() == 0 ? BatchJobStatus.SUCCEEDED : BatchJobStatus.COMPLETED_WITH_FAILURES);
+            run.setWatermark(LocalDate.now());
+        } catch (RuntimeException e) {
+            // A chunk that rolled back would only fail again, so the run stops there; its files were moved back
+            log.error("Document layout migration failed", e);
+            run.setStatus(BatchJobStatus.FAILED);
+            run.setErrorMessage(e.getMessage());
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMillis(System.currentTimeMillis() - start);
+            batchJobRunRepository.save(run);
+        }
+
+        log.info("Document layout migration {}: {} read, {} moved, {} failed in {} chunk(s), {} ms",
+                run.getStatus(), run.getRowsRead(), run.getRowsUpdated(), run.getFailures(), run.getChunks(),
+                run.getDurationMillis());
+        return run;
+    }
+
+    private ChunkResult migrateChunk(long afterId) {
+        List<Document> documents = documentRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.of(0, chunkSize));
+        int updated = 0;
+        int failed = 0;
+        for (Document document : documents) {
+            try {
+                if (migrate(document)) {
+                    updated++;
+                }
+            } catch (IOException e) {
+                // Typically a row whose file is already gone; it is left for the orphan checks to report
+                log.warn("Could not migrate file of document {} at {}", document.getId(), document.getFileUrl(), e);
+                failed++;
+            }
+        }
+        long lastId = documents.isEmpty() ? afterId : documents.get(documents.size() - 1).getId();
+        return new ChunkResult(documents.size(), updated, failed, lastId);
+    }
+
+    // Returns whether the row was rewritten
+    private boolean migrate(Document document) throws IOException {
+        if (document.getFileUrl() == null || document.getFileUrl().isEmpty()) {
+            return false;
+        }
+        Path current = Paths.get(document.getFileUrl());
+        if (document.getContentHash() != null && current.equals(documentStoreService.pathFor(document.getContentHash()))) {
+            return false;
+        }
+
+        // Files from before deduplication are hashed and taken into the store first
+        if (document.getContentHash() == null) {
+            DocumentBlob blob = documentStoreService.adopt(current);
+            document.setContentHash(blob.getSha256());
+            current = Paths.get(blob.getStoragePath());
+        }
+
+        Path target = documentStoreService.relocate(document.getContentHash(), current);
+        document.setFileUrl(target.toString());
+        return true;
+    }
+
+    private record ChunkResult(int read, int updated, int failed, long lastId) {
+    }
+}
@@ -0,0 +1,43 @@
+package prac.lease.service;
+
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Service interface for deleting stored document files after the rows that used them are gone.
+ */
+public interface DocumentReclamationService {
+    /**
+     * Queues a file for deletion, in the caller's transaction.
+     * @param path The file to delete.
+     * @param sha256 The blob's content hash, or null for a file outside the content-addressed store.
+     */
+    void enqueue(Path path, String sha256);
+
+    /**
+     * Cancels any queued deletion of a blob, because the same bytes are being stored again.
+     * @param sha256 The blob's content hash.
+     */
+    void cancel(String sha256);
+
+    /**
+     * Drains the tombstone queue with throttled deletes.
+     * @return The number of files deleted.
+     */
+    int reclaim();
+
+    /**
+     * Queues every file in the store that no document or blob row refers to.
+     * @return ApiResponse containing the metrics of this run.
+     */
+    ApiResponse<BatchJobRunResponseDto> collectOrphans();
+
+    /**
+     * Retrieves the most recent orphan collection runs, newest first.
+     * @return ApiResponse containing the run history.
+     */
+    ApiResponse<List<BatchJobRunResponseDto>> getRecentOrphanRuns();
+}
@@ -0,0 +1,284 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.model.BatchJobRun;
+import prac.lease.model.BatchJobStatus;
+import prac.lease.model.FileTombstone;
+import prac.lease.repository.BatchJobRunRepository;
+import prac.lease.repository.DocumentBlobRepository;
+import prac.lease.repository.DocumentRepository;
+import prac.lease.repository.FileTombstoneRepository;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Deletes document files through a durable tombstone queue.
+ * <p>
+ * Deletes only write a tombstone, in the same transaction that removes the
+ * rows, so they stay fast and a rollback never leaves a row pointing at a
+ * deleted file. A scheduled reclaimer drains the queue in locked batches and
+ * paces its deletes so a large bulk delete cannot saturate the disk. Before
+ * deleting a file it checks that nothing has started referring to it again.
+ * A nightly orphan collector walks the store and queues any file that no
+ * document or blob row refers to.
+ */
+@Service
+@Slf4j
+public class DocumentReclamationServiceImpl implements DocumentReclamationService {
+
+    public static final String ORPHAN_JOB_NAME = "document-orphan-collection";
+
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Pattern BLOB_FILE_NAME = Pattern.compile("([0-9a-f]{64})\\.pdf");
+
+    private final FileTombstoneRepository fileTombstoneRepository;
+    private final DocumentBlobRepository documentBlobRepository;
+    private final DocumentRepository documentRepository;
+    private final BatchJobRunRepository batchJobRunRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean reclaiming = new AtomicBoolean(false);
+    private final AtomicBoolean collecting = new AtomicBoolean(false);
+
+    @Value("${file.upload.path}")
+    private String fileUploadBaseDir;
+
+    @Value("${lease.document_reclaim.batch_size:100}")
+    private int batchSize;
+
+    @Value("${lease.document_reclaim.max_deletes_per_second:50}")
+    private int maxDeletesPerSecond;
+
+    @Value("${lease.document_reclaim.orphan_grace_minutes:60}")
+    private long orphanGraceMinutes;
+
+    public DocumentReclamationServiceImpl(FileTombstoneRepository fileTombstoneRepository,
+                                          DocumentBlobRepository documentBlobRepository,
+                                          DocumentRepository documentRepository,
+                                          BatchJobRunRepository batchJobRunRepository,
+                                          PlatformTransactionManager transactionManager) {
+        this.fileTombstoneRepository = fileTombstoneRepository;
+        this.documentBlobRepository = documentBlobRepository;
+        this.documentRepository = documentRepository;
+        this.batchJobRunRepository = batchJobRunRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // ========== QUEUE ==========
+
+    @Override
+    @Transactional
+    public void enqueue(Path path, String sha256) {
+        fileTombstoneRepository.save(new FileTombstone(path.toString(), sha256));
+    }
+
+    @Override
+    @Transactional
+    public void cancel(String sha256) {
+        fileTombstoneRepository.deleteBySha256(sha256);
+    }
+
+    // ========== RECLAIMER ==========
+
+    @Scheduled(fixedDelayString = "${lease.document_reclaim.fixed_delay:30000}")
+    public void scheduledReclaim() {
+        reclaim();
+    }
+
+    @Override
+    public int reclaim() {
+        if (!reclaiming.compareAndSet(false, true)) {
+            return 0;
+        }
+        try {
+            int deleted = 0;
+            while (true) {
+                int[] batch = transactionTemplate.execute(status -> reclaimBatch());
+                if (batch == null || batch[0] == 0) {
+                    break;
+                }
+                deleted += batch[1];
+                if (batch[0] < batchSize) {
+                    break;
+                }
+            }
+            if (deleted > 0) {
+                log.info("Reclaimed {} document file(s)", deleted);
+            }
+            return deleted;
+        } catch (RuntimeException e) {
+            log.error("Document file reclamation failed", e);
+            return 0;
+        } finally {
+            reclaiming.set(false);
+        }
+    }
+
+    // Returns {tombstones taken, files deleted}; failed deletes stay queued with their attempt count raised
+    private int[] reclaimBatch() {
+        List<FileTombstone> tombstones = fileTombstoneRepository.findReclaimBatch(MAX_ATTEMPTS, PageRequest.of(0, batchSize));
+        List<FileTombstone> resolved = new ArrayList<>(tombstones.size());
+        long pauseNanos = maxDeletesPerSecond > 0 ? TimeUnit.SECONDS.toNanos(1) / maxDeletesPerSecond : 0;
+        int deleted = 0;
+
+        for (FileTombstone tombstone : tombstones) {
+            if (stillReferenced(tombstone)) {
+                resolved.add(tombstone);
+                continue;
+            }
+            try {
+                if (Files.deleteIfExists(Paths.get(tombstone.getPath()))) {
+                    deleted++;
+                    LockSupport.parkNanos(pauseNanos);
+                }
+                resolved.add(tombstone);
+            } catch (IOException e) {
+                tombstone.recordFailure(e.toString());
+                if (tombstone.getAttempts() >= MAX_ATTEMPTS) {
+                    log.error("Giving up on deleting {} after {} attempts", tombstone.getPath(), tombstone.getAttempts(), e);
+                }
+            }
+        }
+        fileTombstoneRepository.deleteAllInBatch(resolved);
+        return new int[]{tombstones.size(), deleted};
+    }
+
+    // A blob stored again at the same path, or a row written since the file was queued, keeps it
+    private boolean stillReferenced(FileTombstone tombstone) {
+        return documentBlobRepository.existsByStoragePath(tombstone.getPath())
+                || documentRepository.existsByFileUrl(tombstone.getPath());
+    }
+
+    // ========== ORPHAN COLLECTOR ==========
+
+    @Scheduled(cron = "${lease.document_reclaim.orphan_cron:0 15 3 * * *}")
+    public void scheduledOrphanCollection() {
+        collectOrphans();
+    }
+
+    @Override
+    public ApiResponse<BatchJobRunResponseDto> collectOrphans() {
+        if (!collecting.compareAndSet(false, true)) {
+            return new ApiResponse<>(false, "An orphan collection is already in progress.", null);
+        }
+        try {
+            BatchJobRun run = executeOrphanCollection();
+            return new ApiResponse<>(run.getStatus() != BatchJobStatus.FAILED,
+                    "Orphan collection finished with status " + run.getStatus() + ".", new BatchJobRunResponseDto(run));
+        } catch (Exception e) {
+            log.error("Orphan collection could not be started", e);
+            return new ApiResponse<>(false, "Error running orphan collection.", null);
+        } finally {
+            collecting.set(false);
+        }
+    }
+
+    @Override
+    public ApiResponse<List<BatchJobRunResponseDto>> getRecentOrphanRuns() {
+        try {
+            List<BatchJobRunResponseDto> runs = batchJobRunRepository.findTop20ByJobNameOrderByIdDesc(ORPHAN_JOB_NAME).stream()
+                    .map(BatchJobRunResponseDto::new)
+                    .collect(Collectors.toList());
+            return new ApiResponse<>(true, "Orphan collection runs retrieved successfully.", runs);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching orphan collection runs.", null);
+        }
+    }
+
+    private BatchJobRun executeOrphanCollection() {
+        BatchJobRun run = batchJobRunRepository.save(new BatchJobRun(ORPHAN_JOB_NAME));
+        long start = System.currentTimeMillis();
+        Path root = Paths.get(fileUploadBaseDir, "documents");
+        // Files younger than the grace period may belong to an upload that has not committed yet
+        FileTime cutoff = FileTime.from(Instant.now().minus(Duration.ofMinutes(orphanGraceMinutes)));
+
+        try {
+            if (Files.isDirectory(root)) {
+                try (Stream<Path> files = Files.walk(root)) {
+                    Iterator<Path> candidates = files.filter(path -> isOlderFile(path, cutoff)).iterator();
+                    List<Path> chunk = new ArrayList<>(batchSize);
+                    while (candidates.hasNext()) {
+                        chunk.add(candidates.next());
+                        if (chunk.size() == batchSize || !candidates.hasNext()) {
+                            List<Path> paths = List.copyOf(chunk);
+                            Integer queued = transactionTemplate.execute(status -> enqueueOrphans(paths));
+                            run.incrementChunks();
+                            run.addRowsRead(paths.size());
+                            run.addRowsUpdated(queued == null ? 0 : queued);
+                            chunk.clear();
+                        }
+                    }
+                }
+            }
+            run.setStatus(BatchJobStatus.SUCCEEDED);
+            run.setWatermark(LocalDate.now());
+        } catch (IOException | RuntimeException e) {
+            log.error("Orphan collection failed", e);
+            run.setStatus(BatchJobStatus.FAILED);
+            run.setErrorMessage(e.getMessage());
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMillis(System.currentTimeMillis() - start);
+            batchJobRunRepository.save(run);
+        }
+
+        log.info("Orphan collection {}: {} file(s) scanned, {} queued for deletion in {} chunk(s), {} ms",
+                run.getStatus(), run.getRowsRead(), run.getRowsUpdated(), run.getChunks(), run.getDurationMillis());
+        return run;
+    }
+
+    // Looks a chunk of paths up against the document, blob and tombstone tables in three IN queries
+    private int enqueueOrphans(List<Path> paths) {
+        List<String> names = paths.stream().map(Path::toString).toList();
+        Set<String> known = new HashSet<>(documentRepository.findFileUrlsIn(names));
+        known.addAll(documentBlobRepository.findStoragePathsIn(names));
+        known.addAll(fileTombstoneRepository.findPathsIn(names));
+
+        List<FileTombstone> orphans = new ArrayList<>();
+        for (Path path : paths) {
+            if (!known.contains(path.toString())) {
+                Matcher blob = BLOB_FILE_NAME.matcher(path.getFileName().toString());
+                orphans.add(new FileTombstone(path.toString(), blob.matches() ? blob.group(1) : null));
+            }
+        }
+        fileTombstoneRepository.saveAll(orphans);
+        return orphans.size();
+    }
+
+    private static boolean isOlderFile(Path path, FileTime cutoff) {
+        try {
+            return Files.isRegularFile(path) && Files.getLastModifiedTime(path).compareTo(cutoff) < 0;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
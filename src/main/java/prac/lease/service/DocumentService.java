@@ -1,11 +1,14 @@
 package prac.lease.service;
 
+import org.springframework.core.io.Resource;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.DocumentRequestDto;
 import prac.lease.dto.DocumentResponseDto;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -14,10 +17,19 @@ public interface DocumentService {
     // Basic CRUD operations
     ApiResponse<DocumentResponseDto> uploadDocument(MultipartFile file, DocumentRequestDto documentRequestDto) throws IOException;
 
+    // Stores a document straight from the request body, validating and hashing it as it is read
+    ApiResponse<DocumentResponseDto> uploadDocument(String originalFileName, InputStream content, DocumentRequestDto documentRequestDto);
+
+    // Attaches a file already in the document store, identified by documentRequestDto.contentHash, without uploading it again
+    ApiResponse<DocumentResponseDto> attachStoredDocument(DocumentRequestDto documentRequestDto);
+
     ApiResponse<DocumentResponseDto> getDocumentById(Long id);
 
     ApiResponse<List<DocumentResponseDto>> getAllDocuments();
 
+    // Streams every document in the ApiResponse envelope
+    StreamingResponseBody streamAllDocuments();
+
     ApiResponse<DocumentResponseDto> updateDocument(Long id, DocumentRequestDto documentRequestDto);
 
     ApiResponse<String> deleteDocument(Long id);
@@ -43,10 +55,17 @@ public interface DocumentService {
     ApiResponse<List<DocumentResponseDto>> getLatestDocuments(int limit);
 
     // File operations
-    byte[] getFileById(Long id) throws IOException;
+    Resource getFileById(Long id) throws IOException;
 
     ApiResponse<String> getFileUrl(Long id);
 
+    // Zip archives of every stored file in a scope, streamed from disk as the response is written
+    ApiResponse<StreamingResponseBody> exportLeaseDocuments(Long leaseId);
+
+    ApiResponse<StreamingResponseBody> exportLandlordDocuments(Long landlordId);
+
+    ApiResponse<StreamingResponseBody> exportSiteDocuments(Long siteId);
+
     // Validation operations
     ApiResponse<Boolean> validateDocumentUpload(Long leaseId);
 
@@ -64,6 +83,9 @@ public interface DocumentService {
     // Bulk operations
     ApiResponse<List<DocumentResponseDto>> uploadMultipleDocuments(MultipartFile[] files, DocumentRequestDto documentRequestDto) throws IOException;
 
+    // Uploads a lease pack: files are written in parallel and their rows inserted in one batch, all or nothing
+    ApiResponse<List<DocumentResponseDto>> uploadDocuments(Long leaseId, List<MultipartFile> files, List<DocumentRequestDto> documentRequests);
+
     ApiResponse<String> deleteMultipleDocuments(List<Long> documentIds);
 
     // Document type management
@@ -1,103 +1,192 @@
 package prac.lease.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.io.Resource;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.DocumentRequestDto;
 import prac.lease.dto.DocumentResponseDto;
+import prac.lease.exception.InvalidFileException;
 import prac.lease.exception.ResourceNotFoundException;
 import prac.lease.model.Document;
+import prac.lease.model.DocumentBlob;
 import prac.lease.model.Lease;
 import prac.lease.repository.DocumentRepository;
 import prac.lease.repository.LeaseRepository;
+import prac.lease.service.DocumentStoreService.StagedBlob;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class DocumentServiceImpl implements DocumentService {
 
-    private final DocumentRepository documentRepository;
-    private final LeaseRepository leaseRepository;
+    private static final long MAX_DOCUMENT_SIZE = 10 * 1024 * 1024;
 
-    @Value("${file.upload.path}")
-    private String fileUploadBaseDir;
+    private static final String INSERT_DOCUMENT = "INSERT INTO document (document_type, file_name, file_url, content_hash, " +
+            "upload_time, category, description, lease_id, version, created_by_user, creation_time, modified_by_user, " +
+            "modification_time, active_status) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, TRUE)";
 
-    public DocumentServiceImpl(DocumentRepository documentRepository, LeaseRepository leaseRepository) {
+    private final DocumentRepository documentRepository;
+    private final LeaseRepository leaseRepository;
+    private final ApiResponseStreamer apiResponseStreamer;
+    private final DocumentStoreService documentStoreService;
+    private final DocumentReclamationService documentReclamationService;
+    private final RegisterVersionService registerVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorAware;
+
+    public DocumentServiceImpl(DocumentRepository documentRepository, LeaseRepository leaseRepository,
+                               ApiResponseStreamer apiResponseStreamer, DocumentStoreService documentStoreService,
+                               DocumentReclamationService documentReclamationService,
+                               RegisterVersionService registerVersionService, JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                               AuditorAware<String> auditorAware) {
         this.documentRepository = documentRepository;
         this.leaseRepository = leaseRepository;
+        this.apiResponseStreamer = apiResponseStreamer;
+        this.documentStoreService = documentStoreService;
+        this.documentReclamationService = documentReclamationService;
+        this.registerVersionService = registerVersionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditorAware = auditorAware;
     }
 
     @Override
-    @Transactional
-    public ApiResponse<DocumentResponseDto> uploadDocument(MultipartFile file, DocumentRequestDto documentRequestDto) throws IOException {
-        try {
-            Lease lease = leaseRepository.findById(documentRequestDto.getLeaseId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + documentRequestDto.getLeaseId()));
+    public StreamingResponseBody streamAllDocuments() {
+        return apiResponseStreamer.stream("Documents retrieved successfully.",
+                documentRepository::streamAllWithAssociations, DocumentResponseDto::new);
+    }
 
-            // Check if lease is approved
-            if (!lease.canAttachDocuments()) {
-                return new ApiResponse<>(false,
-                        "Documents can only be attached to approved leases. Current status: " + lease.getStatus(),
-                        null);
-            }
+    @Override
+    public ApiResponse<DocumentResponseDto> uploadDocument(MultipartFile file, DocumentRequestDto documentRequestDto) throws IOException {
+        // Check the declared file size (max 10MB) before reading anything
+        if (file.getSize() > MAX_DOCUMENT_SIZE) {
+            return new ApiResponse<>(false, "File size must be less than 10MB.", null);
+        }
+        try (InputStream content = file.getInputStream()) {
+            return uploadDocument(file.getOriginalFilename(), content, documentRequestDto);
+        }
+    }
 
+    // Not transactional: the body is read from the client before any connection or row lock is taken
+    @Override
+    public ApiResponse<DocumentResponseDto> uploadDocument(String originalFileName, InputStream content,
+                                                           DocumentRequestDto documentRequestDto) {
+        StagedBlob staged = null;
+        try {
             // Validate file type - only PDF allowed
-            String originalFileName = file.getOriginalFilename();
             if (originalFileName == null || !originalFileName.toLowerCase().endsWith(".pdf")) {
                 return new ApiResponse<>(false, "Only PDF files are allowed.", null);
             }
 
-            String fileName = StringUtils.cleanPath(file.getOriginalFilename());
+            String fileName = StringUtils.cleanPath(originalFileName);
             if (fileName.contains("..")) {
                 return new ApiResponse<>(false, "Invalid file path sequence.", null);
             }
 
-            // Check file size (max 10MB)
-            if (file.getSize() > 10 * 1024 * 1024) {
-                return new ApiResponse<>(false, "File size must be less than 10MB.", null);
+            // Hashed and written to a temp file in one pass; a body that is not a PDF or exceeds 10MB fails as soon as it shows
+            staged = documentStoreService.stage(new PdfUploadInputStream(content, MAX_DOCUMENT_SIZE));
+
+            // A short transaction for the lease check, the blob reference and the row
+            StagedBlob stagedBlob = staged;
+            return transactionTemplate.execute(status -> {
+                Lease lease = leaseRepository.findById(documentRequestDto.getLeaseId())
+                        .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + documentRequestDto.getLeaseId()));
+
+                // Check if lease is approved
+                if (!lease.canAttachDocuments()) {
+                    return new ApiResponse<>(false,
+                            "Documents can only be attached to approved leases. Current status: " + lease.getStatus(),
+                            null);
+                }
+
+                // Identical bytes already in the store are referenced rather than written again
+                DocumentBlob blob;
+                try {
+                    blob = documentStoreService.commit(stagedBlob);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+
+                Document savedDocument = documentRepository.save(newDocument(fileName, blob, documentRequestDto, lease));
+                return new ApiResponse<>(true, "Document uploaded successfully.", new DocumentResponseDto(savedDocument));
+            });
+        } catch (ResourceNotFoundException | InvalidFileException e) {
+            return new ApiResponse<>(false, e.getMessage(), null);
+        } catch (IOException | UncheckedIOException e) {
+            return new ApiResponse<>(false, "Error saving uploaded document file.", null);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error uploading document.", null);
+        } finally {
+            // A staged file moved into the store is gone already; this removes duplicates and rejected uploads
+            if (staged != null) {
+                documentStoreService.discard(staged);
             }
+        }
+    }
 
-            Path uploadPath = Paths.get(fileUploadBaseDir, "documents");
-            Files.createDirectories(uploadPath);
+    @Override
+    @Transactional
+    public ApiResponse<DocumentResponseDto> attachStoredDocument(DocumentRequestDto documentRequestDto) {
+        try {
+            Lease lease = leaseRepository.findById(documentRequestDto.getLeaseId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + documentRequestDto.getLeaseId()));
 
-            String newFileName = UUID.randomUUID().toString() + "_" + fileName;
-            Path filePath = uploadPath.resolve(newFileName);
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            if (!lease.canAttachDocuments()) {
+                return new ApiResponse<>(false,
+                        "Documents can only be attached to approved leases. Current status: " + lease.getStatus(),
+                        null);
+            }
 
-            Document newDocument = new Document();
-            newDocument.setFileName(newFileName);
-            newDocument.setFileUrl(filePath.toString());
-            newDocument.setDocumentType(documentRequestDto.getDocumentType());
-            newDocument.setCategory(documentRequestDto.getCategory());
-            newDocument.setDescription(documentRequestDto.getDescription());
-            newDocument.setUploadTime(LocalDateTime.now());
-            newDocument.setLease(lease);
+            String fileName = documentRequestDto.getFileName() == null ? null : StringUtils.cleanPath(documentRequestDto.getFileName());
+            if (fileName == null || !fileName.toLowerCase().endsWith(".pdf") || fileName.contains("..")) {
+                return new ApiResponse<>(false, "A PDF file name is required.", null);
+            }
 
-            Document savedDocument = documentRepository.save(newDocument);
-            DocumentResponseDto responseDto = new DocumentResponseDto(savedDocument);
+            DocumentBlob blob = documentStoreService.retain(documentRequestDto.getContentHash())
+                    .orElseThrow(() -> new ResourceNotFoundException("No stored file matches content hash: " + documentRequestDto.getContentHash()));
 
-            return new ApiResponse<>(true, "Document uploaded successfully.", responseDto);
+            Document savedDocument = documentRepository.save(newDocument(fileName, blob, documentRequestDto, lease));
+            return new ApiResponse<>(true, "Document attached from stored file.", new DocumentResponseDto(savedDocument));
         } catch (ResourceNotFoundException e) {
             return new ApiResponse<>(false, e.getMessage(), null);
-        } catch (IOException e) {
-            return new ApiResponse<>(false, "Error saving uploaded document file.", null);
         } catch (Exception e) {
 
-            return new ApiResponse<>(false, "Error uploading document.", null);
+            return new ApiResponse<>(false, "Error attaching stored document.", null);
         }
     }
 
@@ -212,25 +301,26 @@ public class DocumentServiceImpl implements DocumentService {
             Document document = documentRepository.findById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Document not found with ID: " + id));
 
-            // Delete physical file
-            Path filePath = Paths.get(document.getFileUrl());
-            Files.deleteIfExists(filePath);
-
             documentRepository.delete(document);
+
+            // Shared files are reclaimed only when their last document is deleted
+            if (document.getContentHash() != null) {
+                documentStoreService.release(document.getContentHash(), 1);
+            } else {
+                documentReclamationService.enqueue(Paths.get(document.getFileUrl()), null);
+            }
             return new ApiResponse<>(true, "Document deleted successfully.", "Document with ID " + id + " has been deleted.");
         } catch (ResourceNotFoundException e) {
             return new ApiResponse<>(false, e.getMessage(), null);
-        } catch (IOException e) {
-
-            return new ApiResponse<>(false, "Error deleting document file from storage.", null);
         } catch (Exception e) {
 
             return new ApiResponse<>(false, "Error deleting document.", null);
         }
     }
 
+    // Returns a handle on the file rather than its bytes, so it is streamed from disk and never held on the heap
     @Override
-    public byte[] getFileById(Long id) throws IOException {
+    public Resource getFileById(Long id) throws IOException {
         Document document = documentRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found with ID: " + id));
 
@@ -239,12 +329,12 @@ public class DocumentServiceImpl implements DocumentService {
             throw new ResourceNotFoundException("No file associated with document ID: " + id);
         }
 
-        Path filePath = Paths.get(filePathString);
-        if (!Files.exists(filePath) || !Files.isReadable(filePath)) {
+        Path filePath = resolveStoredFile(filePathString, document.getContentHash());
+        if (filePath == null) {
             throw new IOException("File not found or is not readable: " + filePathString);
         }
 
-        return Files.readAllBytes(filePath);
+        return new FileSystemResource(filePath);
     }
 
     @Override
@@ -252,6 +342,63 @@ public class DocumentServiceImpl implements DocumentService {
         return null;
     }
 
+    @Override
+    public ApiResponse<StreamingResponseBody> exportLeaseDocuments(Long leaseId) {
+        return exportDocuments(() -> documentRepository.findByLease_Id(leaseId), "lease " + leaseId);
+    }
+
+    @Override
+    public ApiResponse<StreamingResponseBody> exportLandlordDocuments(Long landlordId) {
+        return exportDocuments(() -> documentRepository.findByLandlordId(landlordId), "landlord " + landlordId);
+    }
+
+    @Override
+    public ApiResponse<StreamingResponseBody> exportSiteDocuments(Long siteId) {
+        return exportDocuments(() -> documentRepository.findBySiteId(siteId), "site " + siteId);
+    }
+
+    private ApiResponse<StreamingResponseBody> exportDocuments(Supplier<List<Document>> source, String scope) {
+        try {
+            // Only what the archive needs is kept, so nothing lazy is touched once the response is streaming
+            List<ArchiveEntry> entries = source.get().stream()
+                    .filter(document -> StringUtils.hasText(document.getFileUrl()))
+                    .map(document -> new ArchiveEntry(document.getId(),
+                            DocumentArchiveWriter.entryName(document.getId(), document.getFileName()),
+                            document.getFileUrl(), document.getContentHash()))
+                    .toList();
+            if (entries.isEmpty()) {
+                return new ApiResponse<>(false, "No documents found for " + scope + ".", null);
+            }
+            return new ApiResponse<>(true, entries.size() + " document(s) ready for export.", out -> writeArchive(entries, out));
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error exporting documents.", null);
+        }
+    }
+
+    private void writeArchive(List<ArchiveEntry> entries, OutputStream out) throws IOException {
+        DocumentArchiveWriter archive = new DocumentArchiveWriter(out);
+        for (ArchiveEntry entry : entries) {
+            Path file = resolveStoredFile(entry.fileUrl(), entry.contentHash());
+            if (file == null) {
+                // The archive is already partly sent, so a missing file can only be left out
+                log.warn("Document {} left out of export: file not found at {}", entry.documentId(), entry.fileUrl());
+                continue;
+            }
+            archive.addFile(entry.name(), file);
+        }
+        archive.finish();
+    }
+
+    // A blob shared with documents already migrated to the sharded layout may have moved ahead of this row
+    private Path resolveStoredFile(String fileUrl, String contentHash) {
+        Path filePath = Paths.get(fileUrl);
+        if (!Files.exists(filePath) && contentHash != null) {
+            filePath = documentStoreService.pathFor(contentHash);
+        }
+        return Files.isRegularFile(filePath) && Files.isReadable(filePath) ? filePath : null;
+    }
+
     @Override
     public ApiResponse<Boolean> validateDocumentUpload(Long leaseId) {
         return null;
@@ -284,12 +431,108 @@ public class DocumentServiceImpl implements DocumentService {
 
     @Override
     public ApiResponse<List<DocumentResponseDto>> uploadMultipleDocuments(MultipartFile[] files, DocumentRequestDto documentRequestDto) throws IOException {
-        return null;
+        if (files == null || files.length == 0) {
+            return new ApiResponse<>(false, "No files provided for upload.", null);
+        }
+        return uploadDocuments(documentRequestDto.getLeaseId(), List.of(files), Collections.nCopies(files.length, documentRequestDto));
     }
 
+    // Not @Transactional: files are staged before any connection is taken, and only the commit step runs in a transaction
     @Override
+    public ApiResponse<List<DocumentResponseDto>> uploadDocuments(Long leaseId, List<MultipartFile> files,
+                                                                  List<DocumentRequestDto> documentRequests) {
+        List<StagedBlob> staged = List.of();
+        try {
+            if (files == null || files.isEmpty()) {
+                return new ApiResponse<>(false, "No files provided for upload.", null);
+            }
+            if (documentRequests == null || files.size() != documentRequests.size()) {
+                return new ApiResponse<>(false, "Number of files must match number of document requests.", null);
+            }
+
+            Lease lease = leaseRepository.findById(leaseId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + leaseId));
+            if (!lease.canAttachDocuments()) {
+                return new ApiResponse<>(false,
+                        "Documents can only be attached to approved leases. Current status: " + lease.getStatus(),
+                        null);
+            }
+
+            // Every file is checked before any is written, so a pack that cannot succeed costs no I/O
+            List<String> fileNames = new ArrayList<>(files.size());
+            for (MultipartFile file : files) {
+                String originalFileName = file.getOriginalFilename();
+                if (originalFileName == null || !originalFileName.toLowerCase().endsWith(".pdf")) {
+                    return new ApiResponse<>(false, "Only PDF files are allowed: " + originalFileName, null);
+                }
+                String fileName = StringUtils.cleanPath(originalFileName);
+                if (fileName.contains("..")) {
+                    return new ApiResponse<>(false, "Invalid file path sequence: " + originalFileName, null);
+                }
+                if (file.getSize() > MAX_DOCUMENT_SIZE) {
+                    return new ApiResponse<>(false, "File size must be less than 10MB: " + originalFileName, null);
+                }
+                fileNames.add(fileName);
+            }
+
+            staged = documentStoreService.stageAll(files.stream()
+                    .map(file -> (InputStreamSource) () -> new PdfUploadInputStream(file.getInputStream(), MAX_DOCUMENT_SIZE))
+                    .toList());
+
+            List<StagedBlob> stagedBlobs = staged;
+            List<DocumentResponseDto> responseDtos = transactionTemplate.execute(status ->
+                    insertDocuments(lease, fileNames, stagedBlobs, documentRequests));
+
+            return new ApiResponse<>(true,
+                    String.format("%d document(s) uploaded successfully.", files.size()), responseDtos);
+        } catch (ResourceNotFoundException | InvalidFileException e) {
+            return new ApiResponse<>(false, e.getMessage(), null);
+        } catch (IOException | UncheckedIOException e) {
+            log.warn("Multi-document upload for lease {} failed", leaseId, e);
+            return new ApiResponse<>(false, "Error saving uploaded document files.", null);
+        } catch (Exception e) {
+            log.warn("Multi-document upload for lease {} failed", leaseId, e);
+            return new ApiResponse<>(false, "Error uploading documents.", null);
+        } finally {
+            // Staged files that were moved into the store are gone already; this removes duplicates and failed packs
+            staged.forEach(documentStoreService::discard);
+        }
+    }
+
+    @Override
+    @Transactional
     public ApiResponse<String> deleteMultipleDocuments(List<Long> documentIds) {
-        return null;
+        if (documentIds == null || documentIds.isEmpty()) {
+            return new ApiResponse<>(false, "At least one document ID is required.", null);
+        }
+        try {
+            List<Document> documents = documentRepository.findLockedByIdIn(documentIds);
+            if (documents.isEmpty()) {
+                return new ApiResponse<>(false, "No documents found for the given IDs.", null);
+            }
+
+            // Removed as entities so Envers writes a deletion revision for each and the register version moves;
+            // the files are only queued here and removed later by the reclaimer
+            documentRepository.deleteAll(documents);
+            documentRepository.flush();
+
+            Map<String, Long> referencesByHash = new HashMap<>();
+            for (Document document : documents) {
+                if (document.getContentHash() != null) {
+                    referencesByHash.merge(document.getContentHash(), 1L, Long::sum);
+                } else if (document.getFileUrl() != null) {
+                    documentReclamationService.enqueue(Paths.get(document.getFileUrl()), null);
+                }
+            }
+            referencesByHash.forEach(documentStoreService::release);
+
+            return new ApiResponse<>(true, "Documents deleted successfully.", documents.size() + " document(s) deleted.");
+        } catch (Exception e) {
+            log.error("Bulk document delete failed", e);
+            // Rows, reference counts and tombstones must stay in step, so none of them may commit alone
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ApiResponse<>(false, "Error deleting documents.", null);
+        }
     }
 
     @Override
@@ -325,4 +568,78 @@ public class DocumentServiceImpl implements DocumentService {
             return new ApiResponse<>(false, "Error updating document.", null);
         }
     }
-}
\ No newline at end of file
+
+    private Document newDocument(String fileName, DocumentBlob blob, DocumentRequestDto documentRequestDto, Lease lease) {
+        Document document = new Document();
+        document.setFileName(fileName);
+        document.setFileUrl(blob.getStoragePath());
+        document.setContentHash(blob.getSha256());
+        document.setDocumentType(documentRequestDto.getDocumentType());
+        document.setCategory(documentRequestDto.getCategory());
+        document.setDescription(documentRequestDto.getDescription());
+        document.setUploadTime(LocalDateTime.now());
+        document.setLease(lease);
+        return document;
+    }
+
+    // Takes the blob references and inserts every row in one JDBC batch; a rollback undoes both, including new files
+    private List<DocumentResponseDto> insertDocuments(Lease lease, List<String> fileNames, List<StagedBlob> staged,
+                                                      List<DocumentRequestDto> documentRequests) {
+        List<Document> documents = new ArrayList<>(staged.size());
+        try {
+            for (int i = 0; i < staged.size(); i++) {
+                DocumentBlob blob = documentStoreService.commit(staged.get(i));
+                documents.add(newDocument(fileNames.get(i), blob, documentRequests.get(i), lease));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keys = new GeneratedKeyHolder();
+        // A JDBC insert is invisible to Hibernate, so the register version is bumped explicitly
+        registerVersionService.markChanged();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_DOCUMENT, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Document document = documents.get(i);
+                        ps.setString(1, document.getDocumentType());
+                        ps.setString(2, document.getFileName());
+                        ps.setString(3, document.getFileUrl());
+                        ps.setString(4, document.getContentHash());
+                        ps.setTimestamp(5, Timestamp.valueOf(document.getUploadTime()));
+                        ps.setString(6, document.getCategory());
+                        ps.setString(7, document.getDescription());
+                        ps.setLong(8, lease.getId());
+                        ps.setString(9, auditor);
+                        ps.setTimestamp(10, Timestamp.valueOf(now));
+                        ps.setString(11, auditor);
+                        ps.setTimestamp(12, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return documents.size();
+                    }
+                }, keys);
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        List<DocumentResponseDto> responseDtos = new ArrayList<>(documents.size());
+        for (int i = 0; i < documents.size(); i++) {
+            Document document = documents.get(i);
+            document.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            document.setVersion(0L);
+            document.setCreatedByUser(auditor);
+            document.setCreationTime(now);
+            document.setModifiedByUser(auditor);
+            document.setModificationTime(now);
+            responseDtos.add(new DocumentResponseDto(document));
+        }
+        return responseDtos;
+    }
+
+    private record ArchiveEntry(Long documentId, String name, String fileUrl, String contentHash) {
+    }
+}
@@ -0,0 +1,47 @@
+package prac.lease.service;
+
+import org.springframework.core.io.InputStreamSource;
+import prac.lease.model.DocumentBlob;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+public interface DocumentStoreService {
+
+    // Streams content into the store, hashing it on the way, and takes a reference on the resulting blob
+    DocumentBlob store(InputStream content) throws IOException;
+
+    // Writes and hashes content to a temp file beside the store without touching the database
+    StagedBlob stage(InputStream content) throws IOException;
+
+    // Stages several contents in parallel on the bounded upload executor; all or nothing
+    List<StagedBlob> stageAll(List<? extends InputStreamSource> contents) throws IOException;
+
+    // Takes a reference on a staged file's blob, moving the file into place when the blob is new; undone on rollback
+    DocumentBlob commit(StagedBlob staged) throws IOException;
+
+    // Deletes a staged file that was not moved into place
+    void discard(StagedBlob staged);
+
+    // Takes a reference on a file stored under an older layout, moving it into place or dropping it as a duplicate
+    DocumentBlob adopt(Path file) throws IOException;
+
+    // Moves a stored blob into the current layout if it is not there yet, and returns its path
+    Path relocate(String sha256, Path currentPath) throws IOException;
+
+    // Takes another reference on an already stored blob, if the (hex, case-insensitive) hash is known
+    Optional<DocumentBlob> retain(String sha256);
+
+    // Drops references; once the last is gone the file is queued for the reclaimer in the caller's transaction
+    void release(String sha256, long references);
+
+    // Where the current layout keeps the file for a content hash
+    Path pathFor(String sha256);
+
+    // A hashed upload waiting in a temp file to be committed or discarded
+    record StagedBlob(Path file, String sha256, long size) {
+    }
+}
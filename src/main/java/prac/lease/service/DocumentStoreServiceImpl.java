@@ -0,0 +1,340 @@
+package prac.lease.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.exception.InvalidFileException;
+import prac.lease.model.DocumentBlob;
+import prac.lease.repository.DocumentBlobRepository;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.regex.Pattern;
+
+@Service
+@Slf4j
+public class DocumentStoreServiceImpl implements DocumentStoreService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+
+    private final DocumentBlobRepository documentBlobRepository;
+    private final DocumentReclamationService documentReclamationService;
+    private final TransactionTemplate cleanupTransaction;
+    private final ThreadPoolTaskExecutor uploadExecutor;
+
+    @Value("${file.upload.path}")
+    private String fileUploadBaseDir;
+
+    public DocumentStoreServiceImpl(DocumentBlobRepository documentBlobRepository,
+                                    DocumentReclamationService documentReclamationService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Value("${lease.document_uploads.io_threads:4}") int ioThreads) {
+        this.documentBlobRepository = documentBlobRepository;
+        this.documentReclamationService = documentReclamationService;
+        // Rollback cleanup runs after the caller's transaction has completed, so it needs one of its own
+        this.cleanupTransaction = new TransactionTemplate(transactionManager);
+        this.cleanupTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // Bounded so a burst of multi-file uploads cannot swamp the disk; once the queue is full the request thread writes its own files
+        this.uploadExecutor = new ThreadPoolTaskExecutor();
+        this.uploadExecutor.setCorePoolSize(ioThreads);
+        this.uploadExecutor.setMaxPoolSize(ioThreads);
+        this.uploadExecutor.setQueueCapacity(ioThreads * 16);
+        this.uploadExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        this.uploadExecutor.setThreadNamePrefix("document-io-");
+        this.uploadExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void stopUploadExecutor() {
+        uploadExecutor.shutdown();
+    }
+
+    // ========== REFERENCES ==========
+
+    // A rejected upload fails before anything is written to the database, so it need not doom the caller's transaction
+    @Override
+    @Transactional(noRollbackFor = InvalidFileException.class)
+    public DocumentBlob store(InputStream content) throws IOException {
+        StagedBlob staged = stage(content);
+        try {
+            return commit(staged);
+        } finally {
+            discard(staged);
+        }
+    }
+
+    @Override
+    public StagedBlob stage(InputStream content) throws IOException {
+        Path directory = Paths.get(fileUploadBaseDir, "documents");
+        Files.createDirectories(directory);
+
+        // Hash while writing a private temp file in the same directory, so the final rename is atomic
+        Path temp = Files.createTempFile(directory, "upload-", ".part");
+        try {
+            MessageDigest digest = sha256Digest();
+            long size;
+            try (OutputStream out = new DigestOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(temp), BUFFER_SIZE), digest)) {
+                size = content.transferTo(out);
+            }
+            return new StagedBlob(temp, HexFormat.of().formatHex(digest.digest()), size);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(temp);
+            throw e;
+        }
+    }
+
+    // Contents are staged concurrently; if any fails, the ones already staged are discarded and the first failure rethrown
+    @Override
+    public List<StagedBlob> stageAll(List<? extends InputStreamSource> contents) throws IOException {
+        List<Future<StagedBlob>> pending = new ArrayList<>(contents.size());
+        for (InputStreamSource source : contents) {
+            pending.add(uploadExecutor.submit(() -> {
+                try (InputStream content = source.getInputStream()) {
+                    return stage(content);
+                }
+            }));
+        }
+
+        List<StagedBlob> staged = new ArrayList<>(contents.size());
+        Throwable failure = null;
+        for (Future<StagedBlob> future : pending) {
+            try {
+                staged.add(future.get());
+            } catch (ExecutionException e) {
+                failure = failure == null ? e.getCause() : failure;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pending.forEach(task -> task.cancel(true));
+                failure = failure == null ? e : failure;
+                break;
+            }
+        }
+        if (failure == null) {
+            return staged;
+        }
+
+        staged.forEach(this::discard);
+        if (failure instanceof IOException e) {
+            throw e;
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        throw new IOException("Staging uploads failed", failure);
+    }
+
+    @Override
+    @Transactional
+    public DocumentBlob commit(StagedBlob staged) throws IOException {
+        // Identical bytes are already stored: keep the existing file, the staged copy is discarded by the caller
+        Optional<DocumentBlob> existing = retain(staged.sha256());
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        // A deletion still queued for these bytes must not remove the file about to be put back
+        documentReclamationService.cancel(staged.sha256());
+        Path target = pathFor(staged.sha256());
+        // The row is written before the file is touched: its lock makes a concurrent upload of the same bytes wait for this
+        // transaction, and only the transaction that created the row owns the file. Any other keeps the file in place.
+        if (documentBlobRepository.insertOrRetain(staged.sha256(), staged.size(), target.toString(), LocalDateTime.now()) == 1) {
+            Files.createDirectories(target.getParent());
+            Files.move(staged.file(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            onRollback(staged.sha256(), () -> deleteQuietly(target), () -> { });
+        }
+        return documentBlobRepository.findBySha256(staged.sha256())
+                .orElseThrow(() -> new IllegalStateException("Stored blob missing for hash " + staged.sha256()));
+    }
+
+    @Override
+    public void discard(StagedBlob staged) {
+        deleteQuietly(staged.file());
+    }
+
+    @Override
+    @Transactional
+    public DocumentBlob adopt(Path file) throws IOException {
+        MessageDigest digest = sha256Digest();
+        long size;
+        try (InputStream in = new DigestInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE), digest)) {
+            size = in.transferTo(OutputStream.nullOutputStream());
+        }
+        String sha256 = HexFormat.of().formatHex(digest.digest());
+
+        // A duplicate of a stored blob: the redundant copy goes once the caller's rows point at the blob
+        Optional<DocumentBlob> existing = retain(sha256);
+        if (existing.isPresent()) {
+            documentReclamationService.enqueue(file, null);
+            return existing.get();
+        }
+
+        Path target = pathFor(sha256);
+        if (documentBlobRepository.insertOrRetain(sha256, size, target.toString(), LocalDateTime.now()) != 1) {
+            // A concurrent upload stored the same bytes first
+            documentReclamationService.enqueue(file, null);
+        } else {
+            Files.createDirectories(target.getParent());
+            Files.move(file, target, StandardCopyOption.ATOMIC_MOVE);
+            // Put back so the rolled-back rows still find their file; a copy if another upload has since claimed the blob
+            onRollback(sha256,
+                    () -> restore(target, file, false),
+                    () -> restore(target, file, true));
+        }
+        return documentBlobRepository.findBySha256(sha256)
+                .orElseThrow(() -> new IllegalStateException("Stored blob missing for hash " + sha256));
+    }
+
+    @Override
+    @Transactional
+    public Path relocate(String sha256, Path currentPath) throws IOException {
+        Path target = pathFor(sha256);
+        // Another document sharing the blob may already have moved it
+        if (!currentPath.equals(target) && !Files.exists(target)) {
+            moveIntoPlace(currentPath, target);
+        }
+        documentBlobRepository.updateStoragePath(sha256, target.toString());
+        return target;
+    }
+
+    @Override
+    @Transactional
+    public Optional<DocumentBlob> retain(String sha256) {
+        String hash = normalizeHash(sha256);
+        if (hash == null || documentBlobRepository.retain(hash) == 0) {
+            return Optional.empty();
+        }
+        return documentBlobRepository.findBySha256(hash);
+    }
+
+    @Override
+    @Transactional
+    public void release(String sha256, long references) {
+        Optional<DocumentBlob> blob = documentBlobRepository.findBySha256(sha256);
+        if (blob.isEmpty()) {
+            return;
+        }
+        documentBlobRepository.release(sha256, references);
+        if (documentBlobRepository.deleteIfUnreferenced(sha256) > 0) {
+            documentReclamationService.enqueue(Paths.get(blob.get().getStoragePath()), sha256);
+        }
+    }
+
+    // Two levels of hash-prefix directories, e.g. documents/3f/a9/3fa9...pdf, so no directory grows past a few thousand entries
+    @Override
+    public Path pathFor(String sha256) {
+        return Paths.get(fileUploadBaseDir, "documents", sha256.substring(0, 2), sha256.substring(2, 4), sha256 + ".pdf");
+    }
+
+    // ========== HELPERS ==========
+
+    // Put back if the caller's transaction rolls back, so its rows never point at a file that has moved away
+    private void moveIntoPlace(Path source, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        onRollback(() -> {
+            try {
+                Files.move(target, source, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                log.error("Could not move {} back to {} after rollback", target, source, e);
+            }
+        });
+    }
+
+    private static void restore(Path target, Path source, boolean keepTarget) {
+        try {
+            if (keepTarget) {
+                Files.copy(target, source, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                Files.move(target, source, StandardCopyOption.ATOMIC_MOVE);
+            }
+        } catch (IOException e) {
+            log.error("Could not restore {} from {} after rollback", source, target, e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", path, e);
+        }
+    }
+
+    private static String normalizeHash(String sha256) {
+        if (sha256 == null) {
+            return null;
+        }
+        String hash = sha256.trim().toLowerCase();
+        return SHA256_HEX.matcher(hash).matches() ? hash : null;
+    }
+
+    private static MessageDigest sha256Digest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // Undoes file work after a rollback in a fresh transaction that locks the hash, so no concurrent upload can create or
+    // drop the blob row in between. {@code claimed} runs instead of {@code unclaimed} when another upload now owns the blob.
+    private void onRollback(String sha256, Runnable unclaimed, Runnable claimed) {
+        onRollback(() -> {
+            try {
+                cleanupTransaction.executeWithoutResult(status -> {
+                    if (documentBlobRepository.findBySha256ForUpdate(sha256).isPresent()) {
+                        claimed.run();
+                    } else {
+                        unclaimed.run();
+                    }
+                });
+            } catch (RuntimeException e) {
+                log.error("Could not clean up blob {} after rollback", sha256, e);
+            }
+        });
+    }
+
+    private static void onRollback(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        action.run();
+                    }
+                }
+            });
+        }
+    }
+}
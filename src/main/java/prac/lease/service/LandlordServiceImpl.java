@@ -20,10 +20,13 @@ public class LandlordServiceImpl implements LandlordService {
 
     private final LandlordRepository landlordRepository;
     private final BankDetailsRepository bankDetailsRepository;
+    private final QuickSearchService quickSearchService;
 
     // Constructor-based dependency injection
-    public LandlordServiceImpl(LandlordRepository landlordRepository, BankDetailsRepository bankDetailsRepository) {
+    public LandlordServiceImpl(LandlordRepository landlordRepository, BankDetailsRepository bankDetailsRepository,
+                               QuickSearchService quickSearchService) {
         this.landlordRepository = landlordRepository;
+        this.quickSearchService = quickSearchService;
         this.bankDetailsRepository = bankDetailsRepository;
     }
 
@@ -47,6 +50,7 @@ public class LandlordServiceImpl implements LandlordService {
 
             // Save the new landlord entity to the database
             Landlord savedLandlord = landlordRepository.save(newLandlord);
+            quickSearchService.indexLandlord(savedLandlord);
 
             // Process bank details if provided
             if (landlordRequest.getBankDetails() != null && !landlordRequest.getBankDetails().isEmpty()) {
@@ -139,6 +143,7 @@ public class LandlordServiceImpl implements LandlordService {
             landlordToUpdate.setEmail(updateRequest.getEmail());
 
             Landlord updatedLandlord = landlordRepository.save(landlordToUpdate);
+            quickSearchService.indexLandlord(updatedLandlord);
             return new ApiResponse<>(true, "Landlord updated successfully", new LandlordResponseDto(updatedLandlord));
 
         } catch (Exception e) {
@@ -157,6 +162,7 @@ public class LandlordServiceImpl implements LandlordService {
         try {
             if (landlordRepository.existsById(id)) {
                 landlordRepository.deleteById(id);
+                quickSearchService.removeLandlord(id);
                 return new ApiResponse<>(true, "Landlord deleted successfully", null);
             }
             return new ApiResponse<>(false, "Landlord not found with ID: " + id, null);
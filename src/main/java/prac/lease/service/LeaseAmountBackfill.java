@@ -0,0 +1,98 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.model.Lease;
+import prac.lease.model.RentalType;
+import prac.lease.repository.LeaseRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Populates the numeric rental and commencement amount columns for leases written
+ * before those columns existed. New writes derive them in Lease.deriveAmounts().
+ * Runs at startup in id-ordered chunks, each in its own transaction.
+ * <p>
+ * Only the four derived columns are written, with plain JDBC UPDATEs guarded by
+ * the same "not derived yet" condition, so rows keep their version, modification
+ * stamps and audit history, and instances starting together write identical
+ * values instead of conflicting.
+ */
+@Component
+@Slf4j
+public class LeaseAmountBackfill {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final String UPDATE_AMOUNTS = "UPDATE lease SET rental_amount = ?, commencement_amount_value = ?, " +
+            "currency = ?, monthly_rental_amount = ? WHERE id = ? AND " +
+            "((rental_value IS NOT NULL AND rental_amount IS NULL) OR " +
+            "(commencement_amount IS NOT NULL AND commencement_amount_value IS NULL))";
+
+    private final LeaseRepository leaseRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final RegisterVersionService registerVersionService;
+    private final TransactionTemplate transactionTemplate;
+
+    public LeaseAmountBackfill(LeaseRepository leaseRepository, JdbcTemplate jdbcTemplate,
+                               RegisterVersionService registerVersionService,
+                               PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.registerVersionService = registerVersionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0L;
+        int updated = 0;
+        while (true) {
+            List<Object[]> chunk = leaseRepository.findUnderivedAmountSources(afterId, PageRequest.of(0, CHUNK_SIZE));
+            if (chunk.isEmpty()) {
+                break;
+            }
+            afterId = (Long) chunk.get(chunk.size() - 1)[0];
+
+            // Sentinel and unparseable values derive nothing and are left as they are
+            List<Object[]> updates = new ArrayList<>(chunk.size());
+            for (Object[] row : chunk) {
+                Lease lease = new Lease();
+                lease.setRentalType((RentalType) row[1]);
+                lease.setRentalValue((String) row[2]);
+                lease.setCommencementAmount((String) row[3]);
+                lease.setCurrency((String) row[4]);
+                lease.deriveAmounts();
+                if (lease.getRentalAmount() != null || lease.getCommencementAmountValue() != null) {
+                    updates.add(new Object[]{lease.getRentalAmount(), lease.getCommencementAmountValue(),
+                            lease.getCurrency(), lease.getMonthlyRentalAmount(), row[0]});
+                }
+            }
+            if (updates.isEmpty()) {
+                continue;
+            }
+            Integer written = transactionTemplate.execute(status -> {
+                int rows = 0;
+                // A driver that rewrites batches reports SUCCESS_NO_INFO (-2) rather than a count
+                for (int count : jdbcTemplate.batchUpdate(UPDATE_AMOUNTS, updates)) {
+                    rows += count != 0 ? 1 : 0;
+                }
+                // Hibernate never sees these writes, so cached collections are invalidated explicitly
+                if (rows > 0) {
+                    registerVersionService.markChanged();
+                }
+                return rows;
+            });
+            updated += written != null ? written : 0;
+        }
+        if (updated > 0) {
+            log.info("Backfilled numeric amounts for {} lease(s).", updated);
+        }
+    }
+}
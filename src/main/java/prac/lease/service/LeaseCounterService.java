@@ -0,0 +1,26 @@
+package prac.lease.service;
+
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseCounterDimension;
+
+import java.util.Map;
+
+public interface LeaseCounterService {
+
+    // Write hooks, called inside the transaction that changes the lease
+    void onCreated(Lease lease);
+
+    Map<LeaseCounterDimension, String> snapshot(Lease lease);
+
+    void onChanged(Map<LeaseCounterDimension, String> before, Lease after);
+
+    void onDeleted(Lease lease);
+
+    // Reads
+    long getCount(LeaseCounterDimension dimension, String bucket);
+
+    Map<String, Long> getCounts(LeaseCounterDimension dimension);
+
+    // Rebuilds every counter from the lease table and returns the number of buckets corrected
+    int reconcile();
+}
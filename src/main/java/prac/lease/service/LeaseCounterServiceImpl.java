@@ -0,0 +1,180 @@
+package prac.lease.service;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseCounter;
+import prac.lease.model.LeaseCounterDimension;
+import prac.lease.repository.LeaseCounterRepository;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+public class LeaseCounterServiceImpl implements LeaseCounterService {
+
+    private final LeaseCounterRepository leaseCounterRepository;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public LeaseCounterServiceImpl(LeaseCounterRepository leaseCounterRepository) {
+        this.leaseCounterRepository = leaseCounterRepository;
+    }
+
+    // ========== WRITE HOOKS ==========
+
+    @Override
+    @Transactional
+    public void onCreated(Lease lease) {
+        for (LeaseCounterDimension dimension : LeaseCounterDimension.values()) {
+            adjust(dimension, dimension.bucketOf(lease), 1);
+        }
+    }
+
+    @Override
+    public Map<LeaseCounterDimension, String> snapshot(Lease lease) {
+        Map<LeaseCounterDimension, String> buckets = new EnumMap<>(LeaseCounterDimension.class);
+        for (LeaseCounterDimension dimension : LeaseCounterDimension.values()) {
+            buckets.put(dimension, dimension.bucketOf(lease));
+        }
+        return buckets;
+    }
+
+    @Override
+    @Transactional
+    public void onChanged(Map<LeaseCounterDimension, String> before, Lease after) {
+        for (LeaseCounterDimension dimension : LeaseCounterDimension.values()) {
+            String oldBucket = before.get(dimension);
+            String newBucket = dimension.bucketOf(after);
+            if (!newBucket.equals(oldBucket)) {
+                adjust(dimension, oldBucket, -1);
+                adjust(dimension, newBucket, 1);
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onDeleted(Lease lease) {
+        for (LeaseCounterDimension dimension : LeaseCounterDimension.values()) {
+            adjust(dimension, dimension.bucketOf(lease), -1);
+        }
+    }
+
+    private void adjust(LeaseCounterDimension dimension, String bucket, long delta) {
+        if (bucket != null) {
+            leaseCounterRepository.increment(dimension.name(), bucket, delta);
+        }
+    }
+
+    // ========== READS ==========
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getCount(LeaseCounterDimension dimension, String bucket) {
+        return leaseCounterRepository.findByDimensionAndBucket(dimension, dimension.bucketOfValue(bucket))
+                .map(LeaseCounter::getValue)
+                .orElse(0L);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCounts(LeaseCounterDimension dimension) {
+        Map<String, Long> counts = new HashMap<>();
+        for (LeaseCounter counter : leaseCounterRepository.findByDimension(dimension)) {
+            counts.put(counter.getBucket(), counter.getValue());
+        }
+        return counts;
+    }
+
+    // ========== RECONCILIATION ==========
+
+    @Override
+    @Scheduled(cron = "${lease.counters.reconcile_cron:0 0 * * * *}")
+    @Transactional
+    public int reconcile() {
+        // Lock the stored counters first so in-flight lease writes finish before the lease table is counted
+        List<LeaseCounter> stored = entityManager
+                .createQuery("SELECT c FROM LeaseCounter c", LeaseCounter.class)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+
+        Map<LeaseCounterDimension, Map<String, Long>> actual = countLeaseTable();
+
+        int corrected = 0;
+        boolean removed = false;
+        for (LeaseCounter counter : stored) {
+            // A bucket written before its spelling was folded is replaced by the folded one
+            if (!counter.getDimension().bucketOfValue(counter.getBucket()).equals(counter.getBucket())) {
+                leaseCounterRepository.delete(counter);
+                removed = true;
+                corrected++;
+                continue;
+            }
+            Long expected = actual.get(counter.getDimension()).remove(counter.getBucket());
+            long value = expected != null ? expected : 0L;
+            if (counter.getValue() != value) {
+                log.warn("Lease counter drift on {}/{}: stored {}, actual {}",
+                        counter.getDimension(), counter.getBucket(), counter.getValue(), value);
+                counter.setValue(value);
+                corrected++;
+            }
+        }
+
+        if (removed) {
+            // Hibernate flushes inserts before deletes, and the old spelling holds the unique key
+            leaseCounterRepository.flush();
+        }
+        for (Map.Entry<LeaseCounterDimension, Map<String, Long>> dimension : actual.entrySet()) {
+            for (Map.Entry<String, Long> bucket : dimension.getValue().entrySet()) {
+                leaseCounterRepository.save(new LeaseCounter(dimension.getKey(), bucket.getKey(), bucket.getValue()));
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            log.info("Lease counter reconciliation corrected {} bucket(s).", corrected);
+        }
+        return corrected;
+    }
+
+    // Seed or repair the counters before the first request relies on them
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    // One GROUP BY per dimension over the lease table
+    private Map<LeaseCounterDimension, Map<String, Long>> countLeaseTable() {
+        Map<LeaseCounterDimension, Map<String, Long>> actual = new EnumMap<>(LeaseCounterDimension.class);
+        for (LeaseCounterDimension dimension : LeaseCounterDimension.values()) {
+            Map<String, Long> buckets = new HashMap<>();
+            if (dimension.getAttribute() == null) {
+                Long total = entityManager.createQuery("SELECT COUNT(l) FROM Lease l", Long.class).getSingleResult();
+                buckets.put(LeaseCounterDimension.ALL, total);
+            } else {
+                String attribute = "l." + dimension.getAttribute();
+                List<Object[]> rows = entityManager.createQuery(
+                        "SELECT " + attribute + ", COUNT(l) FROM Lease l GROUP BY " + attribute, Object[].class)
+                        .getResultList();
+                for (Object[] row : rows) {
+                    buckets.merge(dimension.bucketOfValue(row[0]), (Long) row[1], Long::sum);
+                }
+            }
+            actual.put(dimension, buckets);
+        }
+        return actual;
+    }
+}
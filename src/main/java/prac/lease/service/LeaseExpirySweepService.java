@@ -0,0 +1,29 @@
+package prac.lease.service;
+
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the batch job that moves overdue leases to EXPIRED.
+ */
+public interface LeaseExpirySweepService {
+    /**
+     * Moves every live, non-renewing lease past its expiry date to EXPIRED.
+     * @return ApiResponse containing the metrics of this run.
+     */
+    ApiResponse<BatchJobRunResponseDto> runSweep();
+
+    /**
+     * Retrieves the most recent sweep run.
+     * @return ApiResponse containing the last run, or null if the sweeper has never run.
+     */
+    ApiResponse<BatchJobRunResponseDto> getLastRun();
+
+    /**
+     * Retrieves the most recent sweep runs, newest first.
+     * @return ApiResponse containing the run history.
+     */
+    ApiResponse<List<BatchJobRunResponseDto>> getRecentRuns();
+}
@@ -0,0 +1,174 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.model.BatchJobRun;
+import prac.lease.model.BatchJobStatus;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseCounterDimension;
+import prac.lease.model.LeaseStatus;
+import prac.lease.repository.BatchJobRunRepository;
+import prac.lease.repository.LeaseRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * Moves overdue leases to EXPIRED in chunks, paging by id keyset so sparse or
+ * clustered ids cost no empty chunks.
+ * <p>
+ * A JPQL bulk UPDATE would bypass the persistence context, so it would neither
+ * bump the BaseEntity version nor produce an Envers revision. Each chunk is
+ * therefore loaded and updated through the ORM instead. The versioned UPDATEs
+ * go out as a single JDBC batch, and each chunk commits on its own with one
+ * revision.
+ */
+@Service
+@Slf4j
+public class LeaseExpirySweepServiceImpl implements LeaseExpirySweepService {
+
+    public static final String JOB_NAME = "lease-expiry-sweep";
+
+    private static final List<LeaseStatus> SWEEPABLE_STATUSES =
+            List.of(LeaseStatus.APPROVED, LeaseStatus.ACTIVE, LeaseStatus.AUTO_RENEWED);
+
+    private final LeaseRepository leaseRepository;
+    private final BatchJobRunRepository batchJobRunRepository;
+    private final LeaseCounterService leaseCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${lease.expiry_sweep.chunk_size:1000}")
+    private int chunkSize;
+
+    public LeaseExpirySweepServiceImpl(LeaseRepository leaseRepository,
+                                       BatchJobRunRepository batchJobRunRepository,
+                                       LeaseCounterService leaseCounterService,
+                                       PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.batchJobRunRepository = batchJobRunRepository;
+        this.leaseCounterService = leaseCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // Runs after the midnight auto-renewal so leases due for renewal are never expired first
+    @Scheduled(cron = "${lease.expiry_sweep.cron:0 30 0 * * *}")
+    public void scheduledRun() {
+        runSweep();
+    }
+
+    @Override
+    public ApiResponse<BatchJobRunResponseDto> runSweep() {
+        if (!running.compareAndSet(false, true)) {
+            return new ApiResponse<>(false, "An expiry sweep is already in progress.", null);
+        }
+        try {
+            BatchJobRun run = execute(LocalDate.now());
+            return new ApiResponse<>(run.getStatus() != BatchJobStatus.FAILED,
+                    "Expiry sweep finished with status " + run.getStatus() + ".", new BatchJobRunResponseDto(run));
+        } catch (Exception e) {
+            log.error("Expiry sweep could not be started", e);
+            return new ApiResponse<>(false, "Error running expiry sweep.", null);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public ApiResponse<BatchJobRunResponseDto> getLastRun() {
+        try {
+            BatchJobRunResponseDto lastRun = batchJobRunRepository.findTop20ByJobNameOrderByIdDesc(JOB_NAME).stream()
+                    .findFirst()
+                    .map(BatchJobRunResponseDto::new)
+                    .orElse(null);
+            return new ApiResponse<>(true, "Last expiry sweep retrieved successfully.", lastRun);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching last expiry sweep.", null);
+        }
+    }
+
+    @Override
+    public ApiResponse<List<BatchJobRunResponseDto>> getRecentRuns() {
+        try {
+            List<BatchJobRunResponseDto> runs = batchJobRunRepository.findTop20ByJobNameOrderByIdDesc(JOB_NAME).stream()
+                    .map(BatchJobRunResponseDto::new)
+                    .collect(Collectors.toList());
+            return new ApiResponse<>(true, "Expiry sweep runs retrieved successfully.", runs);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching expiry sweep runs.", null);
+        }
+    }
+
+    private BatchJobRun execute(LocalDate today) {
+        BatchJobRun run = batchJobRunRepository.save(new BatchJobRun(JOB_NAME));
+        long start = System.currentTimeMillis();
+
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<Long> ids = leaseRepository.findExpirySweepIds(SWEEPABLE_STATUSES, today, afterId,
+                        PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+                run.incrementChunks();
+                run.addRowsRead(ids.size());
+
+                try {
+                    Integer expired = transactionTemplate.execute(status -> expireChunk(today, ids));
+                    run.addRowsUpdated(expired != null ? expired : 0);
+                } catch (RuntimeException e) {
+                    log.error("Expiry sweep chunk after lease {} failed", ids.get(0), e);
+                    run.addFailures(ids.size());
+                    run.setErrorMessage(e.getMessage());
+                }
+            }
+
+            run.setStatus(run.getFailures() == 0 ? BatchJobStatus.SUCCEEDED : BatchJobStatus.COMPLETED_WITH_FAILURES);
+            run.setWatermark(today);
+        } catch (RuntimeException e) {
+            log.error("Expiry sweep failed", e);
+            run.setStatus(BatchJobStatus.FAILED);
+            run.setErrorMessage(e.getMessage());
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMillis(System.currentTimeMillis() - start);
+            batchJobRunRepository.save(run);
+        }
+
+        log.info("Expiry sweep {}: {} read, {} expired, {} failed in {} chunk(s), {} ms",
+                run.getStatus(), run.getRowsRead(), run.getRowsUpdated(), run.getFailures(), run.getChunks(),
+                run.getDurationMillis());
+        return run;
+    }
+
+    // Returns the number of leases expired; any renewed or changed since their ids were read are skipped
+    private int expireChunk(LocalDate today, List<Long> ids) {
+        List<Lease> leases = leaseRepository.findExpirySweepChunk(SWEEPABLE_STATUSES, today, ids);
+        List<Map<LeaseCounterDimension, String>> before = new ArrayList<>(leases.size());
+        for (Lease lease : leases) {
+            before.add(leaseCounterService.snapshot(lease));
+            lease.setStatus(LeaseStatus.EXPIRED);
+        }
+        // The first counter upsert flushes the whole chunk as one batch of versioned UPDATEs
+        for (int i = 0; i < leases.size(); i++) {
+            leaseCounterService.onChanged(before.get(i), leases.get(i));
+        }
+        return leases.size();
+    }
+}
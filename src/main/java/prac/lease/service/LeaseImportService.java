@@ -0,0 +1,19 @@
+package prac.lease.service;
+
+import org.springframework.web.multipart.MultipartFile;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.LeaseImportResultDto;
+
+/**
+ * Service interface for bulk lease onboarding from legacy registers.
+ */
+public interface LeaseImportService {
+    /**
+     * Imports leases from a CSV file with a header row, or from NDJSON with one lease object per line.
+     * Landlords and sites are matched by full name and site name. Invalid rows are skipped and reported,
+     * and valid rows are written in JDBC batches as PENDING_APPROVAL leases.
+     * @param file The .csv or .ndjson file to import.
+     * @return ApiResponse containing row totals, throughput and per-row errors.
+     */
+    ApiResponse<LeaseImportResultDto> importLeases(MultipartFile file);
+}
@@ -0,0 +1,570 @@
+package prac.lease.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.LeaseImportResultDto;
+import prac.lease.dto.LeaseImportResultDto.RowError;
+import prac.lease.model.Landlord;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+import prac.lease.model.LeaseType;
+import prac.lease.model.OperationalStatus;
+import prac.lease.model.RentalType;
+import prac.lease.model.Site;
+import prac.lease.repository.LandlordRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.SiteRepository;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bulk lease import. Leases are inserted through JdbcTemplate batches rather than the
+ * entity manager because BaseEntity's IDENTITY ids stop Hibernate from batching inserts;
+ * with rewriteBatchedStatements on the MySQL URL each chunk becomes a few multi-row
+ * INSERTs and the generated keys come back in the same round trip. Landlord, site and
+ * agreement number lookups are preloaded once, so validation never touches the database.
+ */
+@Service
+@Slf4j
+public class LeaseImportServiceImpl implements LeaseImportService {
+
+    static final List<String> REQUIRED_COLUMNS = List.of("agreementNumber", "landlordName", "siteName",
+            "commencementDate", "expiryDate", "rentalType", "leaseType", "operationalStatus");
+    private static final int MAX_REPORTED_ERRORS = 1000;
+    // Marks a natural key shared by more than one landlord or site
+    private static final Long AMBIGUOUS = -1L;
+
+    private static final String INSERT_LEASE = "INSERT INTO lease (agreement_number, landlord_id, site_id, " +
+            "commencement_date, expiry_date, status, rental_type, rental_value, commencement_amount, rental_amount, " +
+            "commencement_amount_value, currency, monthly_rental_amount, lease_type, operational_status, " +
+            "auto_renewal_option, termination_clause_details, lease_category, renewal_period_months, version, " +
+            "created_by_user, creation_time, modified_by_user, modification_time, active_status) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?, ?, ?, TRUE)";
+
+    private final LeaseRepository leaseRepository;
+    private final LandlordRepository landlordRepository;
+    private final SiteRepository siteRepository;
+    private final LeaseCounterService leaseCounterService;
+    private final QuickSearchService quickSearchService;
+    private final RegisterVersionService registerVersionService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final ObjectMapper objectMapper;
+
+    @Value("${lease.import.chunk_size:500}")
+    private int chunkSize = 500;
+
+    public LeaseImportServiceImpl(LeaseRepository leaseRepository,
+                                  LandlordRepository landlordRepository,
+                                  SiteRepository siteRepository,
+                                  LeaseCounterService leaseCounterService,
+                                  QuickSearchService quickSearchService,
+                                  RegisterVersionService registerVersionService,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  AuditorAware<String> auditorAware,
+                                  ObjectMapper objectMapper) {
+        this.leaseRepository = leaseRepository;
+        this.landlordRepository = landlordRepository;
+        this.siteRepository = siteRepository;
+        this.leaseCounterService = leaseCounterService;
+        this.quickSearchService = quickSearchService;
+        this.registerVersionService = registerVersionService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.auditorAware = auditorAware;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public ApiResponse<LeaseImportResultDto> importLeases(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return new ApiResponse<>(false, "Import file is empty.", null);
+        }
+        String fileName = file.getOriginalFilename() == null ? "" : file.getOriginalFilename().toLowerCase(Locale.ROOT);
+        boolean ndjson = fileName.endsWith(".ndjson") || fileName.endsWith(".jsonl")
+                || "application/x-ndjson".equals(file.getContentType());
+        if (!ndjson && !fileName.endsWith(".csv") && !"text/csv".equals(file.getContentType())) {
+            return new ApiResponse<>(false, "Unsupported file type. Upload a .csv or .ndjson file.", null);
+        }
+
+        long started = System.nanoTime();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            RowReader rows = ndjson ? new NdjsonRowReader(reader, objectMapper) : CsvRowReader.open(reader);
+            ImportRun run = new ImportRun(
+                    naturalKeyIndex(landlordRepository.findQuickSearchEntries()),
+                    naturalKeyIndex(siteRepository.findQuickSearchEntries()),
+                    new HashSet<>(leaseRepository.findAllAgreementNumbers()));
+
+            List<Lease> chunk = new ArrayList<>(chunkSize);
+            List<Long> chunkRows = new ArrayList<>(chunkSize);
+            RawRow raw;
+            while ((raw = rows.next()) != null) {
+                long rowNumber = ++run.rowsRead;
+                if (raw.error() != null) {
+                    run.reject(rowNumber, null, raw.error());
+                    continue;
+                }
+                try {
+                    chunk.add(toLease(raw.values(), run));
+                    chunkRows.add(rowNumber);
+                } catch (IllegalArgumentException e) {
+                    run.reject(rowNumber, raw.values().get("agreementNumber"), e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    insertChunk(chunk, chunkRows, run);
+                }
+            }
+            insertChunk(chunk, chunkRows, run);
+
+            if (run.imported > 0) {
+                leaseCounterService.reconcile();
+            }
+
+            long durationMillis = (System.nanoTime() - started) / 1_000_000;
+            double rowsPerSecond = run.rowsRead * 1000.0 / Math.max(durationMillis, 1);
+            LeaseImportResultDto result = new LeaseImportResultDto(run.rowsRead, run.imported, run.rejected,
+                    durationMillis, rowsPerSecond, run.errors, run.rejected > run.errors.size());
+            log.info("Lease import of {}: {} rows read, {} imported, {} rejected in {} ms",
+                    fileName, run.rowsRead, run.imported, run.rejected, durationMillis);
+            return new ApiResponse<>(true, "Imported " + run.imported + " of " + run.rowsRead + " leases.", result);
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse<>(false, e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("Lease import failed", e);
+            return new ApiResponse<>(false, "Error importing leases.", null);
+        }
+    }
+
+    // ========== ROW VALIDATION ==========
+
+    private Lease toLease(Map<String, String> values, ImportRun run) {
+        String agreementNumber = required(values, "agreementNumber");
+        if (run.agreementNumbers.contains(agreementNumber)) {
+            throw new IllegalArgumentException("A lease with this agreement number already exists.");
+        }
+        Landlord landlord = new Landlord();
+        landlord.setId(resolve(run.landlordIds, required(values, "landlordName"), "Landlord"));
+        Site site = new Site();
+        site.setId(resolve(run.siteIds, required(values, "siteName"), "Site"));
+
+        Lease lease = new Lease();
+        lease.setAgreementNumber(agreementNumber);
+        lease.setLandlord(landlord);
+        lease.setSite(site);
+        lease.setCommencementDate(parseDate(values, "commencementDate"));
+        lease.setExpiryDate(parseDate(values, "expiryDate"));
+        if (lease.getCommencementDate().isAfter(lease.getExpiryDate())) {
+            throw new IllegalArgumentException("Commencement date cannot be after expiry date.");
+        }
+        lease.setStatus(LeaseStatus.PENDING_APPROVAL);
+        lease.setLeaseType(parseEnum(LeaseType.class, values, "leaseType"));
+        lease.setOperationalStatus(parseEnum(OperationalStatus.class, values, "operationalStatus"));
+        lease.setAutoRenewalOption(parseBoolean(values, "autoRenewalOption"));
+        lease.setTerminationClauseDetails(optional(values, "terminationClauseDetails"));
+        lease.setLeaseCategory(optional(values, "leaseCategory"));
+        lease.setRenewalPeriodMonths(parseInteger(values, "renewalPeriodMonths"));
+
+        // Same rental value rules as createLease
+        RentalType rentalType = parseEnum(RentalType.class, values, "rentalType");
+        String rentalValue = optional(values, "rentalValue");
+        lease.setRentalType(rentalType);
+        if (rentalType == RentalType.NONE) {
+            lease.setRentalValue("NONE");
+        } else if (rentalType == RentalType.SWAP) {
+            lease.setRentalValue("SWAP");
+        } else if (rentalType == RentalType.ANNUALY || rentalType == RentalType.MONTHLY) {
+            if (rentalValue == null) {
+                throw new IllegalArgumentException("Rental value cannot be empty for " + rentalType + " rental type.");
+            }
+            lease.setRentalValue(rentalValue);
+        } else {
+            lease.setRentalValue(null);
+        }
+        lease.setCommencementAmount(optional(values, "commencementAmount"));
+        String currency = optional(values, "currency");
+        if (lease.conflictsWithStatedCurrency(currency)) {
+            throw new IllegalArgumentException("Currency " + currency
+                    + " conflicts with the currency named in the rental or commencement amount.");
+        }
+        lease.setCurrency(currency);
+        lease.deriveAmounts();
+
+        run.agreementNumbers.add(agreementNumber);
+        return lease;
+    }
+
+    private static Long resolve(Map<String, Long> ids, String name, String label) {
+        Long id = ids.get(naturalKey(name));
+        if (id == null) {
+            throw new IllegalArgumentException(label + " not found with name: " + name);
+        }
+        if (AMBIGUOUS.equals(id)) {
+            throw new IllegalArgumentException(label + " name is not unique: " + name);
+        }
+        return id;
+    }
+
+    private static String required(Map<String, String> values, String column) {
+        String value = optional(values, column);
+        if (value == null) {
+            throw new IllegalArgumentException(column + " is required.");
+        }
+        return value;
+    }
+
+    private static String optional(Map<String, String> values, String column) {
+        String value = values.get(column);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static LocalDate parseDate(Map<String, String> values, String column) {
+        String value = required(values, column);
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value + ". Use yyyy-MM-dd.");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, Map<String, String> values, String column) {
+        String value = required(values, column);
+        try {
+            return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    private static boolean parseBoolean(Map<String, String> values, String column) {
+        String value = optional(values, column);
+        if (value == null) {
+            return false;
+        }
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true", "yes", "y", "1" -> true;
+            case "false", "no", "n", "0" -> false;
+            default -> throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        };
+    }
+
+    private static Integer parseInteger(Map<String, String> values, String column) {
+        String value = optional(values, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid " + column + ": " + value);
+        }
+    }
+
+    // Lower-cased, trimmed name to id; names shared by several rows map to AMBIGUOUS
+    private static Map<String, Long> naturalKeyIndex(List<Object[]> entries) {
+        Map<String, Long> ids = new HashMap<>(entries.size() * 2);
+        for (Object[] entry : entries) {
+            if (entry[1] != null) {
+                ids.merge(naturalKey((String) entry[1]), (Long) entry[0], (first, second) -> AMBIGUOUS);
+            }
+        }
+        return ids;
+    }
+
+    private static String naturalKey(String name) {
+        return name.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ========== BATCH WRITE ==========
+
+    private void insertChunk(List<Lease> chunk, List<Long> chunkRows, ImportRun run) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        insertOrSplit(chunk, chunkRows, run, auditor, now);
+        chunk.clear();
+        chunkRows.clear();
+    }
+
+    // A batch the database refuses is retried in halves, so only the offending rows are rejected
+    private void insertOrSplit(List<Lease> leases, List<Long> rows, ImportRun run, String auditor, Timestamp now) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertBatch(leases, auditor, now));
+            run.imported += leases.size();
+        } catch (DataAccessException e) {
+            if (leases.size() == 1) {
+                run.reject(rows.get(0), leases.get(0).getAgreementNumber(),
+                        "Insert failed: " + e.getMostSpecificCause().getMessage());
+                return;
+            }
+            log.debug("Lease import batch of {} rows failed; retrying in halves", leases.size(), e);
+            int half = leases.size() / 2;
+            insertOrSplit(leases.subList(0, half), rows.subList(0, half), run, auditor, now);
+            insertOrSplit(leases.subList(half, leases.size()), rows.subList(half, rows.size()), run, auditor, now);
+        }
+    }
+
+    private void insertBatch(List<Lease> leases, String auditor, Timestamp now) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(connection -> connection.prepareStatement(INSERT_LEASE, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        bind(ps, leases.get(i), auditor, now);
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return leases.size();
+                    }
+                }, keys);
+
+        // Hibernate never sees these rows, so the register version is bumped explicitly
+        registerVersionService.markChanged();
+
+        List<Map<String, Object>> generated = keys.getKeyList();
+        for (int i = 0; i < leases.size(); i++) {
+            Lease lease = leases.get(i);
+            lease.setId(((Number) generated.get(i).values().iterator().next()).longValue());
+            quickSearchService.indexLease(lease);
+        }
+    }
+
+    private static void bind(PreparedStatement ps, Lease lease, String auditor, Timestamp now) throws SQLException {
+        ps.setString(1, lease.getAgreementNumber());
+        ps.setLong(2, lease.getLandlord().getId());
+        ps.setLong(3, lease.getSite().getId());
+        ps.setObject(4, lease.getCommencementDate());
+        ps.setObject(5, lease.getExpiryDate());
+        ps.setString(6, lease.getStatus().name());
+        ps.setString(7, lease.getRentalType().name());
+        ps.setString(8, lease.getRentalValue());
+        ps.setString(9, lease.getCommencementAmount());
+        setDecimal(ps, 10, lease.getRentalAmount());
+        setDecimal(ps, 11, lease.getCommencementAmountValue());
+        ps.setString(12, lease.getCurrency());
+        setDecimal(ps, 13, lease.getMonthlyRentalAmount());
+        ps.setString(14, lease.getLeaseType().name());
+        ps.setString(15, lease.getOperationalStatus().name());
+        ps.setBoolean(16, lease.isAutoRenewalOption());
+        ps.setString(17, lease.getTerminationClauseDetails());
+        ps.setString(18, lease.getLeaseCategory());
+        if (lease.getRenewalPeriodMonths() == null) {
+            ps.setNull(19, Types.INTEGER);
+        } else {
+            ps.setInt(19, lease.getRenewalPeriodMonths());
+        }
+        ps.setString(20, auditor);
+        ps.setTimestamp(21, now);
+        ps.setString(22, auditor);
+        ps.setTimestamp(23, now);
+    }
+
+    private static void setDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.DECIMAL);
+        } else {
+            ps.setBigDecimal(index, value);
+        }
+    }
+
+    // ========== RUN STATE AND ROW READERS ==========
+
+    private static final class ImportRun {
+        private final Map<String, Long> landlordIds;
+        private final Map<String, Long> siteIds;
+        private final Set<String> agreementNumbers;
+        private final List<RowError> errors = new ArrayList<>();
+        private long rowsRead;
+        private long imported;
+        private long rejected;
+
+        private ImportRun(Map<String, Long> landlordIds, Map<String, Long> siteIds, Set<String> agreementNumbers) {
+            this.landlordIds = landlordIds;
+            this.siteIds = siteIds;
+            this.agreementNumbers = agreementNumbers;
+        }
+
+        private void reject(long row, String agreementNumber, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new RowError(row, agreementNumber, message));
+            }
+        }
+    }
+
+    // One parsed row, or the reason it could not be parsed
+    private record RawRow(Map<String, String> values, String error) {
+    }
+
+    private interface RowReader {
+        // Next row, or null at end of input
+        RawRow next() throws IOException;
+    }
+
+    private static final class NdjsonRowReader implements RowReader {
+        private static final TypeReference<Map<String, Object>> ROW_TYPE = new TypeReference<>() {
+        };
+
+        private final BufferedReader reader;
+        private final ObjectMapper objectMapper;
+
+        private NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+            this.reader = reader;
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        public RawRow next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (line.isBlank());
+            try {
+                Map<String, String> values = new HashMap<>();
+                objectMapper.readValue(line, ROW_TYPE).forEach((key, value) -> {
+                    if (value != null) {
+                        values.put(key, value.toString());
+                    }
+                });
+                return new RawRow(values, null);
+            } catch (JsonProcessingException e) {
+                return new RawRow(null, "Malformed JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+
+    // RFC 4180 style: comma separated, double-quoted fields may hold commas, quotes ("") and line breaks
+    static final class CsvRowReader implements RowReader {
+        private final BufferedReader reader;
+        private final List<String> header;
+
+        private CsvRowReader(BufferedReader reader, List<String> header) {
+            this.reader = reader;
+            this.header = header;
+        }
+
+        static CsvRowReader open(BufferedReader reader) throws IOException {
+            List<String> header = readRecord(reader);
+            if (header == null) {
+                throw new IllegalArgumentException("CSV file has no header row.");
+            }
+            header.replaceAll(String::trim);
+            if (!header.isEmpty()) {
+                header.set(0, header.get(0).replace("\uFEFF", ""));
+            }
+            List<String> missing = new ArrayList<>(REQUIRED_COLUMNS);
+            missing.removeAll(header);
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("CSV header is missing column(s): " + String.join(", ", missing));
+            }
+            return new CsvRowReader(reader, header);
+        }
+
+        @Override
+        public RawRow next() throws IOException {
+            List<String> fields;
+            do {
+                try {
+                    fields = readRecord(reader);
+                } catch (IllegalArgumentException e) {
+                    return new RawRow(null, e.getMessage());
+                }
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+            if (fields.size() > header.size()) {
+                return new RawRow(null, "Row has " + fields.size() + " fields but the header has " + header.size() + ".");
+            }
+            Map<String, String> values = new LinkedHashMap<>();
+            for (int i = 0; i < fields.size(); i++) {
+                values.put(header.get(i), fields.get(i));
+            }
+            return new RawRow(values, null);
+        }
+
+        // Fields of the next record, or null at end of input; throws IllegalArgumentException for an unclosed quote
+        static List<String> readRecord(BufferedReader reader) throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (quoted) {
+                        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else if (c == '"') {
+                            quoted = false;
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        quoted = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+                if (!quoted) {
+                    break;
+                }
+                // Quoted field continues on the next line; running out of input first means the quote was never closed
+                line = reader.readLine();
+                if (line == null) {
+                    throw new IllegalArgumentException("Unterminated quoted field at end of file.");
+                }
+                field.append('\n');
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+}
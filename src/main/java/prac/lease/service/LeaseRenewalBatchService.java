@@ -0,0 +1,23 @@
+package prac.lease.service;
+
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the chunked lease auto-renewal batch job.
+ */
+public interface LeaseRenewalBatchService {
+    /**
+     * Renews every overdue auto-renewing lease since the last successful run's watermark.
+     * @return ApiResponse containing the metrics of this run.
+     */
+    ApiResponse<BatchJobRunResponseDto> runAutoRenewals();
+
+    /**
+     * Retrieves the most recent auto-renewal runs, newest first.
+     * @return ApiResponse containing the run history.
+     */
+    ApiResponse<List<BatchJobRunResponseDto>> getRecentRuns();
+}
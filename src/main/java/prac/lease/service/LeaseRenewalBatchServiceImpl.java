@@ -0,0 +1,177 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.model.BatchJobRun;
+import prac.lease.model.BatchJobStatus;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseCounterDimension;
+import prac.lease.model.LeaseStatus;
+import prac.lease.repository.BatchJobRunRepository;
+import prac.lease.repository.LeaseRepository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class LeaseRenewalBatchServiceImpl implements LeaseRenewalBatchService {
+
+    public static final String JOB_NAME = "lease-auto-renewal";
+
+    private static final List<LeaseStatus> RENEWABLE_STATUSES =
+            List.of(LeaseStatus.APPROVED, LeaseStatus.ACTIVE, LeaseStatus.AUTO_RENEWED);
+    // Upper bound on periods applied to one lease in a single run
+    private static final int MAX_PERIODS_PER_RUN = 1200;
+
+    private final LeaseRepository leaseRepository;
+    private final BatchJobRunRepository batchJobRunRepository;
+    private final LeaseCounterService leaseCounterService;
+    private final TransactionTemplate transactionTemplate;
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    @Value("${lease.renewal.chunk_size:500}")
+    private int chunkSize;
+
+    public LeaseRenewalBatchServiceImpl(LeaseRepository leaseRepository,
+                                        BatchJobRunRepository batchJobRunRepository,
+                                        LeaseCounterService leaseCounterService,
+                                        PlatformTransactionManager transactionManager) {
+        this.leaseRepository = leaseRepository;
+        this.batchJobRunRepository = batchJobRunRepository;
+        this.leaseCounterService = leaseCounterService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(cron = "${lease.renewal.cron:0 0 0 * * *}")
+    public void scheduledRun() {
+        runAutoRenewals();
+    }
+
+    @Override
+    public ApiResponse<BatchJobRunResponseDto> runAutoRenewals() {
+        if (!running.compareAndSet(false, true)) {
+            return new ApiResponse<>(false, "An auto-renewal run is already in progress.", null);
+        }
+        try {
+            BatchJobRun run = execute(LocalDate.now());
+            return new ApiResponse<>(run.getStatus() != BatchJobStatus.FAILED,
+                    "Auto-renewal run finished with status " + run.getStatus() + ".", new BatchJobRunResponseDto(run));
+        } catch (Exception e) {
+            log.error("Auto-renewal run could not be started", e);
+            return new ApiResponse<>(false, "Error running auto-renewals.", null);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public ApiResponse<List<BatchJobRunResponseDto>> getRecentRuns() {
+        try {
+            List<BatchJobRunResponseDto> runs = batchJobRunRepository.findTop20ByJobNameOrderByIdDesc(JOB_NAME).stream()
+                    .map(BatchJobRunResponseDto::new)
+                    .collect(Collectors.toList());
+            return new ApiResponse<>(true, "Auto-renewal runs retrieved successfully.", runs);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching auto-renewal runs.", null);
+        }
+    }
+
+    private BatchJobRun execute(LocalDate today) {
+        // Reported only: leases approved, imported or edited into the past after a run must still be picked up,
+        // so candidates are every overdue lease. Renewing moves expiryDate past today, so none is selected twice.
+        LocalDate since = batchJobRunRepository.findTopByJobNameAndStatusOrderByIdDesc(JOB_NAME, BatchJobStatus.SUCCEEDED)
+                .map(BatchJobRun::getWatermark)
+                .orElse(null);
+        BatchJobRun run = batchJobRunRepository.save(new BatchJobRun(JOB_NAME));
+        long start = System.currentTimeMillis();
+
+        try {
+            long afterId = 0L;
+            while (true) {
+                List<Long> ids = leaseRepository.findRenewalCandidateIds(today, RENEWABLE_STATUSES, afterId,
+                        PageRequest.of(0, chunkSize));
+                if (ids.isEmpty()) {
+                    break;
+                }
+                afterId = ids.get(ids.size() - 1);
+                run.incrementChunks();
+                run.addRowsRead(ids.size());
+
+                // Each chunk commits on its own, so a bad row only costs its chunk
+                try {
+                    Integer renewed = transactionTemplate.execute(status -> renewChunk(ids, today));
+                    run.addRowsUpdated(renewed != null ? renewed : 0);
+                } catch (RuntimeException e) {
+                    log.error("Auto-renewal chunk after lease {} failed", ids.get(0), e);
+                    run.addFailures(ids.size());
+                    run.setErrorMessage(e.getMessage());
+                }
+            }
+
+            // The watermark records the last run that left nothing behind
+            if (run.getFailures() == 0) {
+                run.setStatus(BatchJobStatus.SUCCEEDED);
+                run.setWatermark(today);
+            } else {
+                run.setStatus(BatchJobStatus.COMPLETED_WITH_FAILURES);
+                run.setWatermark(since);
+            }
+        } catch (RuntimeException e) {
+            log.error("Auto-renewal run failed", e);
+            run.setStatus(BatchJobStatus.FAILED);
+            run.setWatermark(since);
+            run.setErrorMessage(e.getMessage());
+        } finally {
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMillis(System.currentTimeMillis() - start);
+            batchJobRunRepository.save(run);
+        }
+
+        log.info("Auto-renewal run {}: {} read, {} renewed, {} failed in {} chunk(s), {} ms",
+                run.getStatus(), run.getRowsRead(), run.getRowsUpdated(), run.getFailures(), run.getChunks(),
+                run.getDurationMillis());
+        return run;
+    }
+
+    private int renewChunk(List<Long> ids, LocalDate today) {
+        List<Lease> leases = leaseRepository.findAllById(ids);
+        List<Lease> renewed = new ArrayList<>();
+        List<Map<LeaseCounterDimension, String>> before = new ArrayList<>();
+
+        for (Lease lease : leases) {
+            // Re-check inside the transaction; the lease may have changed since its id was read
+            if (!lease.isAutoRenewalOption() || lease.getRenewalPeriodMonths() == null || lease.getRenewalPeriodMonths() <= 0
+                    || !RENEWABLE_STATUSES.contains(lease.getStatus()) || lease.getExpiryDate().isAfter(today)) {
+                continue;
+            }
+            before.add(leaseCounterService.snapshot(lease));
+            // A lease missed for several periods is rolled forward until it is current again
+            int periods = 0;
+            while (!lease.getExpiryDate().isAfter(today) && periods++ < MAX_PERIODS_PER_RUN) {
+                lease.autoRenew();
+            }
+            renewed.add(lease);
+        }
+
+        // The counter upserts are native queries and flush the session first, so every renewed
+        // lease goes out as one JDBC batch of versioned UPDATEs before the first counter write
+        for (int i = 0; i < renewed.size(); i++) {
+            leaseCounterService.onChanged(before.get(i), renewed.get(i));
+        }
+        return renewed.size();
+    }
+}
@@ -1,12 +1,19 @@
 package prac.lease.service;
 
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.DocumentRequestDto;
 import prac.lease.dto.LeaseRequestDto;
 import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.LeaseStatisticsDto;
+import prac.lease.dto.LeaseTransitionOutcome;
+import prac.lease.dto.PageResponse;
+import prac.lease.dto.RentalAggregateDto;
+import prac.lease.dto.SliceResponse;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
@@ -20,6 +27,9 @@ public interface LeaseService {
 
     ApiResponse<List<LeaseResponseDto>> getAllLeases();
 
+    // Keyset pagination: sort is "id" or "expiryDate", cursor is the token of the previous slice
+    ApiResponse<SliceResponse<LeaseResponseDto>> getLeaseSlice(String status, String sort, String cursor, int size);
+
     ApiResponse<LeaseResponseDto> updateLease(Long id, LeaseRequestDto updateRequest);
 
     ApiResponse<String> deleteLease(Long id);
@@ -29,6 +39,11 @@ public interface LeaseService {
 
     ApiResponse<LeaseResponseDto> rejectLease(Long id, String reason);
 
+    // Batch transitions from PENDING_APPROVAL; every id gets its own outcome
+    ApiResponse<List<LeaseTransitionOutcome>> approveLeases(List<Long> ids);
+
+    ApiResponse<List<LeaseTransitionOutcome>> rejectLeases(List<Long> ids, String reason);
+
     ApiResponse<List<LeaseResponseDto>> getPendingApprovalLeases();
 
     ApiResponse<List<LeaseResponseDto>> getApprovedLeases();
@@ -55,6 +70,23 @@ public interface LeaseService {
 
     ApiResponse<Map<String, Object>> getExpiryStatistics();
 
+    // Streams the lease register in the ApiResponse envelope; body holds the error envelope on failure
+    ApiResponse<StreamingResponseBody> streamLeases(String status);
+
+    // Monthly-equivalent rental range filter and per-currency aggregates
+    ApiResponse<List<LeaseResponseDto>> getLeasesByMonthlyRentalRange(BigDecimal minAmount, BigDecimal maxAmount, String currency);
+
+    ApiResponse<List<RentalAggregateDto>> getRentalAggregates(String status);
+
+    // Typed single-pass statistics, optionally scoped by landlord, site or category
+    ApiResponse<LeaseStatisticsDto> getStatisticsSummary();
+
+    ApiResponse<LeaseStatisticsDto> getLandlordStatisticsSummary(Long landlordId);
+
+    ApiResponse<LeaseStatisticsDto> getSiteStatisticsSummary(Long siteId);
+
+    ApiResponse<LeaseStatisticsDto> getCategoryStatisticsSummary(String category);
+
     // Auto-renewal operations
     void processAutoRenewals();
 
@@ -77,6 +109,16 @@ public interface LeaseService {
     ApiResponse<List<LeaseResponseDto>> searchLeases(String agreementNumber, String status,
                                                      String operationalStatus, Long landlordId, Long siteId);
 
+    // Paged and sorted search; sort is "property" or "property,asc|desc"
+    ApiResponse<PageResponse<LeaseResponseDto>> searchLeasePage(String agreementNumber, String status, String operationalStatus,
+                                                                Long landlordId, Long siteId, int page, int size, String sort);
+
+    // Sparse fieldsets: only the comma-separated fields are selected and returned
+    ApiResponse<Map<String, Object>> getLeaseFieldsById(Long id, String fields);
+
+    ApiResponse<List<Map<String, Object>>> searchLeaseFields(String agreementNumber, String status, String operationalStatus,
+                                                             Long landlordId, Long siteId, String fields);
+
     // SEPARATE DOCUMENT OPERATION
     ApiResponse<LeaseResponseDto> addDocumentsToLease(Long leaseId, List<MultipartFile> files,
                                                       List<DocumentRequestDto> documentRequests) throws IOException;
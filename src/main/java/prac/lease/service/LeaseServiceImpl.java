@@ -1,53 +1,80 @@
 package prac.lease.service;
 
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.util.StringUtils;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.DocumentRequestDto;
+import prac.lease.dto.DocumentResponseDto;
+import prac.lease.dto.LeaseCursor;
+import prac.lease.dto.LeaseField;
 import prac.lease.dto.LeaseRequestDto;
 import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.LeaseStatisticsDto;
+import prac.lease.dto.LeaseTransitionOutcome;
+import prac.lease.dto.PageResponse;
+import prac.lease.dto.RentalAggregateDto;
+import prac.lease.dto.SliceResponse;
 import prac.lease.exception.ResourceNotFoundException;
 import prac.lease.model.*;
 import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.LeaseSpecifications;
 import prac.lease.repository.LandlordRepository;
 import prac.lease.repository.SiteRepository;
 
 import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.math.BigDecimal;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @Slf4j
 public class LeaseServiceImpl implements LeaseService {
 
+    private static final int MAX_SLICE_SIZE = 500;
+    private static final int MAX_TRANSITION_BATCH = 1000;
+    private static final Set<String> SEARCH_SORT_PROPERTIES =
+            Set.of("id", "agreementNumber", "status", "expiryDate", "commencementDate");
+
     private final LeaseRepository leaseRepository;
     private final LandlordRepository landlordRepository;
     private final SiteRepository siteRepository;
-
-    // Add this field to resolve fileUploadBaseDir issue
-    @Value("${file.upload.path}")
-    private String fileUploadBaseDir;
+    private final LeaseCounterService leaseCounterService;
+    private final QuickSearchService quickSearchService;
+    private final LeaseRenewalBatchService leaseRenewalBatchService;
+    private final ApiResponseStreamer apiResponseStreamer;
+    private final DocumentService documentService;
 
     public LeaseServiceImpl(LeaseRepository leaseRepository,
                             LandlordRepository landlordRepository,
-                            SiteRepository siteRepository) {
+                            SiteRepository siteRepository,
+                            LeaseCounterService leaseCounterService,
+                            QuickSearchService quickSearchService,
+                            LeaseRenewalBatchService leaseRenewalBatchService,
+                            ApiResponseStreamer apiResponseStreamer,
+                            DocumentService documentService) {
         this.leaseRepository = leaseRepository;
         this.landlordRepository = landlordRepository;
         this.siteRepository = siteRepository;
+        this.leaseCounterService = leaseCounterService;
+        this.quickSearchService = quickSearchService;
+        this.leaseRenewalBatchService = leaseRenewalBatchService;
+        this.apiResponseStreamer = apiResponseStreamer;
+        this.documentService = documentService;
     }
 
     @Override
@@ -99,8 +126,15 @@ public class LeaseServiceImpl implements LeaseService {
             }
 
             newLease.setCommencementAmount(leaseRequest.getCommencementAmount());
+            if (newLease.conflictsWithStatedCurrency(leaseRequest.getCurrency())) {
+                return new ApiResponse<>(false, "Currency " + leaseRequest.getCurrency()
+                        + " conflicts with the currency named in the rental or commencement amount.", null);
+            }
+            newLease.setCurrency(leaseRequest.getCurrency());
 
             Lease savedLease = leaseRepository.save(newLease);
+            leaseCounterService.onCreated(savedLease);
+            quickSearchService.indexLease(savedLease);
             LeaseResponseDto responseDto = new LeaseResponseDto(savedLease);
 
             return new ApiResponse<>(true, "Lease created successfully and pending approval.", responseDto);
@@ -123,8 +157,10 @@ public class LeaseServiceImpl implements LeaseService {
                 return new ApiResponse<>(false, "Lease is not in pending approval status.", null);
             }
 
+            Map<LeaseCounterDimension, String> before = leaseCounterService.snapshot(lease);
             lease.setStatus(LeaseStatus.APPROVED);
             Lease updatedLease = leaseRepository.save(lease);
+            leaseCounterService.onChanged(before, updatedLease);
             LeaseResponseDto responseDto = new LeaseResponseDto(updatedLease);
 
             return new ApiResponse<>(true, "Lease approved successfully.", responseDto);
@@ -147,8 +183,10 @@ public class LeaseServiceImpl implements LeaseService {
                 return new ApiResponse<>(false, "Lease is not in pending approval status.", null);
             }
 
+            Map<LeaseCounterDimension, String> before = leaseCounterService.snapshot(lease);
             lease.setStatus(LeaseStatus.REJECTED);
             Lease updatedLease = leaseRepository.save(lease);
+            leaseCounterService.onChanged(before, updatedLease);
             LeaseResponseDto responseDto = new LeaseResponseDto(updatedLease);
 
             return new ApiResponse<>(true, "Lease rejected successfully. Reason: " + reason, responseDto);
@@ -160,12 +198,78 @@ public class LeaseServiceImpl implements LeaseService {
         }
     }
 
+    @Override
+    @Transactional
+    public ApiResponse<List<LeaseTransitionOutcome>> approveLeases(List<Long> ids) {
+        return transitionPendingLeases(ids, LeaseStatus.APPROVED, "approved");
+    }
+
+    @Override
+    @Transactional
+    public ApiResponse<List<LeaseTransitionOutcome>> rejectLeases(List<Long> ids, String reason) {
+        ApiResponse<List<LeaseTransitionOutcome>> response = transitionPendingLeases(ids, LeaseStatus.REJECTED, "rejected");
+        if (response.success() && reason != null && !reason.isBlank()) {
+            return new ApiResponse<>(true, response.message() + " Reason: " + reason, response.body());
+        }
+        return response;
+    }
+
+    // Locks the requested leases in one query, moves the pending ones and flushes them as one
+    // batch of version-checked UPDATEs, so Envers records a revision for each; anything not
+    // pending any more, including a lease a concurrent request just approved, is reported as such
+    private ApiResponse<List<LeaseTransitionOutcome>> transitionPendingLeases(List<Long> ids, LeaseStatus target, String verb) {
+        try {
+            if (ids == null || ids.isEmpty() || ids.size() > MAX_TRANSITION_BATCH) {
+                return new ApiResponse<>(false, "Provide between 1 and " + MAX_TRANSITION_BATCH + " lease IDs.", null);
+            }
+            List<Long> requested = ids.stream().filter(Objects::nonNull).distinct().toList();
+            Map<Long, Lease> leases = leaseRepository.findAllByIdForUpdate(requested).stream()
+                    .collect(Collectors.toMap(Lease::getId, lease -> lease));
+
+            List<Lease> moved = new ArrayList<>();
+            List<Map<LeaseCounterDimension, String>> before = new ArrayList<>();
+            Map<Long, String> refusals = new HashMap<>();
+            for (Long id : requested) {
+                Lease lease = leases.get(id);
+                if (lease == null) {
+                    refusals.put(id, "Lease not found with ID: " + id);
+                } else if (lease.getStatus() != LeaseStatus.PENDING_APPROVAL) {
+                    refusals.put(id, "Lease is not in pending approval status (current status: " + lease.getStatus() + ").");
+                } else {
+                    before.add(leaseCounterService.snapshot(lease));
+                    lease.setStatus(target);
+                    moved.add(lease);
+                }
+            }
+            leaseRepository.flush();
+
+            // Counter upserts are native queries that auto-flush, so they run after the batch is written
+            for (int i = 0; i < moved.size(); i++) {
+                leaseCounterService.onChanged(before.get(i), moved.get(i));
+            }
+
+            List<LeaseTransitionOutcome> outcomes = new ArrayList<>(requested.size());
+            for (Long id : requested) {
+                Lease lease = leases.get(id);
+                String refusal = refusals.get(id);
+                outcomes.add(refusal == null
+                        ? new LeaseTransitionOutcome(id, true, "Lease " + verb + " successfully.", lease.getStatus(), lease.getVersion())
+                        : new LeaseTransitionOutcome(id, false, refusal,
+                        lease != null ? lease.getStatus() : null, lease != null ? lease.getVersion() : null));
+            }
+            String message = moved.size() + " of " + requested.size() + " leases " + verb + ".";
+            return new ApiResponse<>(true, message, outcomes);
+        } catch (Exception e) {
+            log.error("Batch transition to {} failed", target, e);
+            return new ApiResponse<>(false, "Error updating lease statuses.", null);
+        }
+    }
+
     @Override
     public ApiResponse<LeaseResponseDto> getLeaseById(Long id) {
         try {
-            Lease lease = leaseRepository.findById(id)
+            LeaseResponseDto responseDto = leaseRepository.findLeaseDtoById(id)
                     .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + id));
-            LeaseResponseDto responseDto = new LeaseResponseDto(lease);
             return new ApiResponse<>(true, "Lease retrieved successfully.", responseDto);
         } catch (ResourceNotFoundException e) {
             return new ApiResponse<>(false, e.getMessage(), null);
@@ -178,10 +282,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getAllLeases() {
         try {
-            List<Lease> leases = leaseRepository.findAll();
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtos();
             return new ApiResponse<>(true, "Leases retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -189,13 +290,59 @@ public class LeaseServiceImpl implements LeaseService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<SliceResponse<LeaseResponseDto>> getLeaseSlice(String status, String sort, String cursor, int size) {
+        try {
+            if (size < 1 || size > MAX_SLICE_SIZE) {
+                return new ApiResponse<>(false, "Slice size must be between 1 and " + MAX_SLICE_SIZE + ".", null);
+            }
+            String sortKey = sort == null ? LeaseCursor.SORT_ID : sort;
+            if (!LeaseCursor.SORT_ID.equals(sortKey) && !LeaseCursor.SORT_EXPIRY_DATE.equals(sortKey)) {
+                return new ApiResponse<>(false, "Invalid sort: " + sort + ". Use 'id' or 'expiryDate'.", null);
+            }
+            LeaseStatus leaseStatus = status != null ? LeaseStatus.valueOf(status.toUpperCase()) : null;
+            LeaseCursor after = cursor != null && !cursor.isBlank() ? LeaseCursor.decode(cursor, sortKey) : null;
+
+            Slice<LeaseResponseDto> slice = findLeaseSlice(leaseStatus, sortKey, after, PageRequest.of(0, size));
+            List<LeaseResponseDto> responseDtos = slice.getContent();
+
+            String nextCursor = null;
+            if (slice.hasNext()) {
+                LeaseResponseDto last = responseDtos.get(responseDtos.size() - 1);
+                nextCursor = new LeaseCursor(sortKey, last.getExpiryDate(), last.getId()).encode();
+            }
+            return new ApiResponse<>(true, "Leases retrieved successfully.",
+                    new SliceResponse<>(responseDtos, size, slice.hasNext(), nextCursor));
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse<>(false, "Invalid status or cursor provided.", null);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching leases.", null);
+        }
+    }
+
+    private Slice<LeaseResponseDto> findLeaseSlice(LeaseStatus status, String sort, LeaseCursor after, Pageable pageable) {
+        if (LeaseCursor.SORT_ID.equals(sort)) {
+            long afterId = after != null ? after.id() : 0L;
+            return status != null
+                    ? leaseRepository.findSliceByStatusAfterId(status, afterId, pageable)
+                    : leaseRepository.findSliceAfterId(afterId, pageable);
+        }
+        if (after == null) {
+            return status != null
+                    ? leaseRepository.findFirstSliceByStatusAndExpiry(status, pageable)
+                    : leaseRepository.findFirstSliceByExpiry(pageable);
+        }
+        return status != null
+                ? leaseRepository.findSliceByStatusAfterExpiry(status, after.expiryDate(), after.id(), pageable)
+                : leaseRepository.findSliceAfterExpiry(after.expiryDate(), after.id(), pageable);
+    }
+
     @Override
     public ApiResponse<List<LeaseResponseDto>> getPendingApprovalLeases() {
         try {
-            List<Lease> pendingLeases = leaseRepository.findByStatus(LeaseStatus.PENDING_APPROVAL);
-            List<LeaseResponseDto> responseDtos = pendingLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByStatus(LeaseStatus.PENDING_APPROVAL);
             return new ApiResponse<>(true, "Pending approval leases retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -206,10 +353,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getApprovedLeases() {
         try {
-            List<Lease> approvedLeases = leaseRepository.findByStatus(LeaseStatus.APPROVED);
-            List<LeaseResponseDto> responseDtos = approvedLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByStatus(LeaseStatus.APPROVED);
             return new ApiResponse<>(true, "Approved leases retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -239,6 +383,7 @@ public class LeaseServiceImpl implements LeaseService {
                 return new ApiResponse<>(false, "Commencement date cannot be after expiry date.", null);
             }
 
+            Map<LeaseCounterDimension, String> before = leaseCounterService.snapshot(existingLease);
             existingLease.setLandlord(landlord);
             existingLease.setSite(site);
             existingLease.setAgreementNumber(updateRequest.getAgreementNumber());
@@ -267,8 +412,20 @@ public class LeaseServiceImpl implements LeaseService {
             }
 
             existingLease.setCommencementAmount(updateRequest.getCommencementAmount());
+            if (existingLease.conflictsWithStatedCurrency(updateRequest.getCurrency())) {
+                return new ApiResponse<>(false, "Currency " + updateRequest.getCurrency()
+                        + " conflicts with the currency named in the rental or commencement amount.", null);
+            }
+            // An explicit currency wins; otherwise one named in the new text replaces the old, and none keeps it
+            if (updateRequest.getCurrency() != null) {
+                existingLease.setCurrency(updateRequest.getCurrency());
+            } else if (existingLease.statedCurrency() != null) {
+                existingLease.setCurrency(existingLease.statedCurrency());
+            }
 
             Lease updatedLease = leaseRepository.save(existingLease);
+            leaseCounterService.onChanged(before, updatedLease);
+            quickSearchService.indexLease(updatedLease);
             LeaseResponseDto responseDto = new LeaseResponseDto(updatedLease);
 
             return new ApiResponse<>(true, "Lease updated successfully.", responseDto);
@@ -293,6 +450,8 @@ public class LeaseServiceImpl implements LeaseService {
             }
 
             leaseRepository.delete(lease);
+            leaseCounterService.onDeleted(lease);
+            quickSearchService.removeLease(id);
             return new ApiResponse<>(true, "Lease deleted successfully.", "Lease with ID " + id + " has been deleted.");
         } catch (ResourceNotFoundException e) {
             return new ApiResponse<>(false, e.getMessage(), null);
@@ -305,10 +464,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getExpiringLeases(LocalDate startDate, LocalDate endDate) {
         try {
-            List<Lease> expiringLeases = leaseRepository.findByExpiryDateBetween(startDate, endDate);
-            List<LeaseResponseDto> responseDtos = expiringLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByExpiryDateBetween(startDate, endDate);
             return new ApiResponse<>(true, "Expiring leases retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -317,33 +473,16 @@ public class LeaseServiceImpl implements LeaseService {
     }
 
     @Override
-    @Scheduled(cron = "0 0 0 * * ?") // Run daily at midnight
-    @Transactional
     public void processAutoRenewals() {
-        try {
-            LocalDate today = LocalDate.now();
-            List<Lease> expiringLeases = leaseRepository.findByExpiryDateAndAutoRenewalOption(today, true);
-
-            for (Lease lease : expiringLeases) {
-                if (lease.isAutoRenewalOption() && lease.getRenewalPeriodMonths() != null) {
-                    lease.autoRenew();
-                    leaseRepository.save(lease);
-
-                }
-            }
-        } catch (Exception e) {
-
-        }
+        // Chunked, watermark-driven renewal; scheduled by the batch service itself
+        leaseRenewalBatchService.runAutoRenewals();
     }
 
     @Override
     public ApiResponse<List<LeaseResponseDto>> getLeasesByStatus(String status) {
         try {
             LeaseStatus leaseStatus = LeaseStatus.valueOf(status.toUpperCase());
-            List<Lease> leases = leaseRepository.findByStatus(leaseStatus);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByStatus(leaseStatus);
             return new ApiResponse<>(true, "Leases retrieved successfully for status: " + status, responseDtos);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid status: " + status, null);
@@ -357,10 +496,7 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<List<LeaseResponseDto>> getLeasesByRentalType(String rentalType) {
         try {
             RentalType type = RentalType.valueOf(rentalType.toUpperCase());
-            List<Lease> leases = leaseRepository.findByRentalType(type);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByRentalType(type);
             return new ApiResponse<>(true, "Leases retrieved successfully for rental type: " + rentalType, responseDtos);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid rental type: " + rentalType, null);
@@ -374,10 +510,7 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<List<LeaseResponseDto>> getLeasesByLeaseType(String leaseType) {
         try {
             LeaseType type = LeaseType.valueOf(leaseType.toUpperCase());
-            List<Lease> leases = leaseRepository.findByLeaseType(type);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByLeaseType(type);
             return new ApiResponse<>(true, "Leases retrieved successfully for lease type: " + leaseType, responseDtos);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid lease type: " + leaseType, null);
@@ -390,10 +523,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getActiveLeases() {
         try {
-            List<Lease> activeLeases = leaseRepository.findActiveLeases();
-            List<LeaseResponseDto> responseDtos = activeLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findActiveLeaseDtos();
             return new ApiResponse<>(true, "Active leases retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -404,10 +534,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getLeasesWithDocuments() {
         try {
-            List<Lease> leases = leaseRepository.findLeasesWithDocuments();
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosWithDocuments();
             return new ApiResponse<>(true, "Leases with documents retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -418,10 +545,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getLeasesWithoutDocuments() {
         try {
-            List<Lease> leases = leaseRepository.findLeasesWithoutDocuments();
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosWithoutDocuments();
             return new ApiResponse<>(true, "Leases without documents retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -432,10 +556,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getLeasesByAutoRenewalOption(boolean autoRenewal) {
         try {
-            List<Lease> leases = leaseRepository.findByAutoRenewalOption(autoRenewal);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByAutoRenewalOption(autoRenewal);
             return new ApiResponse<>(true,
                     "Leases with auto renewal " + (autoRenewal ? "enabled" : "disabled") + " retrieved successfully.",
                     responseDtos);
@@ -446,22 +567,11 @@ public class LeaseServiceImpl implements LeaseService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public ApiResponse<List<LeaseResponseDto>> searchLeases(String agreementNumber, String status, String operationalStatus, Long landlordId, Long siteId) {
         try {
-            LeaseStatus leaseStatus = null;
-            if (status != null) {
-                leaseStatus = LeaseStatus.valueOf(status.toUpperCase());
-            }
-
-            OperationalStatus opStatus = null;
-            if (operationalStatus != null) {
-                opStatus = OperationalStatus.valueOf(operationalStatus.toUpperCase());
-            }
-
-            List<Lease> leases = leaseRepository.findByMultipleCriteria(agreementNumber, leaseStatus, opStatus, landlordId, siteId);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            Specification<Lease> specification = buildSearchSpecification(agreementNumber, status, operationalStatus, landlordId, siteId);
+            List<LeaseResponseDto> responseDtos = toResponseDtos(leaseRepository.findAll(specification, Sort.by("id")));
             return new ApiResponse<>(true, "Search results retrieved successfully.", responseDtos);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid status or operational status provided.", null);
@@ -472,93 +582,133 @@ public class LeaseServiceImpl implements LeaseService {
     }
 
     @Override
-    @Transactional
-    public ApiResponse<LeaseResponseDto> addDocumentsToLease(Long leaseId, List<MultipartFile> files,
-                                                             List<DocumentRequestDto> documentRequests) throws IOException {
+    @Transactional(readOnly = true)
+    public ApiResponse<PageResponse<LeaseResponseDto>> searchLeasePage(String agreementNumber, String status, String operationalStatus,
+                                                                       Long landlordId, Long siteId, int page, int size, String sort) {
         try {
-            Lease lease = leaseRepository.findById(leaseId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + leaseId));
-
-            // STRICT VALIDATION: Only approved leases can have documents
-            if (!lease.canAttachDocuments()) {
-                return new ApiResponse<>(false,
-                        "Documents can only be attached to approved leases. Current status: " + lease.getStatus(),
-                        null);
+            if (page < 0 || size < 1 || size > MAX_SLICE_SIZE) {
+                return new ApiResponse<>(false, "Page must be zero or more and size must be between 1 and " + MAX_SLICE_SIZE + ".", null);
             }
 
-            if (files == null || files.isEmpty()) {
-                return new ApiResponse<>(false, "No files provided for upload.", null);
-            }
+            Specification<Lease> specification = buildSearchSpecification(agreementNumber, status, operationalStatus, landlordId, siteId);
+            Page<Lease> leasePage = leaseRepository.findAll(specification, PageRequest.of(page, size, parseSearchSort(sort)));
+            PageResponse<LeaseResponseDto> response = PageResponse.of(leasePage, toResponseDtos(leasePage.getContent()));
 
-            if (files.size() != documentRequests.size()) {
-                return new ApiResponse<>(false, "Number of files must match number of document requests.", null);
-            }
-
-            // Process each document
-            for (int i = 0; i < files.size(); i++) {
-                MultipartFile file = files.get(i);
-                DocumentRequestDto documentRequest = documentRequests.get(i);
+            return new ApiResponse<>(true, "Search results retrieved successfully.", response);
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse<>(false, "Invalid search parameters: " + e.getMessage(), null);
+        } catch (Exception e) {
 
-                Document document = createDocumentFromRequest(file, documentRequest, lease);
-                lease.addDocument(document);
+            return new ApiResponse<>(false, "Error searching leases.", null);
+        }
+    }
 
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<Map<String, Object>> getLeaseFieldsById(Long id, String fields) {
+        try {
+            List<Map<String, Object>> rows = leaseRepository.findLeaseFields(LeaseField.parse(fields),
+                    (root, query, cb) -> cb.equal(root.get("id"), id), Sort.unsorted());
+            if (rows.isEmpty()) {
+                return new ApiResponse<>(false, "Lease not found with ID: " + id, null);
             }
-
-            Lease updatedLease = leaseRepository.save(lease);
-            LeaseResponseDto responseDto = new LeaseResponseDto(updatedLease);
-
-            return new ApiResponse<>(true,
-                    String.format("%d document(s) added to lease successfully.", files.size()),
-                    responseDto);
-        } catch (ResourceNotFoundException e) {
+            return new ApiResponse<>(true, "Lease retrieved successfully.", rows.get(0));
+        } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, e.getMessage(), null);
         } catch (Exception e) {
 
-            return new ApiResponse<>(false, "Error adding documents to lease.", null);
+            return new ApiResponse<>(false, "Error fetching lease.", null);
         }
     }
 
-    private Document createDocumentFromRequest(MultipartFile file, DocumentRequestDto documentRequest, Lease lease) throws IOException {
-        // Validate file type - only PDF allowed
-        String originalFileName = file.getOriginalFilename();
-        if (originalFileName == null || !originalFileName.toLowerCase().endsWith(".pdf")) {
-            throw new IllegalArgumentException("Only PDF files are allowed.");
+    @Override
+    @Transactional(readOnly = true)
+    public ApiResponse<List<Map<String, Object>>> searchLeaseFields(String agreementNumber, String status, String operationalStatus,
+                                                                    Long landlordId, Long siteId, String fields) {
+        List<LeaseField> leaseFields;
+        try {
+            leaseFields = LeaseField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse<>(false, e.getMessage(), null);
         }
+        try {
+            LeaseStatus leaseStatus = status != null ? LeaseStatus.valueOf(status.toUpperCase()) : null;
+            OperationalStatus opStatus = operationalStatus != null ? OperationalStatus.valueOf(operationalStatus.toUpperCase()) : null;
+            List<Map<String, Object>> rows = leaseRepository.findLeaseFields(leaseFields,
+                    LeaseSpecifications.filter(agreementNumber, leaseStatus, opStatus, landlordId, siteId), Sort.by("id"));
+            return new ApiResponse<>(true, "Leases retrieved successfully.", rows);
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse<>(false, "Invalid status or operational status provided.", null);
+        } catch (Exception e) {
 
-        String fileName = StringUtils.cleanPath(file.getOriginalFilename());
-        if (fileName.contains("..")) {
-            throw new IllegalArgumentException("Invalid file path sequence.");
+            return new ApiResponse<>(false, "Error fetching leases.", null);
         }
+    }
+
+    private Specification<Lease> buildSearchSpecification(String agreementNumber, String status, String operationalStatus,
+                                                          Long landlordId, Long siteId) {
+        LeaseStatus leaseStatus = status != null ? LeaseStatus.valueOf(status.toUpperCase()) : null;
+        OperationalStatus opStatus = operationalStatus != null ? OperationalStatus.valueOf(operationalStatus.toUpperCase()) : null;
+        return LeaseSpecifications.search(agreementNumber, leaseStatus, opStatus, landlordId, siteId);
+    }
 
-        // Check file size (max 10MB)
-        if (file.getSize() > 10 * 1024 * 1024) {
-            throw new IllegalArgumentException("File size must be less than 10MB.");
+    // Accepts "property" or "property,asc|desc"; only indexed or cheap columns are sortable
+    private Sort parseSearchSort(String sort) {
+        if (sort == null || sort.isBlank()) {
+            return Sort.by("id");
+        }
+        String[] parts = sort.split(",");
+        String property = parts[0].trim();
+        if (!SEARCH_SORT_PROPERTIES.contains(property)) {
+            throw new IllegalArgumentException("Unsupported sort property: " + property);
         }
+        Sort.Direction direction = parts.length > 1 ? Sort.Direction.fromString(parts[1].trim()) : Sort.Direction.ASC;
+        // Tie-break on id so pages are stable
+        return property.equals("id") ? Sort.by(direction, "id") : Sort.by(direction, property).and(Sort.by(direction, "id"));
+    }
 
-        // FIXED: fileUploadBaseDir is now available via @Value annotation
-        Path uploadPath = Paths.get(fileUploadBaseDir, "documents");
-        Files.createDirectories(uploadPath);
+    // Map a page of leases whose landlord and site are already fetched, counting documents in one query
+    private List<LeaseResponseDto> toResponseDtos(List<Lease> leases) {
+        if (leases.isEmpty()) {
+            return List.of();
+        }
+        List<Long> leaseIds = leases.stream().map(Lease::getId).collect(Collectors.toList());
+        Map<Long, Long> documentCounts = new HashMap<>();
+        for (Object[] row : leaseRepository.countDocumentsByLeaseIds(leaseIds)) {
+            documentCounts.put((Long) row[0], (Long) row[1]);
+        }
+        return leases.stream()
+                .map(lease -> new LeaseResponseDto(lease, lease.getLandlord(), lease.getSite(), documentCounts.get(lease.getId())))
+                .collect(Collectors.toList());
+    }
 
-        String newFileName = UUID.randomUUID().toString() + "_" + fileName;
-        Path filePath = uploadPath.resolve(newFileName);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+    // Not @Transactional: the files are written in parallel before the document rows go in as one batch
+    @Override
+    public ApiResponse<LeaseResponseDto> addDocumentsToLease(Long leaseId, List<MultipartFile> files,
+                                                             List<DocumentRequestDto> documentRequests) throws IOException {
+        try {
+            ApiResponse<List<DocumentResponseDto>> uploaded = documentService.uploadDocuments(leaseId, files, documentRequests);
+            if (!uploaded.success()) {
+                return new ApiResponse<>(false, uploaded.message(), null);
+            }
 
-        Document document = new Document();
-        document.setFileName(newFileName);
-        document.setFileUrl(filePath.toString());
-        document.setDocumentType(documentRequest.getDocumentType());
-        document.setCategory(documentRequest.getCategory());
-        document.setDescription(documentRequest.getDescription());
-        document.setUploadTime(LocalDateTime.now());
-        document.setLease(lease);
+            LeaseResponseDto responseDto = leaseRepository.findLeaseDtoById(leaseId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Lease not found with ID: " + leaseId));
+            return new ApiResponse<>(true,
+                    String.format("%d document(s) added to lease successfully.", files.size()),
+                    responseDto);
+        } catch (ResourceNotFoundException e) {
+            return new ApiResponse<>(false, e.getMessage(), null);
+        } catch (Exception e) {
 
-        return document;
+            return new ApiResponse<>(false, "Error adding documents to lease.", null);
+        }
     }
 
     @Override
     public ApiResponse<Long> getTotalLeaseCount() {
         try {
-            long count = leaseRepository.count();
+            long count = leaseCounterService.getCount(LeaseCounterDimension.TOTAL, LeaseCounterDimension.ALL);
             return new ApiResponse<>(true, "Total lease count retrieved successfully.", count);
         } catch (Exception e) {
 
@@ -570,7 +720,7 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<Long> getLeaseCountByStatus(String status) {
         try {
             LeaseStatus leaseStatus = LeaseStatus.valueOf(status.toUpperCase());
-            long count = leaseRepository.countByStatus(leaseStatus);
+            long count = leaseCounterService.getCount(LeaseCounterDimension.STATUS, leaseStatus.name());
             return new ApiResponse<>(true, "Lease count for status " + status + " retrieved successfully.", count);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid status: " + status, null);
@@ -584,7 +734,7 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<Long> getLeaseCountByOperationalStatus(String operationalStatus) {
         try {
             OperationalStatus opStatus = OperationalStatus.valueOf(operationalStatus.toUpperCase());
-            long count = leaseRepository.countByOperationalStatus(opStatus);
+            long count = leaseCounterService.getCount(LeaseCounterDimension.OPERATIONAL_STATUS, opStatus.name());
             return new ApiResponse<>(true, "Lease count for operational status " + operationalStatus + " retrieved successfully.", count);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid operational status: " + operationalStatus, null);
@@ -612,10 +762,7 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<List<LeaseResponseDto>> getLeasesByOperationalStatus(String operationalStatus) {
         try {
             OperationalStatus status = OperationalStatus.valueOf(operationalStatus.toUpperCase());
-            List<Lease> leases = leaseRepository.findByOperationalStatus(status);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByOperationalStatus(status);
             return new ApiResponse<>(true, "Leases retrieved successfully for operational status: " + operationalStatus, responseDtos);
         } catch (IllegalArgumentException e) {
             return new ApiResponse<>(false, "Invalid operational status: " + operationalStatus, null);
@@ -631,10 +778,7 @@ public class LeaseServiceImpl implements LeaseService {
             if (!landlordRepository.existsById(landlordId)) {
                 return new ApiResponse<>(false, "Landlord not found with ID: " + landlordId, null);
             }
-            List<Lease> leases = leaseRepository.findByLandlord_Id(landlordId);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByLandlordId(landlordId);
             return new ApiResponse<>(true, "Leases retrieved successfully for landlord.", responseDtos);
         } catch (Exception e) {
 
@@ -648,10 +792,7 @@ public class LeaseServiceImpl implements LeaseService {
             if (!siteRepository.existsById(siteId)) {
                 return new ApiResponse<>(false, "Site not found with ID: " + siteId, null);
             }
-            List<Lease> leases = leaseRepository.findBySite_Id(siteId);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosBySiteId(siteId);
             return new ApiResponse<>(true, "Leases retrieved successfully for site.", responseDtos);
         } catch (Exception e) {
 
@@ -662,10 +803,7 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<List<LeaseResponseDto>> getLeasesByCategory(String category) {
         try {
-            List<Lease> leases = leaseRepository.findByLeaseCategoryContainingIgnoreCase(category);
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByCategoryContaining(category);
             return new ApiResponse<>(true, "Leases retrieved successfully for category: " + category, responseDtos);
         } catch (Exception e) {
 
@@ -677,10 +815,7 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<List<LeaseResponseDto>> getExpiredLeases() {
         try {
             LocalDate today = LocalDate.now();
-            List<Lease> expiredLeases = leaseRepository.findByExpiryDateBefore(today);
-            List<LeaseResponseDto> responseDtos = expiredLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByExpiryDateBefore(today);
             return new ApiResponse<>(true, "Expired leases retrieved successfully.", responseDtos);
         } catch (Exception e) {
 
@@ -692,15 +827,8 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<List<LeaseResponseDto>> getLeasesByCategoryAndStatus(String category, String status) {
         try {
             LeaseStatus leaseStatus = LeaseStatus.valueOf(status.toUpperCase());
-            List<Lease> leases = leaseRepository.findByLeaseCategoryContainingIgnoreCase(category);
-            // Filter by status in memory or create a new repository method
-            List<Lease> filteredLeases = leases.stream()
-                    .filter(lease -> lease.getStatus() == leaseStatus)
-                    .collect(Collectors.toList());
-
-            List<LeaseResponseDto> responseDtos = filteredLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos =
+                    leaseRepository.findLeaseDtosByCategoryContainingAndStatus(category, leaseStatus);
             return new ApiResponse<>(true,
                     "Leases retrieved successfully for category: " + category + " and status: " + status,
                     responseDtos);
@@ -716,25 +844,25 @@ public class LeaseServiceImpl implements LeaseService {
     public ApiResponse<Map<String, Object>> getLeaseStatistics() {
         try {
             LocalDate today = LocalDate.now();
-            LocalDate nextMonth = today.plusDays(30);
             Map<String, Object> statistics = new HashMap<>();
 
             // Total leases count
-            statistics.put("totalLeases", leaseRepository.count());
+            statistics.put("totalLeases", leaseCounterService.getCount(LeaseCounterDimension.TOTAL, LeaseCounterDimension.ALL));
 
             // Leases by status
+            Map<String, Long> statusCounts = leaseCounterService.getCounts(LeaseCounterDimension.STATUS);
             for (LeaseStatus status : LeaseStatus.values()) {
-                statistics.put(status.name().toLowerCase() + "Leases", leaseRepository.countByStatus(status));
+                statistics.put(status.name().toLowerCase() + "Leases", statusCounts.getOrDefault(status.name(), 0L));
             }
 
-            // Expired leases
+            // Expired leases (date-relative, answered by a range scan on the expiry index)
             statistics.put("expiredLeases", leaseRepository.countByExpiryDateBefore(today));
 
             // Leases expiring soon (next 30 days)
-            statistics.put("leasesExpiringSoon", leaseRepository.countByExpiryDateBetween(today, nextMonth));
+            statistics.put("leasesExpiringSoon", leaseRepository.countByExpiryDateBetween(today, today.plusDays(30)));
 
             // Leases with auto renewal
-            statistics.put("autoRenewalLeases", leaseRepository.countByAutoRenewalOption(true));
+            statistics.put("autoRenewalLeases", leaseCounterService.getCount(LeaseCounterDimension.AUTO_RENEWAL, "true"));
 
             return new ApiResponse<>(true, "Lease statistics retrieved successfully.", statistics);
         } catch (Exception e) {
@@ -750,16 +878,16 @@ public class LeaseServiceImpl implements LeaseService {
                 return new ApiResponse<>(false, "Landlord not found with ID: " + landlordId, null);
             }
 
+            LeaseStatisticsDto summary = computeStatistics(landlordId, null, null);
             Map<String, Object> statistics = new HashMap<>();
-            statistics.put("totalLeases", leaseRepository.countByLandlord_Id(landlordId));
+            statistics.put("totalLeases", summary.totalLeases());
 
             for (LeaseStatus status : LeaseStatus.values()) {
-                statistics.put(status.name().toLowerCase() + "Leases",
-                        leaseRepository.countByLandlord_IdAndStatus(landlordId, status));
+                statistics.put(status.name().toLowerCase() + "Leases", summary.countByStatus(status));
             }
 
-            statistics.put("autoRenewalLeases",
-                    leaseRepository.countByAutoRenewalOptionAndStatus(true, LeaseStatus.ACTIVE));
+            // Only auto-renewing leases that are currently ACTIVE, as this endpoint has always counted them
+            statistics.put("autoRenewalLeases", summary.activeAutoRenewalLeases());
 
             return new ApiResponse<>(true, "Landlord lease statistics retrieved successfully.", statistics);
         } catch (Exception e) {
@@ -771,14 +899,14 @@ public class LeaseServiceImpl implements LeaseService {
     @Override
     public ApiResponse<Map<String, Object>> getExpiryStatistics() {
         try {
-            LocalDate today = LocalDate.now();
+            LeaseStatisticsDto summary = computeStatistics(null, null, null);
             Map<String, Object> statistics = new HashMap<>();
 
             // Expiry statistics for different time periods
-            statistics.put("expired", leaseRepository.countByExpiryDateBefore(today));
-            statistics.put("expiringThisWeek", leaseRepository.countByExpiryDateBetween(today, today.plusDays(7)));
-            statistics.put("expiringThisMonth", leaseRepository.countByExpiryDateBetween(today, today.plusDays(30)));
-            statistics.put("expiringNext3Months", leaseRepository.countByExpiryDateBetween(today, today.plusDays(90)));
+            statistics.put("expired", summary.expiredLeases());
+            statistics.put("expiringThisWeek", summary.expiringThisWeek());
+            statistics.put("expiringThisMonth", summary.expiringThisMonth());
+            statistics.put("expiringNext3Months", summary.expiringNext3Months());
 
             return new ApiResponse<>(true, "Expiry statistics retrieved successfully.", statistics);
         } catch (Exception e) {
@@ -786,4 +914,122 @@ public class LeaseServiceImpl implements LeaseService {
             return new ApiResponse<>(false, "Error fetching expiry statistics.", null);
         }
     }
+
+    @Override
+    public ApiResponse<StreamingResponseBody> streamLeases(String status) {
+        if (status == null || status.isBlank()) {
+            return new ApiResponse<>(true, "Streaming leases.",
+                    apiResponseStreamer.stream("Leases retrieved successfully.", leaseRepository::streamLeaseDtos));
+        }
+        try {
+            LeaseStatus leaseStatus = LeaseStatus.valueOf(status.toUpperCase());
+            return new ApiResponse<>(true, "Streaming leases.",
+                    apiResponseStreamer.stream("Leases with status " + status + " retrieved successfully.",
+                            () -> leaseRepository.streamLeaseDtosByStatus(leaseStatus)));
+        } catch (IllegalArgumentException e) {
+            String message = "Invalid status: " + status;
+            return new ApiResponse<>(false, message, apiResponseStreamer.failure(message));
+        }
+    }
+
+    @Override
+    public ApiResponse<List<LeaseResponseDto>> getLeasesByMonthlyRentalRange(BigDecimal minAmount, BigDecimal maxAmount, String currency) {
+        try {
+            if (minAmount == null || maxAmount == null || minAmount.compareTo(maxAmount) > 0) {
+                return new ApiResponse<>(false, "Minimum amount must not be greater than maximum amount.", null);
+            }
+
+            List<LeaseResponseDto> responseDtos = currency == null || currency.isBlank()
+                    ? leaseRepository.findLeaseDtosByMonthlyRentalBetween(minAmount, maxAmount)
+                    : leaseRepository.findLeaseDtosByCurrencyAndMonthlyRentalBetween(currency.trim().toUpperCase(), minAmount, maxAmount);
+            return new ApiResponse<>(true, "Leases in rental range retrieved successfully.", responseDtos);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching leases by rental range.", null);
+        }
+    }
+
+    @Override
+    public ApiResponse<List<RentalAggregateDto>> getRentalAggregates(String status) {
+        try {
+            List<RentalAggregateDto> aggregates = status == null || status.isBlank()
+                    ? leaseRepository.aggregateMonthlyRental()
+                    : leaseRepository.aggregateMonthlyRentalByStatus(LeaseStatus.valueOf(status.toUpperCase()));
+            return new ApiResponse<>(true, "Rental aggregates retrieved successfully.", aggregates);
+        } catch (IllegalArgumentException e) {
+            return new ApiResponse<>(false, "Invalid status: " + status, null);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching rental aggregates.", null);
+        }
+    }
+
+    @Override
+    public ApiResponse<LeaseStatisticsDto> getStatisticsSummary() {
+        try {
+            return new ApiResponse<>(true, "Lease statistics retrieved successfully.",
+                    computeStatistics(null, null, null));
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching lease statistics.", null);
+        }
+    }
+
+    @Override
+    public ApiResponse<LeaseStatisticsDto> getLandlordStatisticsSummary(Long landlordId) {
+        try {
+            if (!landlordRepository.existsById(landlordId)) {
+                return new ApiResponse<>(false, "Landlord not found with ID: " + landlordId, null);
+            }
+            return new ApiResponse<>(true, "Landlord lease statistics retrieved successfully.",
+                    computeStatistics(landlordId, null, null));
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching landlord lease statistics.", null);
+        }
+    }
+
+    @Override
+    public ApiResponse<LeaseStatisticsDto> getSiteStatisticsSummary(Long siteId) {
+        try {
+            if (!siteRepository.existsById(siteId)) {
+                return new ApiResponse<>(false, "Site not found with ID: " + siteId, null);
+            }
+            return new ApiResponse<>(true, "Site lease statistics retrieved successfully.",
+                    computeStatistics(null, siteId, null));
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching site lease statistics.", null);
+        }
+    }
+
+    @Override
+    public ApiResponse<LeaseStatisticsDto> getCategoryStatisticsSummary(String category) {
+        try {
+            return new ApiResponse<>(true, "Lease statistics retrieved successfully for category: " + category,
+                    computeStatistics(null, null, category));
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error fetching category lease statistics.", null);
+        }
+    }
+
+    // Runs the single-pass aggregate, scoped by at most one of landlord, site or category
+    private LeaseStatisticsDto computeStatistics(Long landlordId, Long siteId, String category) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekEnd = today.plusDays(7);
+        LocalDate monthEnd = today.plusDays(30);
+        LocalDate quarterEnd = today.plusDays(90);
+
+        if (landlordId != null) {
+            return leaseRepository.computeStatisticsByLandlord(landlordId, today, weekEnd, monthEnd, quarterEnd);
+        }
+        if (siteId != null) {
+            return leaseRepository.computeStatisticsBySite(siteId, today, weekEnd, monthEnd, quarterEnd);
+        }
+        if (category != null) {
+            return leaseRepository.computeStatisticsByCategory(category, today, weekEnd, monthEnd, quarterEnd);
+        }
+        return leaseRepository.computeStatistics(today, weekEnd, monthEnd, quarterEnd);
+    }
 }
\ No newline at end of file
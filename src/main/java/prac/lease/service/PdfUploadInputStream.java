@@ -0,0 +1,79 @@
+package prac.lease.service;
+
+import prac.lease.exception.InvalidFileException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Validates an upload while it is being read: the body must start with the PDF
+ * signature and must not run past the size limit. Either violation throws as
+ * soon as the offending bytes arrive, so a bad upload is rejected without
+ * first being received and written out in full.
+ */
+final class PdfUploadInputStream extends FilterInputStream {
+
+    private static final byte[] PDF_SIGNATURE = {'%', 'P', 'D', 'F', '-'};
+
+    private final long maxSize;
+    private long position;
+
+    PdfUploadInputStream(InputStream in, long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b < 0) {
+            checkComplete();
+        } else {
+            check((byte) b);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n < 0) {
+            checkComplete();
+        }
+        for (int i = 0; i < n; i++) {
+            check(buffer[offset + i]);
+        }
+        return n;
+    }
+
+    // Skipping would let bytes past without validation
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && read() >= 0) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void check(byte b) {
+        if (position < PDF_SIGNATURE.length && b != PDF_SIGNATURE[(int) position]) {
+            throw new InvalidFileException("Only PDF files are allowed.");
+        }
+        if (++position > maxSize) {
+            throw new InvalidFileException("File size must be less than " + maxSize / (1024 * 1024) + "MB.");
+        }
+    }
+
+    private void checkComplete() {
+        if (position < PDF_SIGNATURE.length) {
+            throw new InvalidFileException("Only PDF files are allowed.");
+        }
+    }
+}
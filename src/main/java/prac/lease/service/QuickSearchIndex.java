@@ -0,0 +1,292 @@
+package prac.lease.service;
+
+import prac.lease.dto.QuickSearchHit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over short text fields.
+ * <p>
+ * Each document is a (type, id) pair with one or more named fields. Field text
+ * is lower-cased, non-alphanumerics are folded to spaces and a leading space is
+ * added, so " ab" style trigrams mark word starts. Postings are plain int arrays
+ * of internal document slots; each document remembers its position in every
+ * posting it appears in, so a removal is a swap with the last entry rather than
+ * a scan. A query walks only the rarest of its trigrams and
+ * confirms each candidate with a substring check, so cost is bounded by the
+ * most selective trigram rather than the table size.
+ */
+public final class QuickSearchIndex {
+
+    public enum EntityType { LEASE, LANDLORD, SITE }
+
+    public static final int MIN_QUERY_LENGTH = 2;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IntList> postings = new HashMap<>();
+    private final Map<Long, Integer> slotsByKey = new HashMap<>();
+    private final List<Document> documents = new ArrayList<>();
+    private final IntList freeSlots = new IntList();
+
+    // Trigrams are sorted; positions[i] is this document's index in the posting for trigrams[i]
+    private record Document(EntityType type, Long id, String label, String[] fieldNames, String[] fieldTexts,
+                            long[] trigrams, int[] positions) {
+
+        boolean sameContent(Document other) {
+            return Objects.equals(label, other.label)
+                    && Arrays.equals(fieldNames, other.fieldNames)
+                    && Arrays.equals(fieldTexts, other.fieldTexts);
+        }
+    }
+
+    // ========== WRITES ==========
+
+    /**
+     * Adds or replaces a document. Field names and values are given as alternating pairs;
+     * the first value is used as the display label.
+     */
+    public void put(EntityType type, Long id, String... fieldPairs) {
+        String label = fieldPairs.length > 1 ? fieldPairs[1] : null;
+        int fieldCount = fieldPairs.length / 2;
+        String[] names = new String[fieldCount];
+        String[] texts = new String[fieldCount];
+        Set<Long> distinct = new HashSet<>();
+        for (int i = 0; i < fieldCount; i++) {
+            names[i] = fieldPairs[2 * i];
+            texts[i] = normalize(fieldPairs[2 * i + 1], true);
+            addTrigrams(texts[i], distinct);
+        }
+        long[] trigrams = distinct.stream().mapToLong(Long::longValue).sorted().toArray();
+        Document document = new Document(type, id, label, names, texts, trigrams, new int[trigrams.length]);
+
+        lock.writeLock().lock();
+        try {
+            // Most write hooks re-save a record without touching its searchable text
+            Integer existing = slotsByKey.get(key(type, id));
+            if (existing != null && documents.get(existing).sameContent(document)) {
+                return;
+            }
+            removeLocked(key(type, id));
+            int slot = freeSlots.size() > 0 ? freeSlots.removeLast() : documents.size();
+            if (slot == documents.size()) {
+                documents.add(document);
+            } else {
+                documents.set(slot, document);
+            }
+            slotsByKey.put(key(type, id), slot);
+            for (int i = 0; i < trigrams.length; i++) {
+                IntList list = postings.computeIfAbsent(trigrams[i], t -> new IntList());
+                document.positions()[i] = list.size();
+                list.add(slot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(EntityType type, Long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(key(type, id));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void removeLocked(long key) {
+        Integer slot = slotsByKey.remove(key);
+        if (slot == null) {
+            return;
+        }
+        Document document = documents.get(slot);
+        for (int i = 0; i < document.trigrams().length; i++) {
+            long trigram = document.trigrams()[i];
+            IntList list = postings.get(trigram);
+            int position = document.positions()[i];
+            int last = list.removeLast();
+            if (position < list.size()) {
+                // The last entry fills the gap, so its document's recorded position moves with it
+                list.set(position, last);
+                Document moved = documents.get(last);
+                moved.positions()[Arrays.binarySearch(moved.trigrams(), trigram)] = position;
+            }
+            if (list.size() == 0) {
+                postings.remove(trigram);
+            }
+        }
+        documents.set(slot, null);
+        freeSlots.add(slot);
+    }
+
+    // ========== READS ==========
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsByKey.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the top {@code limit} documents whose fields contain the query, ranked
+     * exact match, then prefix, then word start, then infix, shorter values first.
+     */
+    public List<QuickSearchHit> search(String query, int limit) {
+        String needle = normalize(query, false);
+        if (needle.length() < MIN_QUERY_LENGTH || limit < 1) {
+            return List.of();
+        }
+        // Two-character queries are matched as word prefixes via the leading-space trigram
+        String probe = needle.length() < 3 ? " " + needle : needle;
+        Set<Long> queryTrigrams = new HashSet<>();
+        addTrigrams(probe, queryTrigrams);
+
+        PriorityQueue<QuickSearchHit> top = new PriorityQueue<>(
+                Comparator.comparingInt(QuickSearchHit::score).thenComparing(QuickSearchHit::label, Comparator.nullsFirst(Comparator.<String>reverseOrder())));
+
+        lock.readLock().lock();
+        try {
+            IntList rarest = null;
+            for (long trigram : queryTrigrams) {
+                IntList list = postings.get(trigram);
+                if (list == null) {
+                    return List.of();
+                }
+                if (rarest == null || list.size() < rarest.size()) {
+                    rarest = list;
+                }
+            }
+            if (rarest == null) {
+                return List.of();
+            }
+            for (int i = 0; i < rarest.size(); i++) {
+                Document document = documents.get(rarest.get(i));
+                QuickSearchHit hit = score(document, probe, needle);
+                if (hit != null) {
+                    top.offer(hit);
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        QuickSearchHit[] ranked = top.toArray(new QuickSearchHit[0]);
+        Arrays.sort(ranked, top.comparator().reversed());
+        return List.of(ranked);
+    }
+
+    private QuickSearchHit score(Document document, String probe, String needle) {
+        int best = 0;
+        int bestField = -1;
+        for (int f = 0; f < document.fieldTexts().length; f++) {
+            String text = document.fieldTexts()[f];
+            int index = text.indexOf(probe);
+            if (index < 0) {
+                continue;
+            }
+            int score;
+            if (text.length() == needle.length() + 1) {
+                score = 4000;
+            } else if (index <= 1 && text.startsWith(needle, 1)) {
+                score = 3000;
+            } else if (text.contains(" " + needle)) {
+                score = 2000;
+            } else {
+                score = 1000;
+            }
+            score -= Math.min(text.length(), 999);
+            if (score > best) {
+                best = score;
+                bestField = f;
+            }
+        }
+        if (bestField < 0) {
+            return null;
+        }
+        return new QuickSearchHit(document.type().name(), document.id(), document.label(),
+                document.fieldNames()[bestField], best);
+    }
+
+    // ========== TEXT HANDLING ==========
+
+    static String normalize(String value, boolean padded) {
+        if (value == null) {
+            return padded ? " " : "";
+        }
+        StringBuilder builder = new StringBuilder(value.length() + 1);
+        if (padded) {
+            builder.append(' ');
+        }
+        boolean lastSpace = padded;
+        for (char c : value.toLowerCase(Locale.ROOT).toCharArray()) {
+            if (Character.isLetterOrDigit(c)) {
+                builder.append(c);
+                lastSpace = false;
+            } else if (!lastSpace) {
+                builder.append(' ');
+                lastSpace = true;
+            }
+        }
+        int end = builder.length();
+        while (end > (padded ? 1 : 0) && builder.charAt(end - 1) == ' ') {
+            end--;
+        }
+        return builder.substring(0, end);
+    }
+
+    private static void addTrigrams(String text, Set<Long> target) {
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            target.add(((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2));
+        }
+    }
+
+    private static long key(EntityType type, Long id) {
+        return ((long) type.ordinal() << 56) | id;
+    }
+
+    // Minimal growable int array; avoids boxing a million postings
+    private static final class IntList {
+        private int[] values = new int[4];
+        private int size;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int get(int index) {
+            return values[index];
+        }
+
+        void set(int index, int value) {
+            values[index] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int removeLast() {
+            return values[--size];
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package prac.lease.service;
+
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.QuickSearchHit;
+import prac.lease.model.Landlord;
+import prac.lease.model.Lease;
+import prac.lease.model.Site;
+
+import java.util.List;
+
+/**
+ * Service interface for the in-memory quick-search index over agreement numbers,
+ * landlord names and site names, districts and zones.
+ */
+public interface QuickSearchService {
+    /**
+     * Returns the best-ranked matches for a type-ahead query without touching the database.
+     * @param query The text typed so far; at least two characters.
+     * @param limit The maximum number of hits to return.
+     * @return ApiResponse containing the ranked hits.
+     */
+    ApiResponse<List<QuickSearchHit>> search(String query, int limit);
+
+    /**
+     * Rebuilds the index from the database and swaps it in.
+     * @return The number of indexed records.
+     */
+    int rebuild();
+
+    // Write hooks; applied once the surrounding transaction commits
+    void indexLease(Lease lease);
+
+    void indexLandlord(Landlord landlord);
+
+    void indexSite(Site site);
+
+    void removeLease(Long id);
+
+    void removeLandlord(Long id);
+
+    void removeSite(Long id);
+}
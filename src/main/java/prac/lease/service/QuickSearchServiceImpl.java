@@ -0,0 +1,165 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.QuickSearchHit;
+import prac.lease.model.Landlord;
+import prac.lease.model.Lease;
+import prac.lease.model.Site;
+import prac.lease.repository.LandlordRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.SiteRepository;
+import prac.lease.service.QuickSearchIndex.EntityType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Service
+@Slf4j
+public class QuickSearchServiceImpl implements QuickSearchService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final LeaseRepository leaseRepository;
+    private final LandlordRepository landlordRepository;
+    private final SiteRepository siteRepository;
+
+    private volatile QuickSearchIndex index = new QuickSearchIndex();
+
+    // Guards the swap; while a rebuild runs, every write is also recorded here for replay into the new index
+    private final Object writeLock = new Object();
+    private List<Consumer<QuickSearchIndex>> pendingWrites;
+
+    public QuickSearchServiceImpl(LeaseRepository leaseRepository,
+                                  LandlordRepository landlordRepository,
+                                  SiteRepository siteRepository) {
+        this.leaseRepository = leaseRepository;
+        this.landlordRepository = landlordRepository;
+        this.siteRepository = siteRepository;
+    }
+
+    @Override
+    public ApiResponse<List<QuickSearchHit>> search(String query, int limit) {
+        try {
+            if (query == null || query.trim().length() < QuickSearchIndex.MIN_QUERY_LENGTH) {
+                return new ApiResponse<>(false, "Query must be at least " + QuickSearchIndex.MIN_QUERY_LENGTH + " characters.", null);
+            }
+            List<QuickSearchHit> hits = index.search(query, Math.max(1, Math.min(limit, MAX_LIMIT)));
+            return new ApiResponse<>(true, "Search results retrieved successfully.", hits);
+        } catch (Exception e) {
+
+            return new ApiResponse<>(false, "Error searching.", null);
+        }
+    }
+
+    // ========== BUILD ==========
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    // Periodic rebuild also picks up cascaded deletes that bypass the write hooks
+    @Override
+    @Scheduled(cron = "${quick_search.rebuild_cron:0 30 2 * * *}")
+    public synchronized int rebuild() {
+        long start = System.currentTimeMillis();
+        synchronized (writeLock) {
+            pendingWrites = new ArrayList<>();
+        }
+        QuickSearchIndex fresh = new QuickSearchIndex();
+        try {
+            for (Object[] row : leaseRepository.findQuickSearchEntries()) {
+                fresh.put(EntityType.LEASE, (Long) row[0], "agreementNumber", (String) row[1]);
+            }
+            for (Object[] row : landlordRepository.findQuickSearchEntries()) {
+                fresh.put(EntityType.LANDLORD, (Long) row[0], "fullName", (String) row[1]);
+            }
+            for (Object[] row : siteRepository.findQuickSearchEntries()) {
+                fresh.put(EntityType.SITE, (Long) row[0],
+                        "siteName", (String) row[1], "district", (String) row[2], "zone", (String) row[3]);
+            }
+            // Writes committed while the rows were read may be missing from them, or older in them, so they are replayed last
+            synchronized (writeLock) {
+                pendingWrites.forEach(write -> write.accept(fresh));
+                index = fresh;
+            }
+        } finally {
+            synchronized (writeLock) {
+                pendingWrites = null;
+            }
+        }
+        log.info("Quick-search index rebuilt with {} records in {} ms.", fresh.size(), System.currentTimeMillis() - start);
+        return fresh.size();
+    }
+
+    // ========== WRITE HOOKS ==========
+
+    @Override
+    public void indexLease(Lease lease) {
+        Long id = lease.getId();
+        String agreementNumber = lease.getAgreementNumber();
+        afterCommit(target -> target.put(EntityType.LEASE, id, "agreementNumber", agreementNumber));
+    }
+
+    @Override
+    public void indexLandlord(Landlord landlord) {
+        Long id = landlord.getId();
+        String fullName = landlord.getFullName();
+        afterCommit(target -> target.put(EntityType.LANDLORD, id, "fullName", fullName));
+    }
+
+    @Override
+    public void indexSite(Site site) {
+        Long id = site.getId();
+        String siteName = site.getSiteName();
+        String district = site.getDistrict();
+        String zone = site.getZone();
+        afterCommit(target -> target.put(EntityType.SITE, id, "siteName", siteName, "district", district, "zone", zone));
+    }
+
+    @Override
+    public void removeLease(Long id) {
+        afterCommit(target -> target.remove(EntityType.LEASE, id));
+    }
+
+    @Override
+    public void removeLandlord(Long id) {
+        afterCommit(target -> target.remove(EntityType.LANDLORD, id));
+    }
+
+    @Override
+    public void removeSite(Long id) {
+        afterCommit(target -> target.remove(EntityType.SITE, id));
+    }
+
+    // Rolled-back writes must not leak into the index
+    private void afterCommit(Consumer<QuickSearchIndex> write) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(write);
+                }
+            });
+        } else {
+            apply(write);
+        }
+    }
+
+    private void apply(Consumer<QuickSearchIndex> write) {
+        synchronized (writeLock) {
+            write.accept(index);
+            if (pendingWrites != null) {
+                pendingWrites.add(write);
+            }
+        }
+    }
+}
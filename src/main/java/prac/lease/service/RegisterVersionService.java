@@ -0,0 +1,14 @@
+package prac.lease.service;
+
+/**
+ * Service interface for the register version behind the collection validators.
+ */
+public interface RegisterVersionService {
+    /**
+     * Marks the current transaction as one that changes leases, documents, landlords
+     * or sites, so the register version is incremented just before it commits. ORM
+     * writes are marked automatically; JDBC and bulk JPQL writes must call this.
+     * @throws IllegalStateException if no transaction is active.
+     */
+    void markChanged();
+}
@@ -0,0 +1,139 @@
+package prac.lease.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import prac.lease.model.Document;
+import prac.lease.model.Landlord;
+import prac.lease.model.Lease;
+import prac.lease.model.RegisterVersion;
+import prac.lease.model.Site;
+import prac.lease.repository.RegisterVersionRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Increments the register version once per writing transaction. Registered with
+ * Hibernate directly, so every ORM insert, update or delete of a lease, document,
+ * landlord or site marks its transaction without the services having to. The
+ * increment itself runs in Hibernate's before-completion phase, after the final
+ * flush, so the row lock is the last one the transaction takes and is held only
+ * for the commit.
+ */
+@Service
+@Slf4j
+public class RegisterVersionServiceImpl implements RegisterVersionService, PostInsertEventListener,
+        PostUpdateEventListener, PostDeleteEventListener {
+
+    private static final String INCREMENT = "UPDATE RegisterVersion r SET r.versionNumber = r.versionNumber + 1, " +
+            "r.modifiedAt = :now WHERE r.id = :id";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RegisterVersionRepository registerVersionRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public RegisterVersionServiceImpl(EntityManagerFactory entityManagerFactory,
+                                      RegisterVersionRepository registerVersionRepository,
+                                      PlatformTransactionManager transactionManager) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.registerVersionRepository = registerVersionRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+
+        // The increment is a plain UPDATE, so the row has to exist before the first write
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!registerVersionRepository.existsById(RegisterVersion.ROW_ID)) {
+                    registerVersionRepository.save(new RegisterVersion(RegisterVersion.ROW_ID));
+                }
+            });
+        } catch (DataIntegrityViolationException e) {
+            log.debug("Register version row was created by another instance", e);
+        }
+    }
+
+    @Override
+    public void markChanged() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Register changes must be marked inside a transaction");
+        }
+        markChanged(entityManager.unwrap(SessionImplementor.class));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            markChanged(event.getSession());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            markChanged(event.getSession());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            markChanged(event.getSession());
+        }
+    }
+
+    // Only the tables that lease and document listings, counts and statistics read from
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entity = persister.getMappedClass();
+        return Lease.class.isAssignableFrom(entity) || Document.class.isAssignableFrom(entity)
+                || Landlord.class.isAssignableFrom(entity) || Site.class.isAssignableFrom(entity);
+    }
+
+    // At most one increment per transaction, however many rows it writes
+    private void markChanged(SessionImplementor session) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (TransactionSynchronizationManager.hasResource(this)) {
+                return;
+            }
+            TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RegisterVersionServiceImpl.this);
+                }
+            });
+        }
+        session.getActionQueue().registerProcess(this::increment);
+    }
+
+    private void increment(SessionImplementor session) {
+        session.createMutationQuery(INCREMENT)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("id", RegisterVersion.ROW_ID)
+                .executeUpdate();
+    }
+}
@@ -0,0 +1,41 @@
+package prac.lease.service;
+
+import prac.lease.model.ReportFormat;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Writes a report as a flat table, one row at a time, so an artifact of any size
+ * is produced in constant memory. Closing the writer finishes the artifact but
+ * leaves the underlying stream open for the caller.
+ */
+interface ReportArtifactWriter extends Closeable {
+
+    void writeRow(List<?> values) throws IOException;
+
+    static ReportArtifactWriter open(ReportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvArtifactWriter(out);
+            case XLSX -> new XlsxArtifactWriter(out);
+            default -> throw new IllegalArgumentException("Not a tabular report format: " + format);
+        };
+    }
+
+    // Dates and enums are written as their ISO and constant names
+    static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.toPlainString();
+        }
+        if (value instanceof Enum<?> constant) {
+            return constant.name();
+        }
+        return value.toString();
+    }
+}
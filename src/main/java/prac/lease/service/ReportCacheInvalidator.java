@@ -0,0 +1,80 @@
+package prac.lease.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.*;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.stereotype.Component;
+import prac.lease.model.Document;
+import prac.lease.model.Lease;
+
+/**
+ * Clears the report cache once a lease or document insert, update or delete has
+ * committed. Registered with Hibernate directly, so it sees every ORM write
+ * regardless of which service made it. JDBC batch writes bypass it; they
+ * increment the register version, which the cache checks on every lookup.
+ */
+@Component
+public class ReportCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final ReportCacheService reportCacheService;
+
+    public ReportCacheInvalidator(EntityManagerFactory entityManagerFactory, ReportCacheService reportCacheService) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.reportCacheService = reportCacheService;
+    }
+
+    @PostConstruct
+    public void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            reportCacheService.invalidateAll();
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            reportCacheService.invalidateAll();
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (requiresPostCommitHandling(event.getPersister())) {
+            reportCacheService.invalidateAll();
+        }
+    }
+
+    // Nothing was written, so there is nothing to invalidate
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    // Also guards the callbacks, which fire for any entity another post-commit listener asked for
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        Class<?> entity = persister.getMappedClass();
+        return Lease.class.isAssignableFrom(entity) || Document.class.isAssignableFrom(entity);
+    }
+}
@@ -0,0 +1,46 @@
+package prac.lease.service;
+
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.ReportCacheStatsDto;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Service interface for the in-memory report cache. Entries are only valid for the
+ * register watermark they were computed under, so any lease, document, landlord or
+ * site write, from this instance or another, retires them.
+ */
+public interface ReportCacheService {
+    /**
+     * Returns the cached report for the key, or loads and caches it on a miss.
+     * @param key The report type and normalized filters.
+     * @param loader Computes the report; not called on a hit.
+     * @param weigher The entry's weight against the cache bound, normally its row count.
+     * @return The cached or freshly loaded report.
+     */
+    <T> T get(String key, Supplier<T> loader, ToLongFunction<T> weigher);
+
+    /**
+     * The current register watermark scoped to today's date, for keys persisted outside the cache such as report artifacts.
+     * @return The watermark tag, or null if it could not be read.
+     */
+    String currentWatermark();
+
+    /**
+     * Records whether a report job was answered with an earlier job's artifact.
+     * @param hit True if an artifact was reused.
+     */
+    void recordArtifactLookup(boolean hit);
+
+    /**
+     * Drops every entry. Called after lease and document writes commit.
+     */
+    void invalidateAll();
+
+    /**
+     * Returns the cache size and hit/miss counters.
+     * @return ApiResponse containing the statistics.
+     */
+    ApiResponse<ReportCacheStatsDto> getStats();
+}
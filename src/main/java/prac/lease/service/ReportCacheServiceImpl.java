@@ -0,0 +1,141 @@
+package prac.lease.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.ReportCacheStatsDto;
+import prac.lease.dto.ResourceVersion;
+
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * LRU report cache bounded by entry count and total weight.
+ * <p>
+ * Every lookup reads the register watermark (one primary-key read of the
+ * register version) and the cache only ever holds entries for the latest one,
+ * so a write committed anywhere, by ORM or JDBC, clears it on the next lookup, as
+ * does the date changing. Writes made through this instance
+ * also clear it as soon as they commit. A load that overlaps an invalidation is
+ * returned to its caller but not cached.
+ */
+@Service
+public class ReportCacheServiceImpl implements ReportCacheService {
+
+    private final ResourceVersionService resourceVersionService;
+
+    // Access-ordered, so iteration starts at the least recently used entry
+    private final LinkedHashMap<String, CachedReport> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private String watermark;
+    private long weight;
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final AtomicLong artifactHits = new AtomicLong();
+    private final AtomicLong artifactMisses = new AtomicLong();
+
+    @Value("${lease.report_cache.max_entries:64}")
+    private int maxEntries;
+
+    @Value("${lease.report_cache.max_rows:100000}")
+    private long maxWeight;
+
+    public ReportCacheServiceImpl(ResourceVersionService resourceVersionService) {
+        this.resourceVersionService = resourceVersionService;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Supplier<T> loader, ToLongFunction<T> weigher) {
+        String current = currentWatermark();
+        if (current == null) {
+            // Without a watermark a hit cannot be trusted, so bypass the cache
+            misses.incrementAndGet();
+            return loader.get();
+        }
+
+        long loadGeneration;
+        synchronized (this) {
+            if (!current.equals(watermark)) {
+                clear();
+                watermark = current;
+            }
+            CachedReport cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return (T) cached.value();
+            }
+            loadGeneration = generation;
+        }
+
+        misses.incrementAndGet();
+        T value = loader.get();
+        long entryWeight = value != null ? weigher.applyAsLong(value) : 0;
+
+        synchronized (this) {
+            if (value != null && loadGeneration == generation && current.equals(watermark) && entryWeight <= maxWeight) {
+                CachedReport previous = entries.put(key, new CachedReport(value, entryWeight));
+                weight += entryWeight - (previous != null ? previous.weight() : 0);
+                evictOverflow();
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public String currentWatermark() {
+        // Reports carry isExpiringSoon and date-relative filters, so they also turn over at midnight
+        ResourceVersion version = resourceVersionService.getRegisterWatermark();
+        return version != null ? version.salted(LocalDate.now().toString()).eTag() : null;
+    }
+
+    @Override
+    public void recordArtifactLookup(boolean hit) {
+        (hit ? artifactHits : artifactMisses).incrementAndGet();
+    }
+
+    @Override
+    public synchronized void invalidateAll() {
+        clear();
+        watermark = null;
+    }
+
+    @Override
+    public ApiResponse<ReportCacheStatsDto> getStats() {
+        synchronized (this) {
+            return new ApiResponse<>(true, "Report cache statistics retrieved successfully.",
+                    new ReportCacheStatsDto(entries.size(), weight, maxEntries, maxWeight, hits.get(), misses.get(),
+                            evictions.get(), invalidations.get(), artifactHits.get(), artifactMisses.get(), watermark));
+        }
+    }
+
+    // Callers hold the monitor
+    private void clear() {
+        if (!entries.isEmpty()) {
+            invalidations.incrementAndGet();
+            entries.clear();
+        }
+        weight = 0;
+        generation++;
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<String, CachedReport>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || weight > maxWeight) && eldest.hasNext()) {
+            weight -= eldest.next().getValue().weight();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private record CachedReport(Object value, long weight) {
+    }
+}
@@ -1,7 +1,9 @@
 package prac.lease.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.ApiResponse;
 import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.ReportArtifact;
 import prac.lease.dto.ReportRequest;
 import prac.lease.dto.ReportResponseDto;
 import prac.lease.model.LeaseStatus;
@@ -17,12 +19,29 @@ import java.util.Map;
  */
 public interface ReportService {
     /**
-     * Generates a new report based on the provided request parameters.
+     * Streams the consolidated lease register in the ApiResponse envelope without building the list.
+     * @param category Optional category filter (substring, case insensitive).
+     * @return A response body that writes the register as rows are read.
+     */
+    StreamingResponseBody streamConsolidatedLeaseRegister(String category);
+
+    /**
+     * Queues a report job based on the provided request parameters and returns at once.
      * @param reportRequest The DTO with report generation criteria.
-     * @return ApiResponse containing the metadata of the generated report.
+     * @return ApiResponse containing the queued report, whose id is used to poll for progress.
+     * @throws prac.lease.exception.ReportQueueFullException if the job queue is at capacity.
      */
     ApiResponse<ReportResponseDto> generateReport(ReportRequest reportRequest);
 
+    /**
+     * Returns the artifact a completed report job wrote, without regenerating it.
+     * @param id The ID of the report.
+     * @return The file with its name, format, size and SHA-256.
+     * @throws prac.lease.exception.ResourceNotFoundException if the report or its file does not exist.
+     * @throws IllegalStateException if the job has not completed.
+     */
+    ReportArtifact getReportArtifact(Long id);
+
     /**
      * Retrieves a report's metadata by its ID.
      * @param id The ID of the report.
@@ -1,178 +1,462 @@
 package prac.lease.service;
 
-import jakarta.transaction.Transactional;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import prac.lease.dto.*;
+import prac.lease.exception.ReportQueueFullException;
+import prac.lease.exception.ResourceNotFoundException;
 import prac.lease.model.*;
 import prac.lease.repository.LeaseRepository;
 import prac.lease.repository.ReportRepository;
 
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
-
+import java.util.stream.Stream;
+
+/**
+ * Report queries and the report job queue.
+ * <p>
+ * {@link #generateReport} only records a QUEUED report and hands it to a small
+ * dedicated worker pool, so long reports hold neither a Tomcat thread nor, beyond
+ * the pool size, database connections. The pool's bounded queue caps admission at
+ * workers plus queue capacity; past that, requests are turned away instead of
+ * piling up behind OLTP traffic. Each job streams its rows to a file under the upload directory, as
+ * JSON in the usual ApiResponse envelope or as a CSV or XLSX table, and records
+ * progress on the report as it goes. The artifact's size and SHA-256 are stored
+ * with it, so downloads are served from disk and never regenerate the report.
+ * A request whose output matches a job already queued, running or completed
+ * under the current register watermark gets that job back instead of a new one.
+ * Each job records the instance that holds it and a heartbeat that instance
+ * refreshes, so a restart or a dead node fails only the jobs that can no longer finish.
+ */
 @Service
 @Slf4j
 public class ReportServiceImpl implements ReportService {
 
+    private static final int ARTIFACT_BUFFER_SIZE = 64 * 1024;
+
+    private static final List<String> LEASE_COLUMNS = List.of("Lease ID", "Agreement Number", "Landlord", "Site",
+            "Province", "Status", "Operational Status", "Lease Type", "Category", "Rental Type", "Rental Value",
+            "Currency", "Monthly Rental", "Commencement Date", "Expiry Date", "Auto Renewal", "Documents");
+
+    private static final Set<String> REPORT_TYPES = Set.of("CONSOLIDATED_LEASE_REGISTER", "EXPIRED_LEASES",
+            "UPCOMING_EXPIRATIONS", "CATEGORY_SUMMARY", "STATUS_SUMMARY", "RENTAL_TYPE_SUMMARY");
+
     private final ReportRepository reportRepository;
     private final LeaseRepository leaseRepository;
-
-    public ReportServiceImpl(ReportRepository reportRepository, LeaseRepository leaseRepository) {
+    private final ApiResponseStreamer apiResponseStreamer;
+    private final ReportCacheService reportCacheService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolTaskExecutor reportJobExecutor;
+    private final String instanceId;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${file.upload.path}")
+    private String fileUploadBaseDir;
+
+    @Value("${lease.reports.progress_interval:2000}")
+    private long progressInterval;
+
+    @Value("${lease.reports.stale_after_seconds:300}")
+    private long staleAfterSeconds;
+
+    public ReportServiceImpl(ReportRepository reportRepository, LeaseRepository leaseRepository,
+                             ApiResponseStreamer apiResponseStreamer, ReportCacheService reportCacheService,
+                             ObjectMapper objectMapper,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${lease.reports.workers:2}") int workers,
+                             @Value("${lease.reports.queue_capacity:8}") int queueCapacity,
+                             @Value("${lease.reports.instance_id:}") String instanceId) {
         this.reportRepository = reportRepository;
         this.leaseRepository = leaseRepository;
+        this.apiResponseStreamer = apiResponseStreamer;
+        this.reportCacheService = reportCacheService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // Not a bean, so it does not displace the application task executor used for async MVC.
+        // Its bounded queue is the only admission control: a job it cannot take is rejected
+        this.reportJobExecutor = new ThreadPoolTaskExecutor();
+        this.reportJobExecutor.setCorePoolSize(workers);
+        this.reportJobExecutor.setMaxPoolSize(workers);
+        this.reportJobExecutor.setQueueCapacity(queueCapacity);
+        this.reportJobExecutor.setThreadNamePrefix("report-job-");
+        this.reportJobExecutor.initialize();
+
+        // Stable across restarts of the same node, so it can recognise the jobs it held before stopping
+        this.instanceId = instanceId != null && !instanceId.isBlank() ? instanceId : hostName();
     }
 
     @Override
-    @Transactional
-    public ApiResponse<ReportResponseDto> generateReport(ReportRequest reportRequest) {
-        try {
-            // Generate report based on type
-            switch (reportRequest.reportType().toUpperCase()) {
-                case "CONSOLIDATED_LEASE_REGISTER":
-                    return generateConsolidatedLeaseRegister(reportRequest);
-                case "EXPIRED_LEASES":
-                    return generateExpiredLeasesReport(reportRequest);
-                case "UPCOMING_EXPIRATIONS":
-                    return generateUpcomingExpirationsReport(reportRequest);
-                case "CATEGORY_SUMMARY":
-                    return generateCategorySummaryReport(reportRequest);
-                case "STATUS_SUMMARY":
-                    return generateStatusSummaryReport(reportRequest);
-                case "RENTAL_TYPE_SUMMARY":
-                    return generateRentalTypeSummaryReport(reportRequest);
-                default:
-                    return new ApiResponse<>(false, "Unknown report type: " + reportRequest.reportType(), null);
-            }
-        } catch (Exception e) {
-
-            return new ApiResponse<>(false, "Error generating report: " + e.getMessage(), null);
+    public StreamingResponseBody streamConsolidatedLeaseRegister(String category) {
+        if (category != null && !category.trim().isEmpty()) {
+            return apiResponseStreamer.stream("Consolidated lease register for category: " + category,
+                    () -> leaseRepository.streamLeaseDtosByCategoryContaining(category));
         }
+        return apiResponseStreamer.stream("Consolidated lease register for category: All",
+                leaseRepository::streamLeaseDtos);
     }
 
-    private ApiResponse<ReportResponseDto> generateConsolidatedLeaseRegister(ReportRequest request) {
-        List<Lease> leases;
+    // ========== REPORT JOBS ==========
 
-        if (request.leaseCategory() != null && !request.leaseCategory().isEmpty()) {
-            // Filter by specific category
-            leases = leaseRepository.findByLeaseCategoryContainingIgnoreCase(request.leaseCategory());
-        } else if (request.category() != null && !request.category().isEmpty()) {
-            // Fallback to category field
-            leases = leaseRepository.findByLeaseCategoryContainingIgnoreCase(request.category());
-        } else {
-            // Get all leases
-            leases = leaseRepository.findAll();
+    @Override
+    public ApiResponse<ReportResponseDto> generateReport(ReportRequest reportRequest) {
+        String reportType = reportRequest.reportType() != null ? reportRequest.reportType().toUpperCase() : "";
+        if (!REPORT_TYPES.contains(reportType)) {
+            return new ApiResponse<>(false, "Unknown report type: " + reportRequest.reportType(), null);
+        }
+        if (reportRequest.startDate() != null && reportRequest.endDate() != null
+                && reportRequest.startDate().isAfter(reportRequest.endDate())) {
+            return new ApiResponse<>(false, "Start date cannot be after end date", null);
+        }
+        ReportFormat format = reportRequest.format() != null ? reportRequest.format() : ReportFormat.JSON;
+
+        // A job for the same output under the same watermark is reused instead of queueing another
+        String watermark = reportCacheService.currentWatermark();
+        String cacheKey = watermark != null ? artifactKey(reportType, format, reportRequest) + "@" + watermark : null;
+        if (cacheKey != null) {
+            Optional<Report> existing = reportRepository.findFirstByCacheKeyAndJobStatusInOrderByIdDesc(cacheKey,
+                            List.of(ReportJobStatus.QUEUED, ReportJobStatus.RUNNING, ReportJobStatus.COMPLETED))
+                    .filter(report -> report.getJobStatus() != ReportJobStatus.COMPLETED
+                            || Files.isReadable(Paths.get(report.getArtifactPath())));
+            reportCacheService.recordArtifactLookup(existing.isPresent());
+            if (existing.isPresent()) {
+                return new ApiResponse<>(true, "Lease data is unchanged since report " + existing.get().getId()
+                        + " was requested; reusing it.", new ReportResponseDto(existing.get()));
+            }
         }
 
-        // Save report metadata
-        Report report = saveReportMetadata(request, leases.size());
+        Report report;
+        try {
+            report = new Report();
+            report.setReportName(reportRequest.reportName());
+            report.setReportType(reportType);
+            report.setGenerationDate(LocalDateTime.now());
+            report.setJobStatus(ReportJobStatus.QUEUED);
+            report.setFormat(format);
+            report.setCacheKey(cacheKey);
+            report.setParameters(objectMapper.writeValueAsString(reportRequest));
+            report.setOwnerInstance(instanceId);
+            report.setHeartbeatAt(report.getGenerationDate());
+            report = reportRepository.save(report);
+        } catch (Exception e) {
+            return new ApiResponse<>(false, "Error generating report: " + e.getMessage(), null);
+        }
 
-        return new ApiResponse<>(true,
-                String.format("Consolidated lease register generated with %d records", leases.size()),
+        // The row is committed before the job is handed over, so the worker always finds it
+        Long id = report.getId();
+        try {
+            reportJobExecutor.execute(() -> runJob(id));
+        } catch (TaskRejectedException e) {
+            // Failed rather than left queued, so its cache key is never reused and nothing waits on it
+            inTransaction(() -> reportRepository.markFailed(id, "Rejected: the report queue was full", LocalDateTime.now()));
+            throw new ReportQueueFullException("Too many reports are queued. Please try again later.");
+        }
+        return new ApiResponse<>(true, "Report queued. Poll the report for progress and fetch the result when it completes.",
                 new ReportResponseDto(report));
     }
 
-    private ApiResponse<ReportResponseDto> generateExpiredLeasesReport(ReportRequest request) {
-        LocalDate today = LocalDate.now();
-        // For expired leases, we look for leases where expiry date is before today
-        // and status is not relevant since expired leases can have any status
-        List<Lease> expiredLeases = leaseRepository.findByExpiryDateBefore(today);
-
-        Report report = saveReportMetadata(request, expiredLeases.size());
-
-        return new ApiResponse<>(true,
-                String.format("Expired leases report generated with %d records", expiredLeases.size()),
-                new ReportResponseDto(report));
+    @Override
+    public ReportArtifact getReportArtifact(Long id) {
+        Report report = reportRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + id));
+        if (report.getJobStatus() != ReportJobStatus.COMPLETED || report.getArtifactPath() == null) {
+            throw new IllegalStateException("Report " + id + " has no result yet; its status is " + report.getJobStatus());
+        }
+        Path artifactPath = Paths.get(report.getArtifactPath());
+        if (!Files.isReadable(artifactPath)) {
+            throw new ResourceNotFoundException("Result file is missing for report ID: " + id);
+        }
+        String fileName = report.getReportName().replaceAll("[^A-Za-z0-9._-]+", "_") + "-" + id
+                + "." + report.getFormat().getExtension();
+        return new ReportArtifact(new FileSystemResource(artifactPath), fileName, report.getFormat(),
+                report.getArtifactSize(), report.getArtifactSha256());
     }
 
-    private ApiResponse<ReportResponseDto> generateUpcomingExpirationsReport(ReportRequest request) {
-        LocalDate startDate = request.startDate() != null ? request.startDate() : LocalDate.now();
-        LocalDate endDate = request.endDate() != null ? request.endDate() : LocalDate.now().plusMonths(3);
-
-        // For upcoming expirations, we include all leases expiring in the date range
-        // regardless of status since we want to see all upcoming expirations
-        List<Lease> upcomingExpirations = leaseRepository.findByExpiryDateBetween(startDate, endDate);
+    // Other instances share the report table, so only this node's own jobs from before the restart,
+    // and jobs whose owner has stopped sending heartbeats, are known never to finish
+    @EventListener(ApplicationReadyEvent.class)
+    public void failInterruptedJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        Integer failed = transactionTemplate.execute(status -> reportRepository.failAbandonedJobs(instanceId,
+                now.minusSeconds(staleAfterSeconds), "Interrupted by an application restart", now));
+        if (failed != null && failed > 0) {
+            log.warn("Marked {} interrupted report job(s) as failed", failed);
+        }
+    }
 
-        Report report = saveReportMetadata(request, upcomingExpirations.size());
+    // Vouches for the jobs this node still holds, and fails those of nodes that stopped without a restart
+    @Scheduled(fixedDelayString = "${lease.reports.heartbeat_interval:30000}")
+    public void heartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        inTransaction(() -> reportRepository.touchHeartbeats(instanceId, now));
+        int failed = inTransaction(() -> reportRepository.failStaleJobs(now.minusSeconds(staleAfterSeconds),
+                "Abandoned: the instance running it stopped responding", now));
+        if (failed > 0) {
+            log.warn("Marked {} abandoned report job(s) as failed", failed);
+        }
+    }
 
-        return new ApiResponse<>(true,
-                String.format("Upcoming expirations report generated with %d records for period %s to %s",
-                        upcomingExpirations.size(), startDate, endDate),
-                new ReportResponseDto(report));
+    @PreDestroy
+    public void stopWorkers() {
+        reportJobExecutor.shutdown();
     }
 
-    private ApiResponse<ReportResponseDto> generateCategorySummaryReport(ReportRequest request) {
-        List<Lease> allLeases = leaseRepository.findAll();
+    void runJob(Long id) {
+        Path resultDir = Paths.get(fileUploadBaseDir, "reports");
+        Path partial = resultDir.resolve(id + ".part");
+        try {
+            if (inTransaction(() -> reportRepository.markRunning(id, LocalDateTime.now())) == 0) {
+                return; // Deleted while it was queued
+            }
+            Report report = reportRepository.findById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Report not found with ID: " + id));
+            ReportRequest request = objectMapper.readValue(report.getParameters(), ReportRequest.class);
+            ReportFormat format = report.getFormat() != null ? report.getFormat() : ReportFormat.JSON;
+
+            // Written through a buffered file channel, hashed on the way out, and forced to disk before it is published
+            Files.createDirectories(resultDir);
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            long rows;
+            try (FileChannel channel = FileChannel.open(partial, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 OutputStream out = new DigestOutputStream(
+                         new BufferedOutputStream(Channels.newOutputStream(channel), ARTIFACT_BUFFER_SIZE), sha256)) {
+                rows = writeReport(id, report.getReportType(), format, request, out);
+                out.flush();
+                channel.force(false);
+            }
+            Path artifact = Files.move(partial, resultDir.resolve(id + "." + format.getExtension()),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            long size = Files.size(artifact);
+            String checksum = HexFormat.of().formatHex(sha256.digest());
+
+            if (inTransaction(() -> reportRepository.markCompleted(id, rows, artifact.toString(), size, checksum,
+                    LocalDateTime.now())) == 0) {
+                Files.deleteIfExists(artifact); // Deleted while it was running
+            }
+        } catch (Exception e) {
+            log.error("Report job {} failed", id, e);
+            try {
+                Files.deleteIfExists(partial);
+                String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+                inTransaction(() -> reportRepository.markFailed(id,
+                        message.length() > 1000 ? message.substring(0, 1000) : message, LocalDateTime.now()));
+            } catch (Exception cleanup) {
+                log.error("Could not record the failure of report job {}", id, cleanup);
+            }
+        }
+    }
 
-        // Group by category
-        Map<String, Long> categorySummary = allLeases.stream()
-                .collect(Collectors.groupingBy(
-                        lease -> lease.getLeaseCategory() != null && !lease.getLeaseCategory().isEmpty()
-                                ? lease.getLeaseCategory()
-                                : "Uncategorized",
-                        Collectors.counting()
-                ));
+    private long writeReport(Long id, String reportType, ReportFormat format, ReportRequest request,
+                             OutputStream out) throws IOException {
+        switch (reportType) {
+            case "CONSOLIDATED_LEASE_REGISTER": {
+                String category = effectiveCategory(request);
+                if (category != null && !category.isEmpty()) {
+                    return writeRows(id, format, "Consolidated lease register for category: " + category,
+                            leaseRepository.countByLeaseCategoryContainingIgnoreCase(category),
+                            () -> leaseRepository.streamLeaseDtosByCategoryContaining(category), out);
+                }
+                return writeRows(id, format, "Consolidated lease register for category: All",
+                        leaseRepository.count(), leaseRepository::streamLeaseDtos, out);
+            }
+            case "EXPIRED_LEASES": {
+                LocalDate today = LocalDate.now();
+                return writeRows(id, format, "Leases expired before " + today,
+                        leaseRepository.countByExpiryDateBefore(today),
+                        () -> leaseRepository.streamLeaseDtosByExpiryDateBefore(today), out);
+            }
+            case "UPCOMING_EXPIRATIONS": {
+                LocalDate startDate = startDate(request);
+                LocalDate endDate = endDate(request);
+                return writeRows(id, format, String.format("Leases expiring between %s and %s", startDate, endDate),
+                        leaseRepository.countByExpiryDateBetween(startDate, endDate),
+                        () -> leaseRepository.streamLeaseDtosByExpiryDateBetween(startDate, endDate), out);
+            }
+            case "CATEGORY_SUMMARY":
+                return writeSummary(format, "Lease count by category", "Category",
+                        leaseRepository.countLeasesGroupedByCategoryOrUncategorized(), out);
+            case "STATUS_SUMMARY":
+                return writeSummary(format, "Lease count by status", "Status",
+                        leaseRepository.countLeasesGroupedByStatus(), out);
+            case "RENTAL_TYPE_SUMMARY":
+                return writeSummary(format, "Lease count by rental type", "Rental Type",
+                        leaseRepository.countLeasesGroupedByRentalType(), out);
+            default:
+                throw new IllegalArgumentException("Unknown report type: " + reportType);
+        }
+    }
 
-        Report report = saveReportMetadata(request, categorySummary.size());
+    // Streams the rows into the artifact, checkpointing progress every progressInterval rows
+    private long writeRows(Long id, ReportFormat format, String message, long total,
+                           Supplier<Stream<LeaseResponseDto>> source, OutputStream out) {
+        checkpoint(id, 0, total);
+        long[] lastCheckpoint = {0};
+        LongConsumer onWindow = written -> {
+            if (written - lastCheckpoint[0] >= progressInterval) {
+                checkpoint(id, written, total);
+                lastCheckpoint[0] = written;
+            }
+        };
+        Long rows = readOnlyTransaction.execute(status -> {
+            try {
+                if (format == ReportFormat.JSON) {
+                    return apiResponseStreamer.write(out, message, source.get(), onWindow);
+                }
+                return writeTable(format, LEASE_COLUMNS, source.get().map(ReportServiceImpl::leaseRow), onWindow, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return rows != null ? rows : 0;
+    }
 
-        return new ApiResponse<>(true,
-                "Category summary report generated with " + categorySummary.size() + " categories",
-                new ReportResponseDto(report));
+    // Summaries are GROUP BY counts, so they are small enough to collect first
+    private long writeSummary(ReportFormat format, String message, String label, List<Object[]> groups,
+                              OutputStream out) throws IOException {
+        Map<String, Long> summary = new LinkedHashMap<>();
+        for (Object[] group : groups) {
+            summary.put(String.valueOf(group[0]), ((Number) group[1]).longValue());
+        }
+        if (format == ReportFormat.JSON) {
+            objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .writeValue(out, new ApiResponse<>(true, message, summary));
+        } else {
+            writeTable(format, List.of(label, "Leases"),
+                    summary.entrySet().stream().map(entry -> List.of(entry.getKey(), entry.getValue())), rows -> { }, out);
+        }
+        return summary.size();
     }
 
-    private ApiResponse<ReportResponseDto> generateStatusSummaryReport(ReportRequest request) {
-        List<Lease> allLeases = leaseRepository.findAll();
+    private long writeTable(ReportFormat format, List<String> columns, Stream<? extends List<?>> source,
+                            LongConsumer onWindow, OutputStream out) throws IOException {
+        try (Stream<? extends List<?>> rows = source;
+             ReportArtifactWriter writer = ReportArtifactWriter.open(format, out)) {
+            writer.writeRow(columns);
+            Iterator<? extends List<?>> iterator = rows.iterator();
+            long written = 0;
+            while (iterator.hasNext()) {
+                writer.writeRow(iterator.next());
+                if (++written % ApiResponseStreamer.WINDOW_SIZE == 0) {
+                    entityManager.clear();
+                    onWindow.accept(written);
+                }
+            }
+            return written;
+        }
+    }
 
-        // Group by status
-        Map<LeaseStatus, Long> statusSummary = allLeases.stream()
-                .collect(Collectors.groupingBy(Lease::getStatus, Collectors.counting()));
+    // Report type, format and the filters that shape the output; the report name and unused filters are ignored
+    private static String artifactKey(String reportType, ReportFormat format, ReportRequest request) {
+        StringBuilder key = new StringBuilder(reportType).append('|').append(format);
+        switch (reportType) {
+            case "CONSOLIDATED_LEASE_REGISTER" -> {
+                // The category match ignores case
+                String category = effectiveCategory(request);
+                key.append("|category=").append(category != null ? category.toLowerCase(Locale.ROOT) : "");
+            }
+            case "EXPIRED_LEASES" -> key.append("|before=").append(LocalDate.now());
+            case "UPCOMING_EXPIRATIONS" -> key.append("|from=").append(startDate(request))
+                    .append("|to=").append(endDate(request));
+            default -> {
+            }
+        }
+        return key.toString();
+    }
 
-        Report report = saveReportMetadata(request, statusSummary.size());
+    private static String effectiveCategory(ReportRequest request) {
+        String category = request.leaseCategory() != null && !request.leaseCategory().isEmpty()
+                ? request.leaseCategory() : request.category();
+        return category != null && !category.isEmpty() ? category : null;
+    }
 
-        return new ApiResponse<>(true,
-                "Status summary report generated with " + statusSummary.size() + " status types",
-                new ReportResponseDto(report));
+    private static LocalDate startDate(ReportRequest request) {
+        return request.startDate() != null ? request.startDate() : LocalDate.now();
     }
 
-    private ApiResponse<ReportResponseDto> generateRentalTypeSummaryReport(ReportRequest request) {
-        List<Lease> allLeases = leaseRepository.findAll();
+    private static LocalDate endDate(ReportRequest request) {
+        return request.endDate() != null ? request.endDate() : LocalDate.now().plusMonths(3);
+    }
 
-        // Group by rental type
-        Map<RentalType, Long> rentalTypeSummary = allLeases.stream()
-                .collect(Collectors.groupingBy(Lease::getRentalType, Collectors.counting()));
+    // Cache weight of a grouped report: the number of lease rows it holds
+    private static long leaseCount(ApiResponse<? extends Map<?, ? extends List<?>>> response) {
+        return response.body().values().stream().mapToLong(List::size).sum();
+    }
 
-        Report report = saveReportMetadata(request, rentalTypeSummary.size());
+    private static List<Object> leaseRow(LeaseResponseDto lease) {
+        return Arrays.asList(lease.getId(), lease.getAgreementNumber(),
+                lease.getLandlord() != null ? lease.getLandlord().getFullName() : null,
+                lease.getSite() != null ? lease.getSite().getSiteName() : null,
+                lease.getSite() != null ? lease.getSite().getProvince() : null,
+                lease.getStatus(), lease.getOperationalStatus(), lease.getLeaseType(), lease.getLeaseCategory(),
+                lease.getRentalType(), lease.getRentalValue(), lease.getCurrency(), lease.getMonthlyRentalAmount(),
+                lease.getCommencementDate(), lease.getExpiryDate(), lease.isAutoRenewalOption(), lease.getDocumentCount());
+    }
 
-        return new ApiResponse<>(true,
-                "Rental type summary report generated with " + rentalTypeSummary.size() + " rental types",
-                new ReportResponseDto(report));
+    // Runs in its own transaction, so the update commits while the read transaction stays open
+    private void checkpoint(Long id, long rows, long total) {
+        int progress = total > 0 ? (int) Math.min(99, rows * 100 / total) : 0;
+        inTransaction(() -> reportRepository.updateProgress(id, rows, total, progress));
     }
 
-    private Report saveReportMetadata(ReportRequest request, int recordCount) {
-        Report report = new Report();
-        report.setReportName(request.reportName());
-        report.setReportType(request.reportType());
-        report.setGenerationDate(LocalDateTime.now());
-        return reportRepository.save(report);
+    private int inTransaction(Supplier<Integer> update) {
+        Integer updated = transactionTemplate.execute(status -> update.get());
+        return updated != null ? updated : 0;
     }
 
     // 5.4.1. Consolidated lease registers by category
     @Override
     public ApiResponse<List<LeaseResponseDto>> getConsolidatedLeaseRegisterByCategory(String category) {
         try {
-            List<Lease> leases;
+            List<LeaseResponseDto> responseDtos;
             if (category != null && !category.trim().isEmpty()) {
-                leases = leaseRepository.findByLeaseCategoryContainingIgnoreCase(category);
+                responseDtos = leaseRepository.findLeaseDtosByCategoryContaining(category);
             } else {
-                leases = leaseRepository.findAll();
+                responseDtos = leaseRepository.findLeaseDtos();
             }
 
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
-
             return new ApiResponse<>(true,
                     String.format("Found %d leases for category: %s", responseDtos.size(),
                             category != null ? category : "All"),
@@ -188,11 +472,7 @@ public class ReportServiceImpl implements ReportService {
     public ApiResponse<List<LeaseResponseDto>> getExpiredLeasesReport() {
         try {
             LocalDate today = LocalDate.now();
-            List<Lease> expiredLeases = leaseRepository.findByExpiryDateBefore(today);
-
-            List<LeaseResponseDto> responseDtos = expiredLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByExpiryDateBefore(today);
 
             return new ApiResponse<>(true,
                     String.format("Found %d expired leases", responseDtos.size()),
@@ -214,11 +494,7 @@ public class ReportServiceImpl implements ReportService {
                 return new ApiResponse<>(false, "Start date cannot be after end date", null);
             }
 
-            List<Lease> upcomingLeases = leaseRepository.findByExpiryDateBetween(startDate, endDate);
-
-            List<LeaseResponseDto> responseDtos = upcomingLeases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByExpiryDateBetween(startDate, endDate);
 
             return new ApiResponse<>(true,
                     String.format("Found %d leases expiring between %s and %s",
@@ -234,23 +510,24 @@ public class ReportServiceImpl implements ReportService {
     @Override
     public ApiResponse<Map<String, List<LeaseResponseDto>>> getLeasesByCategoryReport() {
         try {
-            List<Lease> allLeases = leaseRepository.findAll();
-
-            Map<String, List<LeaseResponseDto>> categorizedLeases = allLeases.stream()
-                    .collect(Collectors.groupingBy(
-                            lease -> {
-                                if (lease.getLeaseCategory() != null && !lease.getLeaseCategory().isEmpty()) {
-                                    return lease.getLeaseCategory();
+            return reportCacheService.get("CATEGORY_SCHEDULE", () -> {
+                List<LeaseResponseDto> allLeases = leaseRepository.findLeaseDtos();
+
+                Map<String, List<LeaseResponseDto>> categorizedLeases = allLeases.stream()
+                        .collect(Collectors.groupingBy(
+                                lease -> {
+                                    if (lease.getLeaseCategory() != null && !lease.getLeaseCategory().isEmpty()) {
+                                        return lease.getLeaseCategory();
+                                    }
+                                    return "Uncategorized";
                                 }
-                                return "Uncategorized";
-                            },
-                            Collectors.mapping(LeaseResponseDto::new, Collectors.toList())
-                    ));
+                        ));
 
-            return new ApiResponse<>(true,
-                    String.format("Categorized %d leases into %d categories",
-                            allLeases.size(), categorizedLeases.size()),
-                    categorizedLeases);
+                return new ApiResponse<>(true,
+                        String.format("Categorized %d leases into %d categories",
+                                allLeases.size(), categorizedLeases.size()),
+                        Collections.unmodifiableMap(categorizedLeases));
+            }, ReportServiceImpl::leaseCount);
         } catch (Exception e) {
 
             return new ApiResponse<>(false, "Error generating report: " + e.getMessage(), null);
@@ -261,18 +538,17 @@ public class ReportServiceImpl implements ReportService {
 
     public ApiResponse<Map<LeaseStatus, List<LeaseResponseDto>>> getLeasesByStatusReport() {
         try {
-            List<Lease> allLeases = leaseRepository.findAll();
+            return reportCacheService.get("STATUS_SCHEDULE", () -> {
+                List<LeaseResponseDto> allLeases = leaseRepository.findLeaseDtos();
 
-            Map<LeaseStatus, List<LeaseResponseDto>> statusLeases = allLeases.stream()
-                    .collect(Collectors.groupingBy(
-                            Lease::getStatus,
-                            Collectors.mapping(LeaseResponseDto::new, Collectors.toList())
-                    ));
+                Map<LeaseStatus, List<LeaseResponseDto>> statusLeases = allLeases.stream()
+                        .collect(Collectors.groupingBy(LeaseResponseDto::getStatus));
 
-            return new ApiResponse<>(true,
-                    String.format("Grouped %d leases by %d status types",
-                            allLeases.size(), statusLeases.size()),
-                    statusLeases);
+                return new ApiResponse<>(true,
+                        String.format("Grouped %d leases by %d status types",
+                                allLeases.size(), statusLeases.size()),
+                        Collections.unmodifiableMap(statusLeases));
+            }, ReportServiceImpl::leaseCount);
         } catch (Exception e) {
 
             return new ApiResponse<>(false, "Error generating report: " + e.getMessage(), null);
@@ -281,18 +557,17 @@ public class ReportServiceImpl implements ReportService {
 
     public ApiResponse<Map<RentalType, List<LeaseResponseDto>>> getLeasesByRentalTypeReport() {
         try {
-            List<Lease> allLeases = leaseRepository.findAll();
+            return reportCacheService.get("RENTAL_TYPE_SCHEDULE", () -> {
+                List<LeaseResponseDto> allLeases = leaseRepository.findLeaseDtos();
 
-            Map<RentalType, List<LeaseResponseDto>> rentalTypeLeases = allLeases.stream()
-                    .collect(Collectors.groupingBy(
-                            Lease::getRentalType,
-                            Collectors.mapping(LeaseResponseDto::new, Collectors.toList())
-                    ));
+                Map<RentalType, List<LeaseResponseDto>> rentalTypeLeases = allLeases.stream()
+                        .collect(Collectors.groupingBy(LeaseResponseDto::getRentalType));
 
-            return new ApiResponse<>(true,
-                    String.format("Grouped %d leases by %d rental types",
-                            allLeases.size(), rentalTypeLeases.size()),
-                    rentalTypeLeases);
+                return new ApiResponse<>(true,
+                        String.format("Grouped %d leases by %d rental types",
+                                allLeases.size(), rentalTypeLeases.size()),
+                        Collections.unmodifiableMap(rentalTypeLeases));
+            }, ReportServiceImpl::leaseCount);
         } catch (Exception e) {
 
             return new ApiResponse<>(false, "Error generating report: " + e.getMessage(), null);
@@ -301,18 +576,17 @@ public class ReportServiceImpl implements ReportService {
 
     public ApiResponse<Map<LeaseType, List<LeaseResponseDto>>> getLeasesByLeaseTypeReport() {
         try {
-            List<Lease> allLeases = leaseRepository.findAll();
+            return reportCacheService.get("LEASE_TYPE_SCHEDULE", () -> {
+                List<LeaseResponseDto> allLeases = leaseRepository.findLeaseDtos();
 
-            Map<LeaseType, List<LeaseResponseDto>> leaseTypeLeases = allLeases.stream()
-                    .collect(Collectors.groupingBy(
-                            Lease::getLeaseType,
-                            Collectors.mapping(LeaseResponseDto::new, Collectors.toList())
-                    ));
+                Map<LeaseType, List<LeaseResponseDto>> leaseTypeLeases = allLeases.stream()
+                        .collect(Collectors.groupingBy(LeaseResponseDto::getLeaseType));
 
-            return new ApiResponse<>(true,
-                    String.format("Grouped %d leases by %d lease types",
-                            allLeases.size(), leaseTypeLeases.size()),
-                    leaseTypeLeases);
+                return new ApiResponse<>(true,
+                        String.format("Grouped %d leases by %d lease types",
+                                allLeases.size(), leaseTypeLeases.size()),
+                        Collections.unmodifiableMap(leaseTypeLeases));
+            }, ReportServiceImpl::leaseCount);
         } catch (Exception e) {
 
             return new ApiResponse<>(false, "Error generating report: " + e.getMessage(), null);
@@ -322,11 +596,7 @@ public class ReportServiceImpl implements ReportService {
     // Get leases by specific status
     public ApiResponse<List<LeaseResponseDto>> getLeasesByStatus(LeaseStatus status) {
         try {
-            List<Lease> leases = leaseRepository.findByStatus(status);
-
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByStatus(status);
 
             return new ApiResponse<>(true,
                     String.format("Found %d leases with status: %s", responseDtos.size(), status),
@@ -340,11 +610,7 @@ public class ReportServiceImpl implements ReportService {
     // Get leases by rental type
     public ApiResponse<List<LeaseResponseDto>> getLeasesByRentalType(RentalType rentalType) {
         try {
-            List<Lease> leases = leaseRepository.findByRentalType(rentalType);
-
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByRentalType(rentalType);
 
             return new ApiResponse<>(true,
                     String.format("Found %d leases with rental type: %s", responseDtos.size(), rentalType),
@@ -358,11 +624,7 @@ public class ReportServiceImpl implements ReportService {
     // Get leases by lease type
     public ApiResponse<List<LeaseResponseDto>> getLeasesByLeaseType(LeaseType leaseType) {
         try {
-            List<Lease> leases = leaseRepository.findByLeaseType(leaseType);
-
-            List<LeaseResponseDto> responseDtos = leases.stream()
-                    .map(LeaseResponseDto::new)
-                    .collect(Collectors.toList());
+            List<LeaseResponseDto> responseDtos = leaseRepository.findLeaseDtosByLeaseType(leaseType);
 
             return new ApiResponse<>(true,
                     String.format("Found %d leases with lease type: %s", responseDtos.size(), leaseType),
@@ -392,10 +654,27 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     public ApiResponse<String> deleteReport(Long id) {
-        if (reportRepository.existsById(id)) {
-            reportRepository.deleteById(id);
+        Optional<Report> optionalReport = reportRepository.findById(id);
+        if (optionalReport.isPresent()) {
+            reportRepository.delete(optionalReport.get());
+            // A job still running notices the missing row when it finishes and removes its own file
+            if (optionalReport.get().getArtifactPath() != null) {
+                try {
+                    Files.deleteIfExists(Paths.get(optionalReport.get().getArtifactPath()));
+                } catch (IOException e) {
+                    log.warn("Could not delete result file of report {}", id, e);
+                }
+            }
             return new ApiResponse<>(true, "Report deleted successfully", null);
         }
         return new ApiResponse<>(false, "Report not found with ID: " + id, null);
     }
-}
\ No newline at end of file
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (IOException e) {
+            return UUID.randomUUID().toString();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package prac.lease.service;
+
+import prac.lease.dto.ResourceVersion;
+
+/**
+ * Service interface for the validators behind conditional GETs. Each lookup is a
+ * single narrow query, so a poll whose If-None-Match or If-Modified-Since still
+ * matches can be answered with 304 before the main query runs.
+ */
+public interface ResourceVersionService {
+    /**
+     * Strong validator for one lease.
+     * @param id The lease ID.
+     * @return The validator, or null if the lease does not exist or the lookup failed.
+     */
+    ResourceVersion getLeaseVersion(Long id);
+
+    /**
+     * Strong validator for one document.
+     * @param id The document ID.
+     * @return The validator, or null if the document does not exist or the lookup failed.
+     */
+    ResourceVersion getDocumentVersion(Long id);
+
+    /**
+     * Weak validator for lease and document collections, from the register version
+     * that every lease, document, landlord and site write increments on commit.
+     * @return The validator, or null if the lookup failed.
+     */
+    ResourceVersion getRegisterWatermark();
+}
@@ -0,0 +1,76 @@
+package prac.lease.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import prac.lease.dto.ResourceVersion;
+import prac.lease.model.RegisterVersion;
+import prac.lease.repository.DocumentRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.RegisterVersionRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Service
+@Slf4j
+@Transactional(readOnly = true)
+public class ResourceVersionServiceImpl implements ResourceVersionService {
+
+    private final LeaseRepository leaseRepository;
+    private final DocumentRepository documentRepository;
+    private final RegisterVersionRepository registerVersionRepository;
+
+    public ResourceVersionServiceImpl(LeaseRepository leaseRepository, DocumentRepository documentRepository,
+                                      RegisterVersionRepository registerVersionRepository) {
+        this.leaseRepository = leaseRepository;
+        this.documentRepository = documentRepository;
+        this.registerVersionRepository = registerVersionRepository;
+    }
+
+    @Override
+    public ResourceVersion getLeaseVersion(Long id) {
+        try {
+            List<Object[]> rows = leaseRepository.findLeaseVersionById(id);
+            if (rows.isEmpty()) {
+                return null;
+            }
+            Object[] row = rows.get(0);
+            return ResourceVersion.strong(
+                    ResourceVersion.latest((LocalDateTime) row[5], (LocalDateTime) row[6], (LocalDateTime) row[7]),
+                    row[0], row[1], row[2], row[3], row[4]);
+        } catch (Exception e) {
+            log.warn("Could not read version of lease {}", id, e);
+            return null;
+        }
+    }
+
+    @Override
+    public ResourceVersion getDocumentVersion(Long id) {
+        try {
+            List<Object[]> rows = documentRepository.findDocumentVersionById(id);
+            if (rows.isEmpty()) {
+                return null;
+            }
+            Object[] row = rows.get(0);
+            return ResourceVersion.strong(
+                    ResourceVersion.latest((LocalDateTime) row[4], (LocalDateTime) row[5], (LocalDateTime) row[6]),
+                    row[0], row[1], row[2], row[3]);
+        } catch (Exception e) {
+            log.warn("Could not read version of document {}", id, e);
+            return null;
+        }
+    }
+
+    @Override
+    public ResourceVersion getRegisterWatermark() {
+        try {
+            return registerVersionRepository.findById(RegisterVersion.ROW_ID)
+                    .map(register -> ResourceVersion.weak(register.getModifiedAt(), register.getVersionNumber()))
+                    .orElse(null);
+        } catch (Exception e) {
+            log.warn("Could not read register watermark", e);
+            return null;
+        }
+    }
+}
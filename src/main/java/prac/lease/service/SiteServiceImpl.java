@@ -19,9 +19,11 @@ import java.util.stream.Collectors;
 public class SiteServiceImpl implements SiteService {
 
     private final SiteRepository siteRepository;
+    private final QuickSearchService quickSearchService;
 
-    public SiteServiceImpl(SiteRepository siteRepository) {
+    public SiteServiceImpl(SiteRepository siteRepository, QuickSearchService quickSearchService) {
         this.siteRepository = siteRepository;
+        this.quickSearchService = quickSearchService;
     }
 
     @Override
@@ -37,6 +39,7 @@ public class SiteServiceImpl implements SiteService {
             site.setZone(siteRequest.getZone());
 
             Site savedSite = siteRepository.save(site);
+            quickSearchService.indexSite(savedSite);
 
             // Manual conversion from Entity to DTO
             SiteResponseDto responseDto = new SiteResponseDto(savedSite);
@@ -101,6 +104,7 @@ public class SiteServiceImpl implements SiteService {
             existingSite.setZone(updateRequest.getZone());
 
             Site savedSite = siteRepository.save(existingSite);
+            quickSearchService.indexSite(savedSite);
 
             // Manual conversion from updated Entity to DTO
             SiteResponseDto responseDto = new SiteResponseDto(savedSite);
@@ -124,6 +128,7 @@ public class SiteServiceImpl implements SiteService {
                 throw new ResourceNotFoundException("Site not found with ID: " + id);
             }
             siteRepository.deleteById(id);
+            quickSearchService.removeSite(id);
             return new ApiResponse<>(true,  "Site deleted successfully.", "Site with ID " + id + " has been deleted.");
         } catch (ResourceNotFoundException e) {
 //            log.error(e.getMessage());
@@ -0,0 +1,58 @@
+package prac.lease;
+
+import prac.lease.model.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Unsaved landlords, sites, leases and documents holding the minimum valid state.
+ * Tests persist them however they need to and set only what they are about.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Landlord landlord(String fullName) {
+        Landlord landlord = new Landlord();
+        landlord.setFullName(fullName);
+        return landlord;
+    }
+
+    public static Site site(String siteName) {
+        Site site = new Site();
+        site.setSiteName(siteName);
+        site.setProvince("Harare");
+        site.setDistrict("Harare");
+        site.setZone("North");
+        return site;
+    }
+
+    // An approved, operational lease running from 2024-01-01 to 2030-01-01 at 100 a month
+    public static Lease lease(String agreementNumber, Landlord landlord, Site site) {
+        Lease lease = new Lease();
+        lease.setAgreementNumber(agreementNumber);
+        lease.setLandlord(landlord);
+        lease.setSite(site);
+        lease.setCommencementDate(LocalDate.of(2024, 1, 1));
+        lease.setExpiryDate(LocalDate.of(2030, 1, 1));
+        lease.setStatus(LeaseStatus.APPROVED);
+        lease.setRentalType(RentalType.MONTHLY);
+        lease.setRentalValue("100");
+        lease.setLeaseType(LeaseType.LEASE);
+        lease.setOperationalStatus(OperationalStatus.OPERATIONAL);
+        return lease;
+    }
+
+    // A contract attached to the lease, stored under /tmp
+    public static Document document(Lease lease, String fileName) {
+        Document document = new Document();
+        document.setDocumentType("CONTRACT");
+        document.setFileName(fileName);
+        document.setFileUrl("/tmp/" + fileName);
+        document.setUploadTime(LocalDateTime.now());
+        lease.addDocument(document);
+        return document;
+    }
+}
@@ -0,0 +1,149 @@
+package prac.lease.config;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.web.method.HandlerMethod;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.LeaseResponseDto;
+import prac.lease.dto.ResourceVersion;
+import prac.lease.model.Landlord;
+import prac.lease.model.Lease;
+import prac.lease.model.Site;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static prac.lease.TestFixtures.*;
+
+class BinaryContentNegotiationConfigTest {
+
+    private final ObjectMapper json = builder().build();
+    private final ObjectMapper cbor = BinaryContentNegotiationConfig.cborMapper(builder());
+    private final ObjectMapper smile = BinaryContentNegotiationConfig.smileMapper(builder());
+
+    @Test
+    void binaryFormatsCarryTheSameEnvelopeInFewerBytes() throws Exception {
+        ApiResponse<List<LeaseResponseDto>> response = register(200);
+
+        byte[] jsonBytes = json.writeValueAsBytes(response);
+        byte[] cborBytes = cbor.writeValueAsBytes(response);
+        byte[] smileBytes = smile.writeValueAsBytes(response);
+
+        // Re-encode as JSON so number node types (int/long, double/decimal) compare alike
+        JsonNode expected = json.readTree(jsonBytes);
+        assertThat(json.readTree(json.writeValueAsBytes(cbor.readTree(cborBytes)))).isEqualTo(expected);
+        assertThat(json.readTree(json.writeValueAsBytes(smile.readTree(smileBytes)))).isEqualTo(expected);
+        assertThat(cborBytes.length).isLessThan(jsonBytes.length);
+        assertThat(smileBytes.length).isLessThan(jsonBytes.length);
+    }
+
+    @Test
+    void eachEncodingGetsItsOwnValidatorAndVaries() throws Exception {
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat(null)).isNull();
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat("*/*")).isNull();
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat("application/json")).isNull();
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat("application/cbor")).isEqualTo("cbor");
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat("text/html, application/x-jackson-smile;q=0.9, */*;q=0.1"))
+                .isEqualTo("smile");
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat("application/cbor;q=0.5, application/json")).isNull();
+        assertThat(BinaryContentNegotiationConfig.negotiatedFormat("not a media type")).isNull();
+
+        ResourceVersion version = ResourceVersion.strong(LocalDateTime.of(2025, 6, 1, 14, 0), 7L, 3L);
+        assertThat(version.representedAs(null)).isEqualTo(version);
+        assertThat(version.representedAs("cbor").eTag()).isEqualTo("\"7-3-cbor\"");
+        assertThat(version.representedAs("cbor").lastModified()).isEqualTo(version.lastModified());
+        assertThat(ResourceVersion.weak(null, 5L).representedAs("smile").eTag()).isEqualTo("W/\"5-smile\"");
+
+        assertThat(BinaryContentNegotiationConfig.isNegotiated(handler("envelope"))).isTrue();
+        assertThat(BinaryContentNegotiationConfig.isNegotiated(handler("entity"))).isTrue();
+        assertThat(BinaryContentNegotiationConfig.isNegotiated(handler("file"))).isFalse();
+    }
+
+    // Run with -Dbenchmark=true to print payload size and serialization throughput per format
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void serializationBenchmark() throws Exception {
+        ApiResponse<List<LeaseResponseDto>> response = register(5_000);
+        benchmark("json", json, response);
+        benchmark("cbor", cbor, response);
+        benchmark("smile", smile, response);
+    }
+
+    private void benchmark(String format, ObjectMapper mapper, ApiResponse<List<LeaseResponseDto>> response) throws Exception {
+        int warmup = 20;
+        int iterations = 50;
+        byte[] bytes = null;
+        for (int i = 0; i < warmup; i++) {
+            bytes = mapper.writeValueAsBytes(response);
+            mapper.readTree(bytes);
+        }
+        long writeStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            bytes = mapper.writeValueAsBytes(response);
+        }
+        long writeNanos = System.nanoTime() - writeStart;
+        long readStart = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            mapper.readTree(bytes);
+        }
+        long readNanos = System.nanoTime() - readStart;
+        System.out.printf("%-5s %,10d bytes  write %6.2f ms/op  read %6.2f ms/op%n",
+                format, bytes.length, writeNanos / 1e6 / iterations, readNanos / 1e6 / iterations);
+    }
+
+    private static Jackson2ObjectMapperBuilder builder() {
+        // Mirrors Boot's defaults for the JSON mapper
+        return new Jackson2ObjectMapperBuilder().featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    private static ApiResponse<List<LeaseResponseDto>> register(int size) {
+        List<LeaseResponseDto> leases = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Landlord landlord = landlord("Landlord " + i % 50);
+            landlord.setId((long) i % 50);
+            landlord.setContactNumber("+263 77 000 " + (1000 + i % 50));
+            Site site = site("Site " + i);
+            site.setId((long) i);
+
+            Lease lease = lease("AGR-" + i, landlord, site);
+            lease.setId((long) i);
+            lease.setExpiryDate(LocalDate.of(2030, 1, 1).plusDays(i));
+            lease.setRentalValue("1500");
+            lease.setCurrency("USD");
+            lease.setLeaseCategory("Tower");
+            lease.setTerminationClauseDetails("Either party may terminate with three months' written notice.");
+            lease.setCreationTime(LocalDateTime.of(2024, 1, 1, 9, 30));
+            lease.setModificationTime(LocalDateTime.of(2025, 6, 1, 14, 0));
+            lease.deriveAmounts();
+            leases.add(new LeaseResponseDto(lease, landlord, site, 0L));
+        }
+        return new ApiResponse<>(true, "Leases retrieved successfully.", leases);
+    }
+
+    private static HandlerMethod handler(String name) throws NoSuchMethodException {
+        return new HandlerMethod(new Handlers(), Handlers.class.getDeclaredMethod(name));
+    }
+
+    static class Handlers {
+        ApiResponse<String> envelope() {
+            return null;
+        }
+
+        ResponseEntity<ApiResponse<String>> entity() {
+            return null;
+        }
+
+        ResponseEntity<Resource> file() {
+            return null;
+        }
+    }
+}
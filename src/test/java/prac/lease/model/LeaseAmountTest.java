@@ -0,0 +1,66 @@
+package prac.lease.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseAmountTest {
+
+    @Test
+    void parsesAmountsAndCurrencies() {
+        assertThat(Lease.parseAmount("1,200.50")).isEqualByComparingTo("1200.50");
+        assertThat(Lease.parseAmount("USD 1200")).isEqualByComparingTo("1200");
+        assertThat(Lease.parseAmount("NONE")).isNull();
+        assertThat(Lease.parseAmount("SWAP")).isNull();
+        assertThat(Lease.parseAmount("1.2.3")).isNull();
+        assertThat(Lease.parseAmount("1,200,000")).isEqualByComparingTo("1200000");
+        // More than one number is ambiguous, so nothing is derived
+        assertThat(Lease.parseAmount("ZWG 1200 (USD 100)")).isNull();
+        assertThat(Lease.parseAmount("12 months @ 100")).isNull();
+        assertThat(Lease.parseAmount("1,20")).isNull();
+
+        assertThat(Lease.parseCurrency("usd 1200")).isEqualTo("USD");
+        assertThat(Lease.parseCurrency("1200 ZWG")).isEqualTo("ZWG");
+        assertThat(Lease.parseCurrency("$1200")).isEqualTo("USD");
+        assertThat(Lease.parseCurrency("1200")).isNull();
+        assertThat(Lease.parseCurrency("NONE")).isNull();
+    }
+
+    @Test
+    void normalizesAnnualRentalToMonthly() {
+        Lease lease = new Lease();
+        lease.setRentalType(RentalType.ANNUALY);
+        lease.setRentalValue("USD 1,000");
+        lease.deriveAmounts();
+
+        assertThat(lease.getRentalAmount()).isEqualByComparingTo("1000");
+        assertThat(lease.getMonthlyRentalAmount()).isEqualByComparingTo(new BigDecimal("83.33"));
+        assertThat(lease.getCurrency()).isEqualTo("USD");
+
+        lease.setRentalType(RentalType.SWAP);
+        lease.setRentalValue("SWAP");
+        lease.deriveAmounts();
+        assertThat(lease.getRentalAmount()).isNull();
+        assertThat(lease.getMonthlyRentalAmount()).isNull();
+    }
+
+    @Test
+    void explicitCurrencyIsKeptAndConflictsAreDetected() {
+        Lease lease = new Lease();
+        lease.setRentalType(RentalType.MONTHLY);
+        lease.setRentalValue("1200");
+        lease.setCommencementAmount("ZWG 500");
+        lease.setCurrency("USD");
+        lease.deriveAmounts();
+        assertThat(lease.getCurrency()).isEqualTo("USD");
+        assertThat(lease.conflictsWithStatedCurrency("USD")).isTrue();
+        assertThat(lease.conflictsWithStatedCurrency("zwg")).isFalse();
+        assertThat(lease.conflictsWithStatedCurrency(null)).isFalse();
+
+        lease.setCurrency(null);
+        lease.deriveAmounts();
+        assertThat(lease.getCurrency()).isEqualTo("ZWG");
+    }
+}
@@ -0,0 +1,69 @@
+package prac.lease.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import prac.lease.model.Landlord;
+import prac.lease.model.Lease;
+import prac.lease.model.Site;
+
+import java.time.LocalDate;
+
+import static prac.lease.TestFixtures.*;
+
+/**
+ * Shared setup for the repository query tests: one H2 context with Hibernate
+ * statistics on, so each test can count the statements a query issues.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+abstract class AbstractRepositoryQueryTest {
+
+    @Autowired
+    protected LeaseRepository leaseRepository;
+
+    @Autowired
+    protected EntityManager entityManager;
+
+    protected Statistics statistics;
+
+    @BeforeEach
+    void enableStatistics() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+    }
+
+    protected long statementsFor(Runnable query) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        query.run();
+        return statistics.getPrepareStatementCount();
+    }
+
+    // Lease n is AGR-n with its own landlord and site, expires on 2030-01-01 plus n days
+    // and carries documents /tmp/lease-n-d.pdf
+    protected void seedLeases(int leases, int documentsPerLease) {
+        long offset = leaseRepository.count();
+        for (int i = 0; i < leases; i++) {
+            long n = offset + i;
+            Landlord landlord = landlord("Landlord " + n);
+            entityManager.persist(landlord);
+            Site site = site("Site " + n);
+            entityManager.persist(site);
+
+            Lease lease = lease("AGR-" + n, landlord, site);
+            lease.setExpiryDate(LocalDate.of(2030, 1, 1).plusDays(n));
+            entityManager.persist(lease);
+
+            for (int d = 0; d < documentsPerLease; d++) {
+                entityManager.persist(document(lease, "lease-" + n + "-" + d + ".pdf"));
+            }
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import prac.lease.model.Document;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentBulkDeleteQueryTest extends AbstractRepositoryQueryTest {
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Test
+    void bulkDeleteLoadsDocumentsUnderRowLocksInIdOrder() {
+        seedLeases(2, 2);
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> ids = documentRepository.findAll(Sort.by("id")).stream().map(Document::getId).toList();
+
+        List<Document> locked = documentRepository.findLockedByIdIn(List.of(ids.get(3), ids.get(0), ids.get(2)));
+        assertThat(locked).extracting(Document::getFileUrl).containsExactly(
+                "/tmp/lease-0-0.pdf", "/tmp/lease-1-0.pdf", "/tmp/lease-1-1.pdf");
+
+        statistics.clear();
+        documentRepository.deleteAll(locked);
+        documentRepository.flush();
+        assertThat(statistics.getEntityDeleteCount()).isEqualTo(3);
+        assertThat(documentRepository.findAllById(ids)).extracting(Document::getId).containsExactly(ids.get(1));
+    }
+}
@@ -0,0 +1,31 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseBatchTransitionQueryTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    void batchTransitionLocksRequestedLeasesAndWritesVersionedUpdates() {
+        seedLeases(3, 0);
+        entityManager.flush();
+        entityManager.clear();
+        List<Long> ids = leaseRepository.findAll(Sort.by("id")).stream().map(Lease::getId).toList();
+
+        List<Lease> locked = leaseRepository.findAllByIdForUpdate(List.of(ids.get(2), ids.get(0), -1L));
+        assertThat(locked).extracting(Lease::getId).containsExactly(ids.get(0), ids.get(2));
+
+        long version = locked.get(0).getVersion();
+        locked.forEach(lease -> lease.setStatus(LeaseStatus.REJECTED));
+        statistics.clear();
+        entityManager.flush();
+        assertThat(statistics.getEntityUpdateCount()).isEqualTo(2);
+        assertThat(locked.get(0).getVersion()).isEqualTo(version + 1);
+    }
+}
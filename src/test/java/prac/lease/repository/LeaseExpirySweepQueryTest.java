@@ -0,0 +1,42 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseExpirySweepQueryTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    void expirySweepPagesOverdueNonRenewingLeasesByIdKeyset() {
+        seedLeases(5, 0);
+        entityManager.flush();
+        List<LeaseStatus> live = List.of(LeaseStatus.APPROVED, LeaseStatus.ACTIVE);
+        // Seeded expiry dates are 2030-01-01 plus n days
+        LocalDate today = LocalDate.of(2030, 1, 4);
+
+        List<Long> firstPage = leaseRepository.findExpirySweepIds(live, today, 0L, PageRequest.of(0, 2));
+        assertThat(firstPage).hasSize(2).isSorted();
+        List<Long> secondPage = leaseRepository.findExpirySweepIds(live, today, firstPage.get(1), PageRequest.of(0, 2));
+        assertThat(secondPage).hasSize(1);
+        assertThat(leaseRepository.findExpirySweepIds(live, today, secondPage.get(0), PageRequest.of(0, 2))).isEmpty();
+
+        List<Long> ids = new ArrayList<>(firstPage);
+        ids.addAll(secondPage);
+        List<Lease> overdue = leaseRepository.findExpirySweepChunk(live, today, ids);
+        assertThat(overdue).extracting(Lease::getAgreementNumber).containsExactlyInAnyOrder("AGR-0", "AGR-1", "AGR-2");
+
+        // A lease that stopped qualifying after its id was read is skipped
+        overdue.get(0).setStatus(LeaseStatus.EXPIRED);
+        entityManager.flush();
+        assertThat(leaseRepository.findExpirySweepChunk(live, today, ids)).hasSize(2);
+
+        assertThat(leaseRepository.findExpirySweepIds(live, LocalDate.of(2029, 1, 1), 0L, PageRequest.of(0, 2))).isEmpty();
+    }
+}
@@ -0,0 +1,39 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import prac.lease.dto.LeaseField;
+import prac.lease.model.LeaseStatus;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LeaseFieldQueryTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sparseFieldsSelectOnlyRequestedColumns() {
+        seedLeases(3, 1);
+        List<Map<String, Object>>[] rows = new List[1];
+
+        assertThat(statementsFor(() -> rows[0] = leaseRepository.findLeaseFields(
+                LeaseField.parse("id,agreementNumber,status,landlord.fullName,landlord.id"),
+                LeaseSpecifications.filter("AGR-", LeaseStatus.APPROVED, null, null, null),
+                Sort.by("id")))).isEqualTo(1);
+
+        assertThat(rows[0]).hasSize(3);
+        Map<String, Object> first = rows[0].get(0);
+        assertThat(first).containsOnlyKeys("id", "agreementNumber", "status", "landlord");
+        assertThat(first.get("agreementNumber")).isEqualTo("AGR-0");
+        assertThat(first.get("status")).isEqualTo(LeaseStatus.APPROVED);
+        assertThat((Map<String, Object>) first.get("landlord")).containsOnlyKeys("fullName", "id")
+                .containsEntry("fullName", "Landlord 0");
+
+        assertThatThrownBy(() -> LeaseField.parse("id,documentCount"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("documentCount");
+    }
+}
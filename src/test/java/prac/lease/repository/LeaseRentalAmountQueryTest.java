@@ -0,0 +1,28 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import prac.lease.dto.RentalAggregateDto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseRentalAmountQueryTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    void rentalRangeAndAggregatesUseDerivedMonthlyAmounts() {
+        seedLeases(3, 0);
+        entityManager.flush();
+
+        assertThat(leaseRepository.findLeaseDtosByMonthlyRentalBetween(new BigDecimal("50"), new BigDecimal("150"))).hasSize(3);
+        assertThat(leaseRepository.findLeaseDtosByMonthlyRentalBetween(new BigDecimal("101"), new BigDecimal("150"))).isEmpty();
+
+        List<RentalAggregateDto> aggregates = leaseRepository.aggregateMonthlyRental();
+        assertThat(aggregates).singleElement().satisfies(aggregate -> {
+            assertThat(aggregate.leaseCount()).isEqualTo(3);
+            assertThat(aggregate.totalMonthlyRental()).isEqualByComparingTo("300");
+            assertThat(aggregate.averageMonthlyRental()).isEqualByComparingTo("100");
+        });
+    }
+}
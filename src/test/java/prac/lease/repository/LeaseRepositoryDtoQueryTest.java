@@ -0,0 +1,35 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import prac.lease.dto.LeaseResponseDto;
+import prac.lease.model.LeaseStatus;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseRepositoryDtoQueryTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    void listingUsesOneStatementRegardlessOfRowCount() {
+        seedLeases(3, 2);
+        assertThat(statementsFor(() -> assertMapped(leaseRepository.findLeaseDtos(), 3, 2))).isEqualTo(1);
+
+        seedLeases(20, 1);
+        assertThat(statementsFor(() -> assertMapped(leaseRepository.findLeaseDtos(), 23, -1))).isEqualTo(1);
+        assertThat(statementsFor(() -> leaseRepository.findLeaseDtosByStatus(LeaseStatus.APPROVED))).isEqualTo(1);
+        assertThat(statementsFor(() -> leaseRepository.findSliceAfterId(0L, PageRequest.of(0, 10)))).isEqualTo(1);
+    }
+
+    private void assertMapped(List<LeaseResponseDto> dtos, int expectedRows, int expectedDocuments) {
+        assertThat(dtos).hasSize(expectedRows);
+        for (LeaseResponseDto dto : dtos) {
+            assertThat(dto.getLandlord().getFullName()).startsWith("Landlord");
+            assertThat(dto.getSite().getSiteName()).startsWith("Site");
+            if (expectedDocuments >= 0) {
+                assertThat(dto.getDocumentCount()).isEqualTo(expectedDocuments);
+            }
+        }
+    }
+}
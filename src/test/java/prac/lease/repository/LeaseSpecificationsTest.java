@@ -0,0 +1,33 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseSpecificationsTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    void searchSpecificationOnlyAppliesSuppliedFilters() {
+        seedLeases(12, 0);
+        Page<Lease>[] result = new Page[1];
+
+        // Page query plus count query, with landlord and site fetched in the page query
+        assertThat(statementsFor(() -> {
+            result[0] = leaseRepository.findAll(
+                    LeaseSpecifications.search("AGR-1", LeaseStatus.APPROVED, null, null, null),
+                    PageRequest.of(0, 2, Sort.by("agreementNumber")));
+            result[0].forEach(lease -> assertThat(lease.getLandlord().getFullName()).startsWith("Landlord"));
+        })).isEqualTo(2);
+        assertThat(result[0].getTotalElements()).isEqualTo(3);
+        assertThat(result[0].getContent()).extracting(Lease::getAgreementNumber).containsExactly("AGR-1", "AGR-10");
+
+        assertThat(leaseRepository.findAll(LeaseSpecifications.search(null, null, null, null, null))).hasSize(12);
+        assertThat(leaseRepository.findAll(LeaseSpecifications.search("AGR_", null, null, null, null))).isEmpty();
+        assertThat(leaseRepository.findAll(LeaseSpecifications.search(null, LeaseStatus.REJECTED, null, null, null))).isEmpty();
+    }
+}
@@ -0,0 +1,56 @@
+package prac.lease.repository;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+import prac.lease.dto.LeaseStatisticsDto;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LeaseStatisticsQueryTest extends AbstractRepositoryQueryTest {
+
+    @Test
+    void statisticsAreComputedInOnePass() {
+        seedLeases(4, 0);
+        LocalDate today = LocalDate.of(2030, 1, 2);
+        LeaseStatisticsDto[] summary = new LeaseStatisticsDto[1];
+
+        assertThat(statementsFor(() -> summary[0] = leaseRepository.computeStatistics(
+                today, today.plusDays(7), today.plusDays(30), today.plusDays(90)))).isEqualTo(1);
+        assertThat(summary[0].totalLeases()).isEqualTo(4);
+        assertThat(summary[0].countByStatus(LeaseStatus.APPROVED)).isEqualTo(4);
+        assertThat(summary[0].countByStatus(LeaseStatus.REJECTED)).isZero();
+        assertThat(summary[0].expiredLeases()).isEqualTo(1);
+        assertThat(summary[0].expiringThisWeek()).isEqualTo(3);
+        assertThat(summary[0].operationalLeases()).isEqualTo(4);
+    }
+
+    @Test
+    void categoryScopeMatchesContainingIgnoringCase() {
+        seedLeases(4, 0);
+        List<Lease> leases = leaseRepository.findAll(Sort.by("id"));
+        leases.get(0).setLeaseCategory("Rooftop Tower");
+        leases.get(1).setLeaseCategory("tower");
+        leases.get(1).setStatus(LeaseStatus.ACTIVE);
+        leases.get(1).setAutoRenewalOption(true);
+        leases.get(2).setLeaseCategory("Billboard");
+        leases.get(3).setAutoRenewalOption(true);
+        entityManager.flush();
+        LocalDate today = LocalDate.of(2030, 1, 2);
+
+        LeaseStatisticsDto towers = leaseRepository.computeStatisticsByCategory("TOWER",
+                today, today.plusDays(7), today.plusDays(30), today.plusDays(90));
+        assertThat(towers.totalLeases()).isEqualTo(2);
+        assertThat(towers.activeAutoRenewalLeases()).isEqualTo(1);
+
+        // Auto-renewal counts every status; the active variant only ACTIVE leases
+        LeaseStatisticsDto all = leaseRepository.computeStatistics(
+                today, today.plusDays(7), today.plusDays(30), today.plusDays(90));
+        assertThat(all.autoRenewalLeases()).isEqualTo(2);
+        assertThat(all.activeAutoRenewalLeases()).isEqualTo(1);
+    }
+}
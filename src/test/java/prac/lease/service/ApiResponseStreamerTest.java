@@ -0,0 +1,63 @@
+package prac.lease.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ApiResponseStreamerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ApiResponseStreamer streamer = new ApiResponseStreamer(objectMapper, new NoOpTransactionManager());
+
+    @Test
+    void writesRowsInsideTheApiResponseEnvelope() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.stream("Rows retrieved.", () -> IntStream.range(0, 3).boxed(), i -> Map.of("id", i))
+                .writeTo(out);
+
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertThat(json.get("success").asBoolean()).isTrue();
+        assertThat(json.get("message").asText()).isEqualTo("Rows retrieved.");
+        assertThat(json.get("body")).hasSize(3);
+        assertThat(json.get("body").get(2).get("id").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void failureUsesTheSameEnvelope() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamer.failure("Invalid status: X").writeTo(out);
+
+        JsonNode json = objectMapper.readTree(out.toByteArray());
+        assertThat(json.get("success").asBoolean()).isFalse();
+        assertThat(json.get("message").asText()).isEqualTo("Invalid status: X");
+        assertThat(json.get("body").isNull()).isTrue();
+    }
+
+    private static class NoOpTransactionManager extends AbstractPlatformTransactionManager {
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+}
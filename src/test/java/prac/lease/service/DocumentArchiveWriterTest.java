@@ -0,0 +1,62 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DocumentArchiveWriterTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void writesStoredEntriesThatRoundTrip() throws Exception {
+        byte[] large = new byte[200 * 1024];
+        for (int i = 0; i < large.length; i++) {
+            large[i] = (byte) (i * 31);
+        }
+        Path first = Files.write(dir.resolve("a.pdf"), large);
+        Path second = Files.writeString(dir.resolve("b.pdf"), "%PDF-1.4 small");
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DocumentArchiveWriter archive = new DocumentArchiveWriter(out);
+        archive.addFile(DocumentArchiveWriter.entryName(7L, "lease.pdf"), first);
+        archive.addFile(DocumentArchiveWriter.entryName(8L, "lease.pdf"), second);
+        archive.finish();
+
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zip.getNextEntry();
+            assertThat(entry.getName()).isEqualTo("7-lease.pdf");
+            assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+            assertThat(zip.readAllBytes()).isEqualTo(large);
+
+            entry = zip.getNextEntry();
+            assertThat(entry.getName()).isEqualTo("8-lease.pdf");
+            assertThat(entry.getMethod()).isEqualTo(ZipEntry.STORED);
+            byte[] small = zip.readAllBytes();
+            CRC32 crc = new CRC32();
+            crc.update(small);
+            assertThat(entry.getCrc()).isEqualTo(crc.getValue());
+            assertThat(new String(small, StandardCharsets.US_ASCII)).isEqualTo("%PDF-1.4 small");
+
+            assertThat(zip.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    void entryNamesStayFlatAndUnique() {
+        assertThat(DocumentArchiveWriter.entryName(3L, "../../etc/passwd")).isEqualTo("3-.._.._etc_passwd");
+        assertThat(DocumentArchiveWriter.entryName(4L, "C:\\lease\\deed.pdf")).isEqualTo("4-C__lease_deed.pdf");
+        assertThat(DocumentArchiveWriter.entryName(5L, " ")).isEqualTo("5-document.pdf");
+    }
+}
@@ -0,0 +1,180 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import prac.lease.exception.InvalidFileException;
+import prac.lease.model.DocumentBlob;
+import prac.lease.repository.DocumentBlobRepository;
+import prac.lease.service.DocumentStoreService.StagedBlob;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DocumentStoreServiceTest {
+
+    private final DocumentBlobRepository documentBlobRepository = mock(DocumentBlobRepository.class);
+    private final DocumentReclamationService documentReclamationService = mock(DocumentReclamationService.class);
+    private final DocumentStoreServiceImpl store = new DocumentStoreServiceImpl(
+            documentBlobRepository, documentReclamationService, mock(PlatformTransactionManager.class), 2);
+    private final Map<String, DocumentBlob> blobs = new HashMap<>();
+
+    @TempDir
+    Path uploadDir;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(store, "fileUploadBaseDir", uploadDir.toString());
+
+        // A minimal in-memory stand-in for the reference-counting statements
+        when(documentBlobRepository.findBySha256(anyString())).thenAnswer(call -> Optional.ofNullable(blobs.get(call.<String>getArgument(0))));
+        when(documentBlobRepository.findBySha256ForUpdate(anyString())).thenAnswer(call -> Optional.ofNullable(blobs.get(call.<String>getArgument(0))));
+        when(documentBlobRepository.existsBySha256(anyString())).thenAnswer(call -> blobs.containsKey(call.<String>getArgument(0)));
+        when(documentBlobRepository.retain(anyString())).thenAnswer(call -> adjust(call.getArgument(0), 1));
+        when(documentBlobRepository.release(anyString(), anyLong())).thenAnswer(call -> adjust(call.getArgument(0), -call.<Long>getArgument(1).intValue()));
+        when(documentBlobRepository.deleteIfUnreferenced(anyString())).thenAnswer(call -> {
+            DocumentBlob blob = blobs.get(call.<String>getArgument(0));
+            return blob != null && blob.getRefCount() <= 0 && blobs.remove(blob.getSha256()) != null ? 1 : 0;
+        });
+        when(documentBlobRepository.insertOrRetain(anyString(), anyLong(), anyString(), any(LocalDateTime.class))).thenAnswer(call -> {
+            if (adjust(call.getArgument(0), 1) == 1) {
+                return 2;
+            }
+            blobs.put(call.getArgument(0), new DocumentBlob(call.getArgument(0), call.getArgument(1), call.getArgument(2), 1, call.getArgument(3)));
+            return 1;
+        });
+    }
+
+    @Test
+    void identicalUploadsShareOneFileUntilTheLastReferenceIsReleased() throws Exception {
+        DocumentBlob first = store.store(pdf("%PDF-1.4 lease"));
+        DocumentBlob second = store.store(pdf("%PDF-1.4 lease"));
+        DocumentBlob other = store.store(pdf("%PDF-1.4 other"));
+
+        assertThat(second.getSha256()).isEqualTo(first.getSha256());
+        assertThat(second.getStoragePath()).isEqualTo(first.getStoragePath());
+        assertThat(first.getRefCount()).isEqualTo(2);
+        assertThat(first.getSize()).isEqualTo(14);
+        assertThat(storedFiles()).containsExactlyInAnyOrder(
+                first.getSha256().substring(0, 2) + "/" + first.getSha256().substring(2, 4) + "/" + first.getSha256() + ".pdf",
+                other.getSha256().substring(0, 2) + "/" + other.getSha256().substring(2, 4) + "/" + other.getSha256() + ".pdf");
+
+        assertThat(store.retain(first.getSha256().toUpperCase())).contains(first);
+        assertThat(store.retain(first.getSha256().substring(1))).isEmpty();
+        assertThat(first.getRefCount()).isEqualTo(3);
+
+        store.release(first.getSha256(), 2);
+        verify(documentReclamationService, never()).enqueue(any(Path.class), anyString());
+        store.release(first.getSha256(), 1);
+        // The file itself is left for the reclaimer; only a tombstone is queued
+        verify(documentReclamationService).enqueue(Path.of(first.getStoragePath()), first.getSha256());
+        assertThat(Path.of(first.getStoragePath())).exists();
+
+        // Storing the same bytes again cancels the queued deletion before the file is put back
+        store.store(pdf("%PDF-1.4 lease"));
+        verify(documentReclamationService, times(2)).cancel(first.getSha256());
+        verify(documentBlobRepository, never()).retain(first.getSha256().substring(1));
+    }
+
+    @Test
+    void parallelStagingIsAllOrNothing() throws Exception {
+        List<StagedBlob> staged = store.stageAll(List.of(() -> pdf("%PDF-1.4 a"), () -> pdf("%PDF-1.4 b")));
+        assertThat(staged).extracting(StagedBlob::size).containsExactly(10L, 10L);
+        assertThat(staged.get(0).sha256()).isNotEqualTo(staged.get(1).sha256());
+        staged.forEach(store::discard);
+
+        assertThatThrownBy(() -> store.stageAll(List.of(
+                () -> pdf("%PDF-1.4 a"),
+                () -> new PdfUploadInputStream(pdf("not a pdf"), 1024),
+                () -> pdf("%PDF-1.4 c"))))
+                .isInstanceOf(InvalidFileException.class);
+        assertThat(storedFiles()).isEmpty();
+        verify(documentBlobRepository, never()).insertOrRetain(anyString(), anyLong(), anyString(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void aRolledBackFirstUploadNeverRemovesTheFileOfAConcurrentUploadOfTheSameBytes() throws Exception {
+        StagedBlob first = store.stage(pdf("%PDF-1.4 race"));
+        StagedBlob second = store.stage(pdf("%PDF-1.4 race"));
+        // Both uploads found no row for the hash before either wrote one
+        when(documentBlobRepository.retain(anyString())).thenReturn(0);
+
+        // The first creates the row and moves its file into place, then rolls back
+        List<TransactionSynchronization> firstTransaction = inTransaction(() -> store.commit(first));
+        blobs.clear();
+        // The second was waiting on the row lock; it now creates the row and commits
+        DocumentBlob stored = store.commit(second);
+        store.discard(second);
+        Path file = Path.of(stored.getStoragePath());
+        assertThat(file).exists();
+
+        // The first's cleanup sees the second's row under the lock and leaves the shared file alone
+        firstTransaction.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(file).exists();
+
+        // With no other upload holding the blob, a rolled-back creator removes its file
+        StagedBlob alone = store.stage(pdf("%PDF-1.4 alone"));
+        List<TransactionSynchronization> aloneTransaction = inTransaction(() -> store.commit(alone));
+        Path aloneFile = store.pathFor(alone.sha256());
+        blobs.remove(alone.sha256());
+        aloneTransaction.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        assertThat(aloneFile).doesNotExist();
+        assertThat(storedFiles()).hasSize(1);
+    }
+
+    private static List<TransactionSynchronization> inTransaction(Callable<?> work) throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            work.call();
+            return TransactionSynchronizationManager.getSynchronizations();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private int adjust(String sha256, int delta) {
+        DocumentBlob blob = blobs.get(sha256);
+        if (blob == null || blob.getRefCount() + delta < 0) {
+            return 0;
+        }
+        blob.setRefCount(blob.getRefCount() + delta);
+        return 1;
+    }
+
+    private List<String> storedFiles() throws Exception {
+        Path documents = uploadDir.resolve("documents");
+        try (Stream<Path> files = Files.walk(documents)) {
+            return files.filter(Files::isRegularFile)
+                    .map(path -> documents.relativize(path).toString().replace('\\', '/'))
+                    .toList();
+        }
+    }
+
+    private static ByteArrayInputStream pdf(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.US_ASCII));
+    }
+}
@@ -0,0 +1,61 @@
+package prac.lease.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import prac.lease.model.*;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static prac.lease.TestFixtures.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(LeaseAmountBackfill.class)
+class LeaseAmountBackfillTest {
+
+    @Autowired
+    private LeaseAmountBackfill leaseAmountBackfill;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private RegisterVersionService registerVersionService;
+
+    @Test
+    void fillsOnlyTheDerivedColumnsOfLegacyRows() {
+        Landlord landlord = landlord("Landlord");
+        entityManager.persist(landlord);
+        Site site = site("Site");
+        entityManager.persist(site);
+        Lease lease = lease("AGR-1", landlord, site);
+        lease.setRentalType(RentalType.ANNUALY);
+        lease.setRentalValue("USD 1,200");
+        entityManager.persist(lease);
+        entityManager.flush();
+
+        // As written before the amount columns existed
+        entityManager.createNativeQuery("UPDATE lease SET rental_amount = NULL, commencement_amount_value = NULL, " +
+                "currency = NULL, monthly_rental_amount = NULL").executeUpdate();
+        entityManager.clear();
+        Lease legacy = entityManager.find(Lease.class, lease.getId());
+        long version = legacy.getVersion();
+        LocalDateTime modified = legacy.getModificationTime();
+        entityManager.clear();
+
+        leaseAmountBackfill.backfill();
+
+        Lease backfilled = entityManager.find(Lease.class, lease.getId());
+        assertThat(backfilled.getRentalAmount()).isEqualByComparingTo("1200");
+        assertThat(backfilled.getMonthlyRentalAmount()).isEqualByComparingTo("100");
+        assertThat(backfilled.getCurrency()).isEqualTo("USD");
+        assertThat(backfilled.getVersion()).isEqualTo(version);
+        assertThat(backfilled.getModificationTime()).isEqualTo(modified);
+        verify(registerVersionService).markChanged();
+    }
+}
@@ -0,0 +1,131 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.model.*;
+import prac.lease.repository.BatchJobRunRepository;
+import prac.lease.repository.LandlordRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.SiteRepository;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static prac.lease.TestFixtures.*;
+
+// Not transactional: each chunk commits or rolls back on its own, as it does in production
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "lease.expiry_sweep.chunk_size=2"
+})
+@Import(LeaseExpirySweepServiceImpl.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LeaseExpirySweepServiceTest {
+
+    @Autowired
+    private LeaseExpirySweepService leaseExpirySweepService;
+
+    @Autowired
+    private BatchJobRunRepository batchJobRunRepository;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private LandlordRepository landlordRepository;
+
+    @Autowired
+    private SiteRepository siteRepository;
+
+    @MockBean
+    private LeaseCounterService leaseCounterService;
+
+    private final LocalDate today = LocalDate.now();
+
+    @Test
+    void sweepExpiresOverdueLeasesChunkByChunkAndRecordsTheRun() {
+        Landlord landlord = landlordRepository.save(landlord("Landlord"));
+        Site site = siteRepository.save(site("Site"));
+
+        // Ids are read two at a time: [overdue, overdueActive], then [failing, failingNeighbour]
+        Lease overdue = saveLease("EXP-1", landlord, site, LeaseStatus.APPROVED, today.minusDays(1), false);
+        Lease overdueActive = saveLease("EXP-2", landlord, site, LeaseStatus.ACTIVE, today.minusMonths(3), false);
+        Lease autoRenewing = saveLease("EXP-3", landlord, site, LeaseStatus.APPROVED, today.minusDays(5), true);
+        Lease current = saveLease("EXP-4", landlord, site, LeaseStatus.APPROVED, today.plusDays(10), false);
+        Lease failing = saveLease("EXP-5", landlord, site, LeaseStatus.APPROVED, today.minusDays(2), false);
+        Lease failingNeighbour = saveLease("EXP-6", landlord, site, LeaseStatus.APPROVED, today.minusDays(2), false);
+
+        Map<LeaseCounterDimension, String> approved = Map.of(LeaseCounterDimension.STATUS, LeaseStatus.APPROVED.name());
+        when(leaseCounterService.snapshot(any())).thenReturn(approved);
+        doThrow(new IllegalStateException("Counter store unavailable")).when(leaseCounterService)
+                .onChanged(any(), argThat(lease -> "EXP-5".equals(lease.getAgreementNumber())));
+
+        ApiResponse<BatchJobRunResponseDto> response = leaseExpirySweepService.runSweep();
+
+        assertThat(response.success()).isTrue();
+        assertThat(reload(overdue).getStatus()).isEqualTo(LeaseStatus.EXPIRED);
+        assertThat(reload(overdue).getVersion()).isEqualTo(overdue.getVersion() + 1);
+        assertThat(reload(overdueActive).getStatus()).isEqualTo(LeaseStatus.EXPIRED);
+        assertThat(reload(overdueActive).getVersion()).isEqualTo(overdueActive.getVersion() + 1);
+
+        // Auto-renewing and current leases are never read
+        assertThat(reload(autoRenewing).getStatus()).isEqualTo(LeaseStatus.APPROVED);
+        assertThat(reload(autoRenewing).getVersion()).isEqualTo(autoRenewing.getVersion());
+        assertThat(reload(current).getStatus()).isEqualTo(LeaseStatus.APPROVED);
+        verify(leaseCounterService, never()).onChanged(any(), argThat(lease -> "EXP-3".equals(lease.getAgreementNumber())));
+
+        // The failed chunk rolls back as a whole, including the lease whose counter update never ran
+        assertThat(reload(failing).getStatus()).isEqualTo(LeaseStatus.APPROVED);
+        assertThat(reload(failingNeighbour).getStatus()).isEqualTo(LeaseStatus.APPROVED);
+        assertThat(reload(failingNeighbour).getVersion()).isEqualTo(failingNeighbour.getVersion());
+
+        // Each expired lease moves its counters from the snapshot taken before the change
+        for (Lease expired : new Lease[]{overdue, overdueActive}) {
+            verify(leaseCounterService).onChanged(eq(approved), argThat(lease ->
+                    lease.getId().equals(expired.getId()) && lease.getStatus() == LeaseStatus.EXPIRED));
+        }
+
+        BatchJobRunResponseDto run = response.body();
+        assertThat(run.status()).isEqualTo(BatchJobStatus.COMPLETED_WITH_FAILURES);
+        assertThat(run.chunks()).isEqualTo(2);
+        assertThat(run.rowsRead()).isEqualTo(4);
+        assertThat(run.rowsUpdated()).isEqualTo(2);
+        assertThat(run.failures()).isEqualTo(2);
+        assertThat(run.watermark()).isEqualTo(today);
+
+        BatchJobRun stored = batchJobRunRepository.findById(run.id()).orElseThrow();
+        assertThat(stored.getJobName()).isEqualTo(LeaseExpirySweepServiceImpl.JOB_NAME);
+        assertThat(stored.getErrorMessage()).isEqualTo("Counter store unavailable");
+        assertThat(stored.getFinishedAt()).isNotNull();
+    }
+
+    private Lease reload(Lease lease) {
+        return leaseRepository.findById(lease.getId()).orElseThrow();
+    }
+
+    private Lease saveLease(String agreementNumber, Landlord landlord, Site site, LeaseStatus status,
+                            LocalDate expiryDate, boolean autoRenew) {
+        Lease lease = lease(agreementNumber, landlord, site);
+        lease.setCommencementDate(expiryDate.minusYears(1));
+        lease.setExpiryDate(expiryDate);
+        lease.setStatus(status);
+        lease.setAutoRenewalOption(autoRenew);
+        lease.setRenewalPeriodMonths(autoRenew ? 12 : null);
+        return leaseRepository.save(lease);
+    }
+}
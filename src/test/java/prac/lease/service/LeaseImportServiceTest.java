@@ -0,0 +1,163 @@
+package prac.lease.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.LeaseImportResultDto;
+import prac.lease.dto.LeaseImportResultDto.RowError;
+import prac.lease.model.Lease;
+import prac.lease.model.LeaseStatus;
+import prac.lease.repository.LandlordRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.SiteRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static prac.lease.TestFixtures.landlord;
+import static prac.lease.TestFixtures.site;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({LeaseImportServiceImpl.class, LeaseImportServiceTest.Config.class})
+class LeaseImportServiceTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        AuditorAware<String> auditorAware() {
+            return () -> Optional.of("importer");
+        }
+
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+    }
+
+    @MockBean
+    private LeaseCounterService leaseCounterService;
+
+    @MockBean
+    private QuickSearchService quickSearchService;
+
+    @MockBean
+    private RegisterVersionService registerVersionService;
+
+    @Autowired
+    private LeaseImportService leaseImportService;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private LandlordRepository landlordRepository;
+
+    @Autowired
+    private SiteRepository siteRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void csvImportWritesValidRowsAndReportsTheRest() {
+        seedLandlordAndSite();
+        String csv = """
+                agreementNumber,landlordName,siteName,commencementDate,expiryDate,rentalType,rentalValue,currency,leaseType,operationalStatus,autoRenewalOption,terminationClauseDetails
+                IMP-1,Acme Holdings,Borrowdale,2024-01-01,2029-12-31,MONTHLY,"1,200",USD,LEASE,OPERATIONAL,yes,"Three months' notice, in ""writing""\"
+                IMP-2,acme holdings ,Borrowdale,2024-01-01,2029-12-31,SWAP,,,LEASE,OPERATIONAL,,
+                IMP-1,Acme Holdings,Borrowdale,2024-01-01,2029-12-31,NONE,,,LEASE,OPERATIONAL,,
+                IMP-3,Unknown Landlord,Borrowdale,2024-01-01,2029-12-31,NONE,,,LEASE,OPERATIONAL,,
+                IMP-4,Acme Holdings,Borrowdale,2030-01-01,2029-12-31,NONE,,,LEASE,OPERATIONAL,,
+                IMP-5,Acme Holdings,Borrowdale,2024-01-01,2029-12-31,MONTHLY,,,LEASE,OPERATIONAL,,
+                """;
+
+        ApiResponse<LeaseImportResultDto> response = leaseImportService.importLeases(
+                new MockMultipartFile("file", "leases.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertThat(response.success()).isTrue();
+        LeaseImportResultDto result = response.body();
+        assertThat(result.rowsRead()).isEqualTo(6);
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.rejected()).isEqualTo(4);
+        assertThat(result.errors()).extracting(RowError::row).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(result.errors().get(1).message()).contains("Landlord not found");
+
+        entityManager.clear();
+        Lease imported = leaseRepository.findByAgreementNumber("IMP-1").orElseThrow();
+        assertThat(imported.getStatus()).isEqualTo(LeaseStatus.PENDING_APPROVAL);
+        assertThat(imported.getRentalValue()).isEqualTo("1,200");
+        assertThat(imported.getMonthlyRentalAmount()).isEqualByComparingTo("1200");
+        assertThat(imported.isAutoRenewalOption()).isTrue();
+        assertThat(imported.getTerminationClauseDetails()).isEqualTo("Three months' notice, in \"writing\"");
+        assertThat(imported.getCreatedByUser()).isEqualTo("importer");
+        assertThat(imported.getVersion()).isZero();
+        assertThat(imported.getLandlord().getFullName()).isEqualTo("Acme Holdings");
+    }
+
+    @Test
+    void ndjsonImportReportsMalformedLines() {
+        seedLandlordAndSite();
+        String ndjson = """
+                {"agreementNumber":"NDJ-1","landlordName":"Acme Holdings","siteName":"Borrowdale","commencementDate":"2024-01-01","expiryDate":"2029-12-31","rentalType":"ANNUALY","rentalValue":"12000","leaseType":"LEASE","operationalStatus":"OPERATIONAL","renewalPeriodMonths":12}
+
+                {"agreementNumber":"NDJ-2",
+                """;
+
+        LeaseImportResultDto result = leaseImportService.importLeases(new MockMultipartFile(
+                "file", "leases.ndjson", "application/x-ndjson", ndjson.getBytes(StandardCharsets.UTF_8))).body();
+
+        assertThat(result.imported()).isEqualTo(1);
+        assertThat(result.errors()).singleElement().satisfies(error -> assertThat(error.message()).startsWith("Malformed JSON"));
+        entityManager.clear();
+        assertThat(leaseRepository.findByAgreementNumber("NDJ-1").orElseThrow().getRenewalPeriodMonths()).isEqualTo(12);
+    }
+
+    // Not transactional: each retried batch has to commit or roll back on its own, as it does in production
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void rowsTheDatabaseRefusesAreRejectedAloneAndAnUnclosedQuoteIsMalformed() {
+        landlordRepository.save(landlord("Split Holdings"));
+        siteRepository.save(site("Split Site"));
+
+        String longCategory = "x".repeat(300);
+        String csv = """
+                agreementNumber,landlordName,siteName,commencementDate,expiryDate,rentalType,leaseType,operationalStatus,leaseCategory
+                SPL-1,Split Holdings,Split Site,2024-01-01,2029-12-31,NONE,LEASE,OPERATIONAL,Tower
+                SPL-2,Split Holdings,Split Site,2024-01-01,2029-12-31,NONE,LEASE,OPERATIONAL,%s
+                SPL-3,Split Holdings,Split Site,2024-01-01,2029-12-31,NONE,LEASE,OPERATIONAL,Tower
+                SPL-4,Split Holdings,Split Site,2024-01-01,2029-12-31,NONE,LEASE,OPERATIONAL,Tower
+                SPL-5,Split Holdings,Split Site,2024-01-01,2029-12-31,NONE,LEASE,OPERATIONAL,"Tower
+                """.formatted(longCategory);
+
+        LeaseImportResultDto result = leaseImportService.importLeases(
+                new MockMultipartFile("file", "leases.csv", "text/csv", csv.getBytes(StandardCharsets.UTF_8))).body();
+
+        assertThat(result.rowsRead()).isEqualTo(5);
+        assertThat(result.imported()).isEqualTo(3);
+        assertThat(result.errors()).extracting(RowError::row).containsExactly(5L, 2L);
+        assertThat(result.errors().get(0).message()).isEqualTo("Unterminated quoted field at end of file.");
+        assertThat(result.errors().get(1).agreementNumber()).isEqualTo("SPL-2");
+        assertThat(result.errors().get(1).message()).startsWith("Insert failed");
+        assertThat(leaseRepository.findByAgreementNumber("SPL-1")).isPresent();
+        assertThat(leaseRepository.findByAgreementNumber("SPL-2")).isEmpty();
+        assertThat(leaseRepository.findByAgreementNumber("SPL-4")).isPresent();
+    }
+
+    private void seedLandlordAndSite() {
+        entityManager.persist(landlord("Acme Holdings"));
+        entityManager.persist(site("Borrowdale"));
+        entityManager.flush();
+    }
+}
@@ -0,0 +1,97 @@
+package prac.lease.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.BatchJobRunResponseDto;
+import prac.lease.model.*;
+import prac.lease.repository.BatchJobRunRepository;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static prac.lease.TestFixtures.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(LeaseRenewalBatchServiceImpl.class)
+class LeaseRenewalBatchServiceTest {
+
+    @Autowired
+    private LeaseRenewalBatchService leaseRenewalBatchService;
+
+    @Autowired
+    private BatchJobRunRepository batchJobRunRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @MockBean
+    private LeaseCounterService leaseCounterService;
+
+    private final LocalDate today = LocalDate.now();
+    private Landlord landlord;
+    private Site site;
+
+    @BeforeEach
+    void setUp() {
+        landlord = landlord("Landlord");
+        entityManager.persist(landlord);
+        site = site("Site");
+        entityManager.persist(site);
+    }
+
+    @Test
+    void firstRunCatchesUpLeasesMissedForSeveralPeriods() {
+        Lease overdue = persistLease("AGR-1", today.minusMonths(30), 12, true);
+        Lease current = persistLease("AGR-2", today.plusDays(10), 12, true);
+        Lease nonRenewing = persistLease("AGR-3", today.minusDays(5), 12, false);
+
+        ApiResponse<BatchJobRunResponseDto> response = leaseRenewalBatchService.runAutoRenewals();
+
+        assertThat(response.success()).isTrue();
+        // Three twelve-month periods are needed to carry a lease thirty months overdue past today
+        assertThat(overdue.getStatus()).isEqualTo(LeaseStatus.AUTO_RENEWED);
+        LocalDate expected = today.minusMonths(30);
+        for (int period = 0; period < 3; period++) {
+            expected = expected.plusDays(1).plusMonths(12);
+        }
+        assertThat(overdue.getExpiryDate()).isEqualTo(expected).isAfter(today);
+        assertThat(current.getExpiryDate()).isEqualTo(today.plusDays(10));
+        assertThat(nonRenewing.getStatus()).isEqualTo(LeaseStatus.APPROVED);
+        assertThat(response.body().rowsUpdated()).isEqualTo(1);
+    }
+
+    @Test
+    void leaseThatBecomesEligibleAfterTheWatermarkIsStillRenewed() {
+        BatchJobRun previous = new BatchJobRun(LeaseRenewalBatchServiceImpl.JOB_NAME);
+        previous.setStatus(BatchJobStatus.SUCCEEDED);
+        previous.setWatermark(today);
+        batchJobRunRepository.save(previous);
+
+        // Expired before the last run, but only approved or imported since
+        Lease late = persistLease("AGR-4", today.minusDays(20), 6, true);
+
+        leaseRenewalBatchService.runAutoRenewals();
+        assertThat(late.getStatus()).isEqualTo(LeaseStatus.AUTO_RENEWED);
+        assertThat(late.getExpiryDate()).isEqualTo(today.minusDays(19).plusMonths(6));
+
+        // Renewed leases are current again, so a second run finds nothing
+        ApiResponse<BatchJobRunResponseDto> again = leaseRenewalBatchService.runAutoRenewals();
+        assertThat(again.body().rowsRead()).isZero();
+    }
+
+    private Lease persistLease(String agreementNumber, LocalDate expiryDate, int renewalPeriodMonths, boolean autoRenew) {
+        Lease lease = lease(agreementNumber, landlord, site);
+        lease.setCommencementDate(expiryDate.minusYears(1));
+        lease.setExpiryDate(expiryDate);
+        lease.setAutoRenewalOption(autoRenew);
+        lease.setRenewalPeriodMonths(renewalPeriodMonths);
+        entityManager.persist(lease);
+        return lease;
+    }
+}
@@ -0,0 +1,37 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.Test;
+import prac.lease.exception.InvalidFileException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PdfUploadInputStreamTest {
+
+    @Test
+    void passesPdfBodiesWithinTheLimit() throws Exception {
+        assertThat(new PdfUploadInputStream(body("%PDF-1.7 ok"), 11).readAllBytes()).hasSize(11);
+    }
+
+    @Test
+    void rejectsAsSoonAsTheSignatureOrLimitIsBroken() {
+        InputStream notPdf = new PdfUploadInputStream(body("PK\u0003\u0004 zip"), 1024);
+        assertThatThrownBy(() -> notPdf.read(new byte[1], 0, 1)).hasMessage("Only PDF files are allowed.");
+        assertThatThrownBy(() -> new PdfUploadInputStream(body("%PD"), 1024).readAllBytes())
+                .isInstanceOf(InvalidFileException.class);
+
+        InputStream oversize = new PdfUploadInputStream(body("%PDF-1.7 too long"), 10);
+        assertThatThrownBy(() -> oversize.transferTo(OutputStream.nullOutputStream()))
+                .isInstanceOf(InvalidFileException.class)
+                .hasMessageStartingWith("File size must be less than");
+    }
+
+    private static InputStream body(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.ISO_8859_1));
+    }
+}
@@ -0,0 +1,77 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.Test;
+import prac.lease.dto.QuickSearchHit;
+import prac.lease.service.QuickSearchIndex.EntityType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QuickSearchIndexTest {
+
+    @Test
+    void ranksExactThenPrefixThenInfixMatches() {
+        QuickSearchIndex index = new QuickSearchIndex();
+        index.put(EntityType.LEASE, 1L, "agreementNumber", "AGR-1001");
+        index.put(EntityType.LEASE, 2L, "agreementNumber", "AGR-100");
+        index.put(EntityType.LEASE, 3L, "agreementNumber", "XAGR-1009");
+        index.put(EntityType.SITE, 4L, "siteName", "Borrowdale Tower", "district", "Harare North", "zone", "North");
+
+        List<QuickSearchHit> hits = index.search("agr-100", 10);
+        assertThat(hits).extracting(QuickSearchHit::id).containsExactly(2L, 1L, 3L);
+
+        assertThat(index.search("agr 100", 2)).extracting(QuickSearchHit::id).containsExactly(2L, 1L);
+        assertThat(index.search("nor", 10)).singleElement()
+                .satisfies(hit -> {
+                    assertThat(hit.type()).isEqualTo("SITE");
+                    assertThat(hit.label()).isEqualTo("Borrowdale Tower");
+                    assertThat(hit.matchedField()).isEqualTo("zone");
+                });
+    }
+
+    @Test
+    void twoCharacterQueriesMatchWordStarts() {
+        QuickSearchIndex index = new QuickSearchIndex();
+        index.put(EntityType.LANDLORD, 1L, "fullName", "Tendai Moyo");
+        index.put(EntityType.LANDLORD, 2L, "fullName", "Simon Tomo");
+
+        assertThat(index.search("mo", 10)).extracting(QuickSearchHit::id).containsExactly(1L);
+        assertThat(index.search("m", 10)).isEmpty();
+    }
+
+    @Test
+    void updatesAndRemovalsAreReflected() {
+        QuickSearchIndex index = new QuickSearchIndex();
+        index.put(EntityType.LANDLORD, 1L, "fullName", "Tendai Moyo");
+        index.put(EntityType.LANDLORD, 1L, "fullName", "Tendai Ncube");
+
+        assertThat(index.search("moyo", 10)).isEmpty();
+        assertThat(index.search("ncube", 10)).hasSize(1);
+
+        index.remove(EntityType.LANDLORD, 1L);
+        assertThat(index.search("ncube", 10)).isEmpty();
+        assertThat(index.size()).isZero();
+
+        index.put(EntityType.LANDLORD, 2L, "fullName", "Rudo Ncube");
+        assertThat(index.search("ncube", 10)).extracting(QuickSearchHit::id).containsExactly(2L);
+    }
+
+    @Test
+    void removalsKeepSharedPostingsConsistent() {
+        QuickSearchIndex index = new QuickSearchIndex();
+        for (long id = 1; id <= 6; id++) {
+            index.put(EntityType.LEASE, id, "agreementNumber", "AGR-" + id);
+        }
+        index.remove(EntityType.LEASE, 2L);
+        index.remove(EntityType.LEASE, 6L);
+        index.put(EntityType.LEASE, 3L, "agreementNumber", "AGR-3");
+        index.put(EntityType.LEASE, 4L, "agreementNumber", "REF-4");
+        index.put(EntityType.LEASE, 7L, "agreementNumber", "AGR-7");
+        index.remove(EntityType.LEASE, 1L);
+
+        assertThat(index.search("agr", 10)).extracting(QuickSearchHit::id).containsExactlyInAnyOrder(3L, 5L, 7L);
+        assertThat(index.search("ref", 10)).extracting(QuickSearchHit::id).containsExactly(4L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,50 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.Test;
+import prac.lease.dto.QuickSearchHit;
+import prac.lease.model.Landlord;
+import prac.lease.repository.LandlordRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.SiteRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class QuickSearchServiceTest {
+
+    private final LeaseRepository leaseRepository = mock(LeaseRepository.class);
+    private final LandlordRepository landlordRepository = mock(LandlordRepository.class);
+    private final SiteRepository siteRepository = mock(SiteRepository.class);
+    private final QuickSearchServiceImpl quickSearchService =
+            new QuickSearchServiceImpl(leaseRepository, landlordRepository, siteRepository);
+
+    @Test
+    void writesCommittedDuringARebuildSurviveTheSwap() {
+        when(leaseRepository.findQuickSearchEntries()).thenReturn(List.of());
+        when(siteRepository.findQuickSearchEntries()).thenReturn(List.of());
+        when(landlordRepository.findQuickSearchEntries()).thenAnswer(invocation -> {
+            // Both commit after the rows were read: one renames landlord 1, the other adds landlord 2
+            quickSearchService.indexLandlord(landlord(1L, "Tendai Ncube"));
+            quickSearchService.indexLandlord(landlord(2L, "Rudo Moyo"));
+            List<Object[]> rows = new ArrayList<>();
+            rows.add(new Object[]{1L, "Tendai Moyo"});
+            return rows;
+        });
+
+        assertThat(quickSearchService.rebuild()).isEqualTo(2);
+
+        assertThat(quickSearchService.search("ncube", 10).body()).extracting(QuickSearchHit::id).containsExactly(1L);
+        assertThat(quickSearchService.search("moyo", 10).body()).extracting(QuickSearchHit::id).containsExactly(2L);
+    }
+
+    private static Landlord landlord(Long id, String fullName) {
+        Landlord landlord = new Landlord();
+        landlord.setId(id);
+        landlord.setFullName(fullName);
+        return landlord;
+    }
+}
@@ -0,0 +1,78 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.Test;
+import prac.lease.model.LeaseStatus;
+import prac.lease.model.ReportFormat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReportArtifactWriterTest {
+
+    @Test
+    void csvQuotesOnlyFieldsThatNeedIt() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReportArtifactWriter writer = ReportArtifactWriter.open(ReportFormat.CSV, out)) {
+            writer.writeRow(List.of("Agreement", "Notes", "Amount"));
+            writer.writeRow(Arrays.asList("AGR-1", "Three months' notice, in \"writing\"", new BigDecimal("1E+3")));
+            writer.writeRow(Arrays.asList("AGR-2", null, null));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("﻿Agreement,Notes,Amount\r\n"
+                + "AGR-1,\"Three months' notice, in \"\"writing\"\"\",1000\r\n"
+                + "AGR-2,,\r\n");
+    }
+
+    @Test
+    void csvDefusesTextThatASpreadsheetWouldEvaluate() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReportArtifactWriter writer = ReportArtifactWriter.open(ReportFormat.CSV, out)) {
+            writer.writeRow(Arrays.asList("=HYPERLINK(\"http://x\",\"y\")", "+1", "-2+3", "@SUM(A1)", "\tTab", "a=b"));
+            writer.writeRow(Arrays.asList(new BigDecimal("-250.00"), -3, "", null, "Plain", "x-1"));
+        }
+
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo("\uFEFF"
+                + "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'+1,'-2+3,'@SUM(A1),'\tTab,a=b\r\n"
+                + "-250.00,-3,,,Plain,x-1\r\n");
+    }
+
+    @Test
+    void xlsxIsAZipPackageWithTypedCells() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ReportArtifactWriter writer = ReportArtifactWriter.open(ReportFormat.XLSX, out)) {
+            writer.writeRow(List.of("Agreement", "Status", "Expiry", "Documents", "Auto Renewal"));
+            writer.writeRow(List.of("A&B <1>\u0001", LeaseStatus.APPROVED, LocalDate.of(2030, 1, 1), 2, true));
+        }
+
+        List<String> entries = new ArrayList<>();
+        String sheet = null;
+        try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.add(entry.getName());
+                if (entry.getName().equals("xl/worksheets/sheet1.xml")) {
+                    sheet = new String(zip.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        }
+
+        assertThat(entries).containsExactly("[Content_Types].xml", "_rels/.rels", "xl/workbook.xml",
+                "xl/_rels/workbook.xml.rels", "xl/worksheets/sheet1.xml");
+        assertThat(sheet).contains("<row r=\"2\">")
+                .contains("<t xml:space=\"preserve\">A&amp;B &lt;1&gt;</t>")
+                .contains("<t xml:space=\"preserve\">APPROVED</t>")
+                .contains("<t xml:space=\"preserve\">2030-01-01</t>")
+                .contains("<c><v>2</v></c>")
+                .contains("<c t=\"b\"><v>1</v></c>")
+                .endsWith("</sheetData></worksheet>");
+    }
+}
@@ -0,0 +1,85 @@
+package prac.lease.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import prac.lease.dto.ReportCacheStatsDto;
+import prac.lease.dto.ResourceVersion;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReportCacheServiceTest {
+
+    private final ResourceVersionService resourceVersionService = mock(ResourceVersionService.class);
+    private final ReportCacheServiceImpl cache = new ReportCacheServiceImpl(resourceVersionService);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "maxWeight", 10L);
+        watermark("W/\"a\"");
+    }
+
+    @Test
+    void hitsSkipTheLoaderUntilTheWatermarkMoves() {
+        assertThat(load("status", 3)).containsExactly(1, 1, 1);
+        assertThat(load("status", 3)).containsExactly(1, 1, 1);
+        assertThat(loads).hasValue(1);
+
+        watermark("W/\"b\"");
+        assertThat(load("status", 3)).containsExactly(2, 2, 2);
+
+        cache.invalidateAll();
+        load("status", 3);
+        assertThat(loads).hasValue(3);
+
+        ReportCacheStatsDto stats = cache.getStats().body();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(3);
+        assertThat(stats.invalidations()).isEqualTo(2);
+    }
+
+    @Test
+    void leastRecentlyUsedEntriesAreEvictedPastEitherBound() {
+        load("a", 4);
+        load("b", 4);
+        load("a", 4);
+        load("c", 4); // Three entries and twelve rows: b is the least recently used
+        assertThat(cache.getStats().body().entries()).isEqualTo(2);
+
+        int before = loads.get();
+        load("a", 4);
+        load("b", 4);
+        assertThat(loads.get() - before).isEqualTo(1);
+
+        load("huge", 11); // Heavier than the whole cache, so never stored
+        assertThat(cache.getStats().body().weight()).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void withoutAWatermarkTheCacheIsBypassed() {
+        when(resourceVersionService.getRegisterWatermark()).thenReturn(null);
+        load("status", 1);
+        load("status", 1);
+        assertThat(loads).hasValue(2);
+        assertThat(cache.getStats().body().entries()).isZero();
+    }
+
+    private List<Integer> load(String key, int rows) {
+        return cache.get(key, () -> {
+            int load = loads.incrementAndGet();
+            return Collections.nCopies(rows, load);
+        }, List::size);
+    }
+
+    private void watermark(String eTag) {
+        when(resourceVersionService.getRegisterWatermark()).thenReturn(new ResourceVersion(eTag, -1));
+    }
+}
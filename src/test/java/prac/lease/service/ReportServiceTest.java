@@ -0,0 +1,266 @@
+package prac.lease.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import prac.lease.dto.ApiResponse;
+import prac.lease.dto.ReportArtifact;
+import prac.lease.dto.ReportRequest;
+import prac.lease.dto.ReportResponseDto;
+import prac.lease.exception.ReportQueueFullException;
+import prac.lease.exception.ResourceNotFoundException;
+import prac.lease.model.*;
+import prac.lease.repository.LandlordRepository;
+import prac.lease.repository.LeaseRepository;
+import prac.lease.repository.ReportRepository;
+import prac.lease.repository.SiteRepository;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static prac.lease.TestFixtures.landlord;
+import static prac.lease.TestFixtures.lease;
+import static prac.lease.TestFixtures.site;
+
+// Not transactional: the worker thread has to see committed rows
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "lease.reports.workers=1",
+        "lease.reports.queue_capacity=4",
+        "lease.reports.progress_interval=1",
+        "lease.reports.instance_id=node-a"
+})
+@Import({ReportServiceImpl.class, ApiResponseStreamer.class, ReportCacheServiceImpl.class, ResourceVersionServiceImpl.class,
+        RegisterVersionServiceImpl.class, ReportCacheInvalidator.class, ReportServiceTest.Config.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReportServiceTest {
+
+    @TempDir
+    static Path uploadDir;
+
+    @DynamicPropertySource
+    static void uploadPath(DynamicPropertyRegistry registry) {
+        registry.add("file.upload.path", () -> uploadDir.toString());
+    }
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        ObjectMapper objectMapper() {
+            return JsonMapper.builder().findAndAddModules().build();
+        }
+    }
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportCacheService reportCacheService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private LeaseRepository leaseRepository;
+
+    @Autowired
+    private LandlordRepository landlordRepository;
+
+    @Autowired
+    private SiteRepository siteRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Row reports stream with a MySQL-only fetch size that H2 rejects, so the job lifecycle is exercised with summaries
+    @Test
+    void reportJobsRunInTheBackgroundAndPersistTheirResult() throws Exception {
+        seedLeases(3, "Retail");
+
+        ApiResponse<ReportResponseDto> queued = reportService.generateReport(request("STATUS_SUMMARY"));
+        assertThat(queued.success()).isTrue();
+        assertThat(queued.body().getJobStatus()).isEqualTo(ReportJobStatus.QUEUED);
+
+        Report statusSummary = awaitFinished(queued.body().getId());
+        assertThat(statusSummary.getJobStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+        assertThat(statusSummary.getRowsProcessed()).isEqualTo(1);
+        assertThat(statusSummary.getProgress()).isEqualTo(100);
+        JsonNode result = read(reportService.getReportArtifact(statusSummary.getId()).resource());
+        assertThat(result.get("success").asBoolean()).isTrue();
+        assertThat(result.get("body").get("APPROVED").asLong()).isEqualTo(3);
+
+        // Nothing changed, so the same request gets the completed job back
+        ApiResponse<ReportResponseDto> repeated = reportService.generateReport(request("STATUS_SUMMARY"));
+        assertThat(repeated.body().getId()).isEqualTo(statusSummary.getId());
+        assertThat(repeated.body().getJobStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+
+        seedLeases(2, "");
+        Report categorySummary = awaitFinished(reportService.generateReport(request("CATEGORY_SUMMARY")).body().getId());
+        JsonNode categories = read(reportService.getReportArtifact(categorySummary.getId()).resource()).get("body");
+        assertThat(categories.get("Retail").asLong()).isEqualTo(3);
+        assertThat(categories.get("Uncategorized").asLong()).isEqualTo(2);
+
+        // The category schedule is cached until a lease write commits
+        assertThat(reportService.getLeasesByCategoryReport().body().get("Retail")).hasSize(3);
+        long misses = reportCacheService.getStats().body().misses();
+        assertThat(reportService.getLeasesByCategoryReport().body().get("Retail")).hasSize(3);
+        assertThat(reportCacheService.getStats().body().misses()).isEqualTo(misses);
+        seedLeases(1, "Retail");
+        assertThat(reportCacheService.getStats().body().entries()).isZero();
+        assertThat(reportService.getLeasesByCategoryReport().body().get("Retail")).hasSize(4);
+
+        Report csvSummary = awaitFinished(reportService.generateReport(request("STATUS_SUMMARY", ReportFormat.CSV)).body().getId());
+        ReportArtifact csv = reportService.getReportArtifact(csvSummary.getId());
+        byte[] content = csv.resource().getContentAsByteArray();
+        assertThat(csv.fileName()).isEqualTo("Test_STATUS_SUMMARY-" + csvSummary.getId() + ".csv");
+        assertThat(new String(content, StandardCharsets.UTF_8)).isEqualTo("\uFEFFStatus,Leases\r\nAPPROVED,6\r\n");
+        assertThat(csv.size()).isEqualTo(content.length);
+        assertThat(csv.sha256()).isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content)));
+
+        assertThat(reportService.generateReport(request("UNKNOWN")).success()).isFalse();
+        assertThatThrownBy(() -> reportService.getReportArtifact(-1L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void resultIsUnavailableUntilTheJobCompletes() {
+        Report report = new Report();
+        report.setReportName("Pending");
+        report.setReportType("STATUS_SUMMARY");
+        report.setGenerationDate(LocalDateTime.now());
+        report.setJobStatus(ReportJobStatus.QUEUED);
+        Long id = reportRepository.save(report).getId();
+
+        assertThatThrownBy(() -> reportService.getReportArtifact(id)).isInstanceOf(IllegalStateException.class);
+        assertThat(reportService.getReportById(id).body().isResultAvailable()).isFalse();
+    }
+
+    @Test
+    void aJobTheFullQueueRejectsIsMarkedFailedAndNotReused() throws Exception {
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(
+                (Object) AopTestUtils.getTargetObject(reportService), "reportJobExecutor");
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            // One worker and four queue slots, all taken
+            for (int i = 0; i < 5; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+
+            assertThatThrownBy(() -> reportService.generateReport(request("RENTAL_TYPE_SUMMARY")))
+                    .isInstanceOf(ReportQueueFullException.class);
+            Report rejected = reportRepository.findAll().stream()
+                    .filter(report -> "RENTAL_TYPE_SUMMARY".equals(report.getReportType()))
+                    .findFirst().orElseThrow();
+            assertThat(rejected.getJobStatus()).isEqualTo(ReportJobStatus.FAILED);
+        } finally {
+            release.countDown();
+        }
+
+        // The failed row is not handed back, and the freed capacity takes the retry
+        Long retried = reportService.generateReport(request("RENTAL_TYPE_SUMMARY")).body().getId();
+        assertThat(awaitFinished(retried).getJobStatus()).isEqualTo(ReportJobStatus.COMPLETED);
+    }
+
+    @Test
+    void aRestartFailsOnlyItsOwnJobsAndThoseWithAStaleHeartbeat() {
+        LocalDateTime now = LocalDateTime.now();
+        Long own = heldJob("Own", "node-a", now).getId();
+        Long live = heldJob("Live", "node-b", now.minusSeconds(10)).getId();
+        Long stale = heldJob("Stale", "node-b", now.minusHours(1)).getId();
+        Long legacy = heldJob("Legacy", null, null).getId();
+
+        ReportServiceImpl node = AopTestUtils.getTargetObject(reportService);
+        node.failInterruptedJobs();
+
+        assertThat(reportRepository.findById(own).orElseThrow().getJobStatus()).isEqualTo(ReportJobStatus.FAILED);
+        assertThat(reportRepository.findById(live).orElseThrow().getJobStatus()).isEqualTo(ReportJobStatus.RUNNING);
+        assertThat(reportRepository.findById(stale).orElseThrow().getJobStatus()).isEqualTo(ReportJobStatus.FAILED);
+        assertThat(reportRepository.findById(legacy).orElseThrow().getJobStatus()).isEqualTo(ReportJobStatus.FAILED);
+
+        // The other node's job stays live while it keeps vouching for it
+        heldJob("Mine", "node-a", now.minusHours(1));
+        node.heartbeat();
+        assertThat(reportRepository.findById(live).orElseThrow().getJobStatus()).isEqualTo(ReportJobStatus.RUNNING);
+        assertThat(reportRepository.findAll()).filteredOn(report -> "Mine".equals(report.getReportName()))
+                .singleElement().satisfies(report -> {
+                    assertThat(report.getJobStatus()).isEqualTo(ReportJobStatus.RUNNING);
+                    assertThat(report.getHeartbeatAt()).isAfterOrEqualTo(now);
+                });
+    }
+
+    private Report heldJob(String name, String ownerInstance, LocalDateTime heartbeatAt) {
+        Report report = new Report();
+        report.setReportName(name);
+        report.setReportType("STATUS_SUMMARY");
+        report.setGenerationDate(LocalDateTime.now());
+        report.setJobStatus(ReportJobStatus.RUNNING);
+        report.setOwnerInstance(ownerInstance);
+        report.setHeartbeatAt(heartbeatAt);
+        return reportRepository.save(report);
+    }
+
+    private ReportRequest request(String reportType) {
+        return request(reportType, null);
+    }
+
+    private ReportRequest request(String reportType, ReportFormat format) {
+        return new ReportRequest("Test " + reportType, reportType, null, null, null, null, null, null, null, format);
+    }
+
+    private Report awaitFinished(Long id) throws InterruptedException {
+        for (int attempt = 0; attempt < 100; attempt++) {
+            Report report = reportRepository.findById(id).orElseThrow();
+            if (report.getJobStatus() == ReportJobStatus.COMPLETED || report.getJobStatus() == ReportJobStatus.FAILED) {
+                return report;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Report job " + id + " did not finish");
+    }
+
+    private JsonNode read(Resource resource) throws Exception {
+        try (InputStream in = resource.getInputStream()) {
+            return objectMapper.readTree(in);
+        }
+    }
+
+    private void seedLeases(int leases, String category) {
+        long offset = leaseRepository.count();
+        for (int n = 0; n < leases; n++) {
+            long i = offset + n;
+            Landlord landlord = landlordRepository.save(landlord("Landlord " + i));
+            Site site = siteRepository.save(site("Site " + i));
+
+            Lease lease = lease("RPT-" + i, landlord, site);
+            lease.setLeaseCategory(category);
+            leaseRepository.save(lease);
+        }
+    }
+}
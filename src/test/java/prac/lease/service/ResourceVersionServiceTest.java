@@ -0,0 +1,115 @@
+package prac.lease.service;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.transaction.TestTransaction;
+import prac.lease.dto.ResourceVersion;
+import prac.lease.model.*;
+import prac.lease.repository.RegisterVersionRepository;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static prac.lease.TestFixtures.*;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import({ResourceVersionServiceImpl.class, RegisterVersionServiceImpl.class})
+class ResourceVersionServiceTest {
+
+    @Autowired
+    private ResourceVersionService resourceVersionService;
+
+    @Autowired
+    private RegisterVersionService registerVersionService;
+
+    @Autowired
+    private RegisterVersionRepository registerVersionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void validatorsChangeWhenTheUnderlyingRowsChange() {
+        Landlord landlord = landlord("Landlord");
+        entityManager.persist(landlord);
+        Site site = site("Site");
+        entityManager.persist(site);
+
+        Lease lease = lease("AGR-1", landlord, site);
+        lease.setModificationTime(LocalDateTime.of(2026, 1, 1, 8, 0));
+        entityManager.persist(lease);
+        entityManager.flush();
+
+        ResourceVersion leaseVersion = resourceVersionService.getLeaseVersion(lease.getId());
+        assertThat(leaseVersion.eTag()).startsWith("\"").endsWith("\"");
+        assertThat(leaseVersion.lastModified()).isPositive();
+        assertThat(resourceVersionService.getLeaseVersion(lease.getId() + 1)).isNull();
+
+        // A new document changes the lease's document count
+        Document document = document(lease, "lease.pdf");
+        entityManager.persist(document);
+        entityManager.flush();
+
+        assertThat(resourceVersionService.getLeaseVersion(lease.getId())).isNotEqualTo(leaseVersion);
+        assertThat(resourceVersionService.getDocumentVersion(document.getId()).eTag()).startsWith("\"" + Long.toString(document.getId(), 36) + "-");
+
+        // Renaming the landlord bumps its version, which the lease DTO embeds
+        ResourceVersion beforeRename = resourceVersionService.getLeaseVersion(lease.getId());
+        landlord.setFullName("Renamed");
+        entityManager.flush();
+        assertThat(resourceVersionService.getLeaseVersion(lease.getId())).isNotEqualTo(beforeRename);
+    }
+
+    @Test
+    void registerWatermarkMovesOncePerCommittedWriteWhateverItsTimestamps() {
+        ResourceVersion initial = resourceVersionService.getRegisterWatermark();
+        assertThat(initial.eTag()).startsWith("W/\"");
+
+        // Several rows in one transaction: nothing moves until it commits, then the version moves by one
+        Landlord landlord = landlord("Register landlord");
+        entityManager.persist(landlord);
+        entityManager.persist(site("Register site"));
+        entityManager.flush();
+        assertThat(resourceVersionService.getRegisterWatermark()).isEqualTo(initial);
+        long before = currentVersion();
+        commit();
+        assertThat(currentVersion()).isEqualTo(before + 1);
+        ResourceVersion afterInsert = resourceVersionService.getRegisterWatermark();
+        assertThat(afterInsert.eTag()).isNotEqualTo(initial.eTag());
+
+        // A write stamped earlier than the newest row, as when transactions commit out of order, still moves it
+        TestTransaction.start();
+        Landlord stored = entityManager.find(Landlord.class, landlord.getId());
+        stored.setFullName("Renamed");
+        stored.setModificationTime(LocalDateTime.of(2000, 1, 1, 0, 0));
+        commit();
+        assertThat(currentVersion()).isEqualTo(before + 2);
+
+        // A rolled-back write leaves it alone
+        TestTransaction.start();
+        entityManager.find(Landlord.class, landlord.getId()).setFullName("Discarded");
+        TestTransaction.flagForRollback();
+        TestTransaction.end();
+        assertThat(currentVersion()).isEqualTo(before + 2);
+
+        // JDBC writes, invisible to Hibernate, mark their transaction explicitly
+        TestTransaction.start();
+        registerVersionService.markChanged();
+        registerVersionService.markChanged();
+        commit();
+        assertThat(currentVersion()).isEqualTo(before + 3);
+        TestTransaction.start();
+    }
+
+    private long currentVersion() {
+        return registerVersionRepository.findById(RegisterVersion.ROW_ID).orElseThrow().getVersionNumber();
+    }
+
+    private static void commit() {
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+    }
+}